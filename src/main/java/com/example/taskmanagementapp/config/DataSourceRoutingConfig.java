@@ -0,0 +1,81 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.PRIMARY_KEY;
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.PRIMARY_POOL_NAME;
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.REPLICA_KEY_PREFIX;
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.REPLICA_POOL_NAME_PREFIX;
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.ROUTING_PROPERTY;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(name = ROUTING_PROPERTY, havingValue = "true")
+public class DataSourceRoutingConfig {
+    private static final String HIKARI_PROPERTIES = "spring.datasource.hikari";
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              Environment environment) {
+        return createPool(properties, environment, properties.determineUrl(),
+                PRIMARY_POOL_NAME, false);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${datasource.replica.lag-query}") String lagQuery,
+            @Value("${datasource.replica.max-lag-seconds}") long maxLagSeconds) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaUrls.stream()
+                .filter(url -> !url.isBlank())
+                .toList();
+        for (int i = 0; i < urls.size(); i++) {
+            replicas.put(REPLICA_KEY_PREFIX + i, createPool(properties, environment,
+                    urls.get(i), REPLICA_POOL_NAME_PREFIX + i, true));
+        }
+        return new ReplicaLagMonitor(replicas, lagQuery, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        Map<Object, Object> targetDataSources = new HashMap<>(replicaLagMonitor.getReplicas());
+        targetDataSources.put(PRIMARY_KEY, primaryDataSource);
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, Environment environment,
+                                        String url, String poolName, boolean readOnly) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind(HIKARI_PROPERTIES, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        dataSource.setReadOnly(readOnly);
+        return dataSource;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.Constants.GREEN;
+import static com.example.taskmanagementapp.constant.Constants.LOADTEST_PROFILE;
+import static com.example.taskmanagementapp.constant.Constants.RESET;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.DATAGEN_PROFILE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.DROPBOX_CLIENT_PROPERTY;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.DROPBOX_STORAGE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.LOCAL_DROPBOX_CLIENT;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.REMOTE_DROPBOX_CLIENT;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.STORAGE_PROPERTY;
+
+import com.dropbox.core.DbxException;
+import com.dropbox.core.DbxRequestConfig;
+import com.dropbox.core.oauth.DbxCredential;
+import com.dropbox.core.v2.DbxClientV2;
+import com.example.taskmanagementapp.exception.ForbiddenException;
+import com.example.taskmanagementapp.service.dropbox.LocalDropboxHttpRequestor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@ConditionalOnProperty(name = STORAGE_PROPERTY, havingValue = DROPBOX_STORAGE,
+        matchIfMissing = true)
+public class DropboxConfig {
+    private static final Logger logger = LogManager.getLogger(DropboxConfig.class);
+    private static final String CLIENT_IDENTIFIER = "dropbox/taskmanagementapp";
+
+    @Bean
+    @ConditionalOnProperty(name = DROPBOX_CLIENT_PROPERTY, havingValue = REMOTE_DROPBOX_CLIENT,
+            matchIfMissing = true)
+    public DbxClientV2 dropboxClient(@Value("${dropbox.refresh.token}") String refreshToken,
+                                     @Value("${dropbox.key}") String key,
+                                     @Value("${dropbox.secret}") String secret)
+            throws ForbiddenException {
+        String thisEmail;
+        DbxClientV2 client;
+        try {
+            DbxRequestConfig config = DbxRequestConfig.newBuilder(CLIENT_IDENTIFIER).build();
+
+            DbxCredential credential = new DbxCredential(
+                    "",
+                    0L,
+                    refreshToken,
+                    key,
+                    secret);
+            client = new DbxClientV2(config, credential);
+            thisEmail = client.users().getCurrentAccount().getEmail();
+        } catch (DbxException e) {
+            throw new ForbiddenException("Couldn't obtain connection to dropbox");
+        }
+        logger.info(GREEN + "Connection to dropbox account {} obtained successfully"
+                + RESET, thisEmail);
+        return client;
+    }
+
+    @Bean
+    @Profile({LOADTEST_PROFILE, DATAGEN_PROFILE})
+    @ConditionalOnProperty(name = DROPBOX_CLIENT_PROPERTY, havingValue = LOCAL_DROPBOX_CLIENT)
+    public DbxClientV2 localDropboxClient(
+            @Value("${dropbox.local.latency-ms}") long latencyMillis,
+            @Value("${dropbox.local.failure-rate}") double failureRate) {
+        logger.info("Using in-process Dropbox stand-in with {} ms latency and {} failure rate",
+                latencyMillis, failureRate);
+        return new DbxClientV2(DbxRequestConfig.newBuilder(CLIENT_IDENTIFIER)
+                .withHttpRequestor(new LocalDropboxHttpRequestor(latencyMillis, failureRate))
+                .build(), "local");
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService dropboxExecutor(
+            @Value("${dropbox.upload.threads}") int threads,
+            @Value("${dropbox.upload.queue-capacity}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable,
+                        "DropboxUploader-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
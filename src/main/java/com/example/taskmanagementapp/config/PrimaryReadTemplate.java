@@ -0,0 +1,41 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.ROUTING_PROPERTY;
+
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Reads that fill a cache must not come from a lagging replica, or the stale value would be
+// served for the whole cache TTL. ReadWriteRoutingDataSource sends only read-only
+// transactions to replicas, so the read runs in a read-write transaction: it joins the current
+// one when that already writes, and suspends a read-only one for a primary connection.
+@Component
+public class PrimaryReadTemplate {
+    private final TransactionTemplate joiningTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final boolean routingEnabled;
+
+    public PrimaryReadTemplate(PlatformTransactionManager transactionManager,
+                               @Value("${" + ROUTING_PROPERTY + ":false}")
+                               boolean routingEnabled) {
+        this.joiningTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.routingEnabled = routingEnabled;
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        if (!routingEnabled) {
+            return reader.get();
+        }
+        TransactionTemplate template = TransactionSynchronizationManager
+                .isCurrentTransactionReadOnly() ? newTransactionTemplate : joiningTemplate;
+        return template.execute(status -> reader.get());
+    }
+}
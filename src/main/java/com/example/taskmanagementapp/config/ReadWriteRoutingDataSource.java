@@ -0,0 +1,30 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.PRIMARY_KEY;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY_KEY;
+        }
+        List<String> healthyReplicas = replicaLagMonitor.getHealthyReplicas();
+        if (healthyReplicas.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+        return healthyReplicas.get(
+                Math.floorMod(nextReplica.getAndIncrement(), healthyReplicas.size()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.LAG_COLUMN;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaLagMonitor implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(ReplicaLagMonitor.class);
+    private final Map<String, HikariDataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(Map<String, HikariDataSource> replicas, String lagQuery,
+                             long maxLagSeconds) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms}")
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, HikariDataSource> replica : replicas.entrySet()) {
+            OptionalLong lag = readLagSeconds(replica.getValue());
+            if (lag.isPresent() && lag.getAsLong() <= maxLagSeconds) {
+                healthy.add(replica.getKey());
+            } else if (healthyReplicas.contains(replica.getKey())) {
+                logger.warn("Replica {} taken out of read rotation, lag: {}", replica.getKey(),
+                        lag.isPresent() ? lag.getAsLong() + "s" : "unknown");
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    private OptionalLong readLagSeconds(HikariDataSource replica) {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return OptionalLong.empty();
+            }
+            long lagSeconds = resultSet.getLong(LAG_COLUMN);
+            return resultSet.wasNull() ? OptionalLong.empty() : OptionalLong.of(lagSeconds);
+        } catch (SQLException e) {
+            logger.warn("Couldn't read replication lag of {}: {}", replica.getPoolName(),
+                    e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.PROFILING_PROPERTY;
+
+import com.example.taskmanagementapp.profiling.JdbcProfilingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = PROFILING_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class RequestProfilingConfig {
+    @Bean
+    public HibernatePropertiesCustomizer jdbcProfilingCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                JdbcProfilingListener.class.getName());
+    }
+}
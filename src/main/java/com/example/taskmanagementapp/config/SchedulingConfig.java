@@ -0,0 +1,14 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.DATAGEN_PROFILE;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+//Data generation writes behind Hibernate's back, so jobs must not run against it meanwhile
+@Configuration
+@EnableScheduling
+@Profile("!" + DATAGEN_PROFILE)
+public class SchedulingConfig {
+}
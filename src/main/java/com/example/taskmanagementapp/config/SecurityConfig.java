@@ -56,9 +56,15 @@ public class SecurityConfig {
                                         antMatcher("/projects/accept-invite"),
                                         antMatcher("/swagger-ui/**"),
                                         antMatcher("/v3/api-docs/**"),
-                                        antMatcher("/errors")
+                                        antMatcher("/errors"),
+                                        antMatcher("/actuator/health")
                                 )
                                 .permitAll()
+                                .requestMatchers(
+                                        antMatcher("/actuator/prometheus"),
+                                        antMatcher("/actuator/metrics/**")
+                                )
+                                .hasRole("ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 )
@@ -1,5 +1,7 @@
 package com.example.taskmanagementapp.constant;
 
+import java.time.LocalDateTime;
+
 public class Constants {
     public static final String SPACE = " ";
     public static final String SPLITERATOR = "=";
@@ -14,9 +16,25 @@ public class Constants {
     public static final String CODE_400 = "400";
     public static final String CODE_401 = "401";
 
+    public static final String LOADTEST_PROFILE = "loadtest";
+
     public static final String GREEN = "\033[0;32m";// GREEN
     public static final String RESET = "\033[0m";//Reset
 
+    public static final String DEFAULT_CURSOR_PAGE_SIZE = "20";
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+    public static final String CURSOR_SEPARATOR = "|";
+    public static final long FIRST_PAGE_ID = 0L;
+    public static final LocalDateTime FIRST_PAGE_TIMESTAMP = LocalDateTime.of(1000, 1, 1, 0, 0);
+    public static final String CURSOR_DESCRIPTION = "Opaque continuation token returned as "
+            + "nextCursor by the previous page. Omit it to get the first page.";
+
+    public static final String DEFAULT_SEARCH_RESULTS = "20";
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
+    public static final int MAX_BULK_TASKS = 5000;
+
     public static final int FIRST_POSITION = 0;
     public static final int SECOND_POSITION = 1;
     public static final int THIRD_POSITION = 2;
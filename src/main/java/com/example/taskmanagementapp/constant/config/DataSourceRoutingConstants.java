@@ -0,0 +1,10 @@
+package com.example.taskmanagementapp.constant.config;
+
+public class DataSourceRoutingConstants {
+    public static final String ROUTING_PROPERTY = "datasource.routing.enabled";
+    public static final String PRIMARY_KEY = "primary";
+    public static final String REPLICA_KEY_PREFIX = "replica-";
+    public static final String LAG_COLUMN = "Seconds_Behind_Source";
+    public static final String PRIMARY_POOL_NAME = "PrimaryPool";
+    public static final String REPLICA_POOL_NAME_PREFIX = "ReplicaPool-";
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagementapp.constant.config;
+
+public class MetricsConstants {
+    public static final String SERVICE_TIMER = "service.method";
+    public static final String ATTACHMENT_STORAGE_TIMER = "attachment.storage";
+    public static final String JWT_FILTER_TIMER = "security.jwt.filter";
+    public static final String PRINCIPAL_CACHE_HITS = "security.principal.cache.hits";
+    public static final String PRINCIPAL_CACHE_MISSES = "security.principal.cache.misses";
+    public static final String PRINCIPAL_CACHE_SIZE = "security.principal.cache.size";
+    public static final String EMAIL_QUEUE_DEPTH = "email.queue.depth";
+    public static final String EMAIL_IN_FLIGHT = "email.in.flight";
+    public static final String EMAIL_SENT = "email.sent";
+    public static final String EMAIL_FAILED = "email.failed";
+    public static final String EMAIL_RETRIED = "email.retried";
+    public static final String EMAIL_SEND_LATENCY = "email.send.latency";
+    public static final String EMAIL_DELIVERY_LATENCY = "email.delivery.latency";
+    public static final String DEADLINE_NOTIFIER_RUN = "task.deadline.notifier.run";
+    public static final String DEADLINE_NOTIFIER_BATCH = "task.deadline.notifier.batch.size";
+    public static final String DEADLINE_NOTIFIER_NOTIFIED = "task.deadline.notifier.notified";
+}
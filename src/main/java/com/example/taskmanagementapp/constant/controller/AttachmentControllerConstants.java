@@ -17,6 +17,12 @@ public class AttachmentControllerConstants {
     public static final String SUCCESSFULLY_GOT_ATTACHMENTS =
             "Successfully got attachments.";
 
+    public static final String DOWNLOAD_ATTACHMENT_SUMMARY = "Download attachment content,"
+            + " supports HTTP Range requests. Important condition: the task you are downloading"
+            + " attachment of is from a project you are participant of.";
+    public static final String SUCCESSFULLY_DOWNLOADED_ATTACHMENT =
+            "Successfully downloaded attachment.";
+
     public static final String DELETE_ATTACHMENT_SUMMARY = "Delete attachments. Important condition"
             + ": the task you are deleting attachments"
             + " from is from a project you are participant of.";
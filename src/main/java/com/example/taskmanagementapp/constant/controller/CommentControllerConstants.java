@@ -23,6 +23,10 @@ public class CommentControllerConstants {
     public static final String SUCCESSFULLY_GOT_COMMENTS =
             "Successfully retrieved comments.";
 
+    public static final String GET_COMMENTS_CURSOR_SUMMARY =
+            "Retrieve comments for the task ordered by time, page by page using"
+                    + " a continuation cursor.";
+
     public static final String DELETE_COMMENT_SUMMARY =
             "Delete your comment.";
     public static final String SUCCESSFULLY_DELETED_COMMENT =
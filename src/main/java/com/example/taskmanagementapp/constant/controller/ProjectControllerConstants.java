@@ -28,6 +28,9 @@ public class ProjectControllerConstants {
     public static final String SUCCESSFULLY_GET_ALL_DELETED_PROJECTS =
             "Successfully retrieved all deleted projects.";
 
+    public static final String CURSOR_SUMMARY_SUFFIX =
+            " Page by page using a continuation cursor.";
+
     public static final String GET_PROJECT_BY_ID =
             "Get project by id if you are employee or owner.";
     public static final String SUCCESSFULLY_GET_PROJECT_BY_ID =
@@ -39,10 +42,15 @@ public class ProjectControllerConstants {
             "Successfully updated project by id.";
 
     public static final String DELETE_PROJECT_BY_ID =
-            "Delete project by id. Only for owners.";
+            "Delete project by id. Only for owners. Its tasks are removed in the background.";
     public static final String SUCCESSFULLY_DELETED_PROJECT_BY_ID =
             "Successfully deleted project by id.";
 
+    public static final String GET_PROJECT_DELETION_STATUS =
+            "Retrieve progress of background removal of a deleted project's tasks.";
+    public static final String SUCCESSFULLY_GET_PROJECT_DELETION_STATUS =
+            "Successfully retrieved project deletion progress.";
+
     public static final String ADD_EMPLOYEE_TO_PROJECT = "Add employee to project,"
             + " optionally give them managerial role. Only for owners and managers.";
     public static final String SUCCESSFULLY_ADDED_EMPLOYEE_TO_PROJECT =
@@ -11,11 +11,33 @@ public class TaskControllerConstants {
             "Create task. For this, you should be owner or manager of project.";
     public static final String SUCCESSFULLY_CREATED_TASK = "Successfully created task.";
 
+    public static final String CREATE_TASKS = """
+            Create up to 5000 tasks in one request. For this, you should be owner or manager
+            of every project the tasks belong to.
+            """;
+    public static final String SUCCESSFULLY_CREATED_TASKS = "Successfully created tasks.";
+
+    public static final String UPDATE_TASKS = """
+            Set status, priority and/or due date of up to 5000 tasks in one request.
+            Only owners and managers of the tasks' projects can update them.
+            """;
+    public static final String SUCCESSFULLY_UPDATED_TASKS = "Successfully updated tasks.";
+
     public static final String GET_TASKS_BY_PROJECT_ID =
             "Retrieve tasks for project.";
     public static final String SUCCESSFULLY_GET_TASKS_BY_PROJECT_ID =
             "Successfully retrieve tasks for project.";
 
+    public static final String GET_TASKS_BY_PROJECT_ID_CURSOR =
+            "Retrieve tasks for project page by page using a continuation cursor.";
+
+    public static final String GET_FILTERED_TASKS_BY_PROJECT_ID = """
+            Retrieve tasks for project matching all given criteria: statuses, priorities,
+            assignee, due date range and any of your labels. Paged with a continuation cursor.
+            """;
+    public static final String SUCCESSFULLY_GET_FILTERED_TASKS_BY_PROJECT_ID =
+            "Successfully retrieve filtered tasks for project.";
+
     public static final String GET_TASK_BY_ID =
             "Retrieve task by id. Only possible for projects you participate in.";
     public static final String SUCCESSFULLY_GET_TASK_BY_ID =
@@ -31,6 +53,13 @@ public class TaskControllerConstants {
     public static final String SUCCESSFULLY_DELETED_TASK_BY_ID =
             "Successfully deleted task by id.";
 
+    public static final String SEARCH_TASKS = """
+            Full-text search over task names, descriptions and comments of projects
+            you participate in. Results are ranked by relevance.
+            """;
+    public static final String SUCCESSFULLY_SEARCHED_TASKS =
+            "Successfully searched tasks.";
+
     public static final String GET_TASK_BY_LABEL_ID =
             "Retrieve tasks by label id.";
     public static final String SUCCESSFULLY_GET_TASK_BY_LABEL_ID =
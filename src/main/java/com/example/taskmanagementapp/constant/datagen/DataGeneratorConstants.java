@@ -0,0 +1,49 @@
+package com.example.taskmanagementapp.constant.datagen;
+
+public class DataGeneratorConstants {
+    public static final String DATAGEN_PROFILE = "datagen";
+    public static final int MAX_STATEMENT_PARAMETERS = 60_000;
+    public static final int PROGRESS_LOG_INTERVAL = 1_000_000;
+    public static final int ID_GENERATOR_GAP = 51;
+
+    public static final int MIN_TEAM_SIZE = 2;
+    public static final int MAX_TEAM_SIZE = 500;
+    public static final double TEAM_SIZE_PARETO_ALPHA = 1.5;
+    public static final double MANAGER_SHARE = 0.15;
+    public static final int MIN_PROJECT_DAYS = 30;
+    public static final int MAX_PROJECT_DAYS = 365;
+    public static final int PROJECT_START_WINDOW_DAYS = 730;
+    public static final int COMMENT_WINDOW_SECONDS = 180 * 24 * 60 * 60;
+    public static final double DISABLED_USER_RATE = 0.02;
+    public static final double LOCKED_USER_RATE = 0.01;
+    public static final double DELETED_TASK_RATE = 0.01;
+
+    public static final String USERNAME_PREFIX = "dg_user_";
+    public static final String EMAIL_DOMAIN = "@datagen.local";
+    public static final String[] FIRST_NAMES = {"Olivia", "Liam", "Emma", "Noah", "Ava",
+            "Oliver", "Sophia", "Elijah", "Mia", "James", "Amelia", "Lucas", "Harper",
+            "Mateo", "Evelyn", "Taras", "Oksana", "Andrii", "Iryna", "Dmytro"};
+    public static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown",
+            "Jones", "Garcia", "Miller", "Davis", "Martinez", "Lopez", "Wilson", "Anderson",
+            "Shevchenko", "Kovalenko", "Bondarenko", "Tkachenko", "Kravchenko", "Melnyk"};
+    public static final String[] PROJECT_WORDS = {"Apollo", "Atlas", "Beacon", "Compass",
+            "Falcon", "Horizon", "Lighthouse", "Meridian", "Nova", "Orbit", "Phoenix",
+            "Summit", "Vertex", "Zenith"};
+    public static final String[] TASK_VERBS = {"Implement", "Review", "Refactor", "Design",
+            "Test", "Document", "Deploy", "Investigate", "Fix", "Migrate", "Optimize"};
+    public static final String[] TASK_OBJECTS = {"login page", "billing module",
+            "search index", "release notes", "API gateway", "onboarding flow", "reporting job",
+            "database schema", "notification service", "mobile layout", "audit log"};
+    public static final String[] COMMENT_TEXTS = {"Looks good to me.",
+            "Blocked until the dependency is merged.", "Can we split this into smaller pieces?",
+            "Updated the estimate after the last sync.", "Please add tests for the edge cases.",
+            "Moved to the next sprint.", "Done, waiting for review.",
+            "Found a regression in staging, investigating.", "Shared the design in the channel.",
+            "Need clarification on acceptance criteria."};
+    public static final String[] LABEL_NAMES = {"bug", "feature", "urgent", "backend",
+            "frontend", "design", "tech-debt", "research", "blocked", "customer"};
+
+    public static final double[] PROJECT_STATUS_WEIGHTS = {0.15, 0.60, 0.25};
+    public static final double[] TASK_STATUS_WEIGHTS = {0.40, 0.35, 0.25};
+    public static final double[] TASK_PRIORITY_WEIGHTS = {0.50, 0.35, 0.15};
+}
@@ -0,0 +1,8 @@
+package com.example.taskmanagementapp.constant.entity;
+
+public class CacheRegionConstants {
+    public static final String ROLE_CACHE_REGION = "role";
+    public static final String ROLE_QUERY_CACHE_REGION = "role-query";
+    public static final String PROJECT_CACHE_REGION = "project";
+    public static final String LABEL_CACHE_REGION = "label";
+}
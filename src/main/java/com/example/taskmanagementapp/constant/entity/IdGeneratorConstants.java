@@ -0,0 +1,14 @@
+package com.example.taskmanagementapp.constant.entity;
+
+public class IdGeneratorConstants {
+    public static final String ID_GENERATOR_TABLE = "id_generators";
+    public static final String ID_GENERATOR_NAME_COLUMN = "sequence_name";
+    public static final String ID_GENERATOR_VALUE_COLUMN = "next_val";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final String TASK_ID_GENERATOR = "task_id_generator";
+    public static final String COMMENT_ID_GENERATOR = "comment_id_generator";
+    public static final String ATTACHMENT_ID_GENERATOR = "attachment_id_generator";
+    public static final String LABEL_ID_GENERATOR = "label_id_generator";
+    public static final String EMAIL_OUTBOX_ID_GENERATOR = "email_outbox_id_generator";
+}
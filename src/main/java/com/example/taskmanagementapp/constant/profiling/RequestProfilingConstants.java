@@ -0,0 +1,9 @@
+package com.example.taskmanagementapp.constant.profiling;
+
+public class RequestProfilingConstants {
+    public static final String PROFILING_PROPERTY = "profiling.enabled";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String TOTAL_METRIC = "total";
+    public static final String SLOW_REQUEST_LOGGER = "SlowRequests";
+    public static final double NANOS_PER_MILLI = 1_000_000.0;
+}
@@ -1,10 +1,16 @@
 package com.example.taskmanagementapp.constant.security;
 
+import java.time.Duration;
+
 public class SecurityConstants {
     public static final int DIVIDER = 1000;
     public static final int STRENGTH = 10;
     public static final int RANDOM_PASSWORD_STRENGTH = 28;
     public static final int RANDOM_LINK_STRENGTH = 128;
+    public static final int MAX_CACHED_PRINCIPALS = 10_000;
+    public static final Duration PRINCIPAL_CACHE_TTL = Duration.ofMinutes(1);
+    public static final int MAX_CACHED_TOKENS = 10_000;
+    public static final String TOKEN_HASH_ALGORITHM = "SHA-256";
 
     public static final String RANDOM_STRING_BASE =
             "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
@@ -0,0 +1,6 @@
+package com.example.taskmanagementapp.constant.service.email;
+
+public class EmailDispatchConstants {
+    public static final int MAX_RESEND_BATCH_SIZE = 100;
+    public static final int FAKE_MAILBOX_CAPACITY = 100;
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanagementapp.constant.service.email;
+
+public class EmailOutboxConstants {
+    public static final String PURGE_CRONOUNITS = "00 30 03 * * ?";
+    public static final int MAX_ERROR_LENGTH = 512;
+    public static final int LEASE_SAFETY_FACTOR = 2;
+}
@@ -2,6 +2,8 @@ package com.example.taskmanagementapp.constant.service.email;
 
 public class TaskDeadlineNotifierConstants {
     public static final String CRONOUNITS = "00 00 10 * * ?";
+    public static final int BATCH_SIZE = 500;
+    public static final long NO_PREVIOUS_ID = 0L;
     public static final String SUBJECT = "Tasks due tomorrow";
     public static final String BODY_1 = "Good day! Following tasks are due tomorrow:";
     public static final String BODY_2 = "Task ";
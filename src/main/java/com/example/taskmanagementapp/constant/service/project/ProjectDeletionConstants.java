@@ -0,0 +1,7 @@
+package com.example.taskmanagementapp.constant.service.project;
+
+public class ProjectDeletionConstants {
+    public static final int MAX_CLAIMED_DELETIONS = 10;
+    public static final int MAX_ERROR_LENGTH = 512;
+    public static final String DELETION_THREAD_NAME = "ProjectDeletion-";
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanagementapp.constant.service.storage;
+
+public class AttachmentStorageConstants {
+    public static final String STORAGE_PROPERTY = "attachment.storage";
+    public static final String DROPBOX_STORAGE = "dropbox";
+    public static final String LOCAL_STORAGE = "local";
+
+    public static final String DROPBOX_CLIENT_PROPERTY = "dropbox.client";
+    public static final String REMOTE_DROPBOX_CLIENT = "remote";
+    public static final String LOCAL_DROPBOX_CLIENT = "local";
+
+    public static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    public static final String TEMP_DIRECTORY = "tmp";
+    public static final int HASH_PREFIX_LENGTH = 2;
+    public static final int MAX_SWEPT_CONTENTS = 100;
+
+    public static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    public static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    public static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    public static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+}
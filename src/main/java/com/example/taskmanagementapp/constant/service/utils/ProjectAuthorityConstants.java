@@ -0,0 +1,14 @@
+package com.example.taskmanagementapp.constant.service.utils;
+
+import java.time.Duration;
+
+public class ProjectAuthorityConstants {
+    public static final int NO_ROLE = 0;
+    public static final int OWNER_ROLE = 1;
+    public static final int MANAGER_ROLE = 2;
+    public static final int EMPLOYEE_ROLE = 4;
+
+    public static final int MAX_CACHED_PROJECTS = 10_000;
+    public static final int MAX_CACHED_USERS_PER_PROJECT = 1_000;
+    public static final Duration CACHED_PROJECT_TTL = Duration.ofMinutes(1);
+}
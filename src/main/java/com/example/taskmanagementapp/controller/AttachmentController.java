@@ -6,8 +6,10 @@ import static com.example.taskmanagementapp.constant.Constants.CODE_204;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.ATTACHMENTS_API_DESCRIPTION;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.ATTACHMENTS_API_NAME;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.DELETE_ATTACHMENT_SUMMARY;
+import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.DOWNLOAD_ATTACHMENT_SUMMARY;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.GET_ATTACHMENT_SUMMARY;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.SUCCESSFULLY_DELETED_ATTACHMENTS;
+import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.SUCCESSFULLY_DOWNLOADED_ATTACHMENT;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.SUCCESSFULLY_GOT_ATTACHMENTS;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.SUCCESSFULLY_UPLOADED_ATTACHMENTS;
 import static com.example.taskmanagementapp.constant.controller.AttachmentControllerConstants.UPLOAD_ATTACHMENT_SUMMARY;
@@ -17,9 +19,12 @@ import com.example.taskmanagementapp.dto.attachment.response.AttachmentResponse;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.ForbiddenException;
 import com.example.taskmanagementapp.service.AttachmentService;
+import com.example.taskmanagementapp.service.storage.AttachmentDownloadWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Positive;
 import java.io.IOException;
 import java.util.List;
@@ -45,6 +50,7 @@ import org.springframework.web.multipart.MultipartFile;
 @Validated
 public class AttachmentController {
     private final AttachmentService attachmentService;
+    private final AttachmentDownloadWriter attachmentDownloadWriter;
 
     @Operation(summary = UPLOAD_ATTACHMENT_SUMMARY)
     @ApiResponse(responseCode = CODE_201, description =
@@ -72,6 +78,20 @@ public class AttachmentController {
         return attachmentService.getAttachmentForTask(user.getId(), taskId);
     }
 
+    @Operation(summary = DOWNLOAD_ATTACHMENT_SUMMARY)
+    @ApiResponse(responseCode = CODE_200, description =
+            SUCCESSFULLY_DOWNLOADED_ATTACHMENT)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/{taskId}/{attachmentId}/content")
+    public void downloadAttachment(@AuthenticationPrincipal User user,
+                                   @PathVariable @Positive Long taskId,
+                                   @PathVariable @Positive Long attachmentId,
+                                   HttpServletRequest request, HttpServletResponse response)
+            throws ForbiddenException, IOException {
+        attachmentDownloadWriter.write(request, response,
+                attachmentService.getAttachmentDownload(user.getId(), taskId, attachmentId));
+    }
+
     @Operation(summary = DELETE_ATTACHMENT_SUMMARY)
     @ApiResponse(responseCode = CODE_204, description =
             SUCCESSFULLY_DELETED_ATTACHMENTS)
@@ -81,7 +101,7 @@ public class AttachmentController {
     public void deleteAttachment(@AuthenticationPrincipal User user,
                                  @PathVariable @Positive Long taskId,
                                  @PathVariable @Positive Long attachmentId)
-            throws DbxException, ForbiddenException {
+            throws IOException, DbxException, ForbiddenException {
         attachmentService.deleteAttachmentFromTask(user.getId(), taskId, attachmentId);
     }
 }
@@ -3,10 +3,14 @@ package com.example.taskmanagementapp.controller;
 import static com.example.taskmanagementapp.constant.Constants.CODE_200;
 import static com.example.taskmanagementapp.constant.Constants.CODE_201;
 import static com.example.taskmanagementapp.constant.Constants.CODE_204;
+import static com.example.taskmanagementapp.constant.Constants.CURSOR_DESCRIPTION;
+import static com.example.taskmanagementapp.constant.Constants.DEFAULT_CURSOR_PAGE_SIZE;
+import static com.example.taskmanagementapp.constant.Constants.MAX_CURSOR_PAGE_SIZE;
 import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.ADD_COMMENT_SUMMARY;
 import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.COMMENTS_API_DESCRIPTION;
 import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.COMMENTS_API_NAME;
 import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.DELETE_COMMENT_SUMMARY;
+import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.GET_COMMENTS_CURSOR_SUMMARY;
 import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.GET_COMMENTS_SUMMARY;
 import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.PAGEABLE_EXAMPLE;
 import static com.example.taskmanagementapp.constant.controller.CommentControllerConstants.SUCCESSFULLY_ADDED_COMMENT;
@@ -18,6 +22,7 @@ import static com.example.taskmanagementapp.constant.controller.CommentControlle
 import com.example.taskmanagementapp.dto.comment.request.CommentRequest;
 import com.example.taskmanagementapp.dto.comment.request.UpdateCommentRequest;
 import com.example.taskmanagementapp.dto.comment.response.CommentResponse;
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.ForbiddenException;
 import com.example.taskmanagementapp.service.CommentService;
@@ -26,6 +31,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +47,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -88,6 +95,22 @@ public class CommentController {
         return commentService.getAllComments(user.getId(), taskId, pageable);
     }
 
+    @Operation(summary = GET_COMMENTS_CURSOR_SUMMARY)
+    @ApiResponse(responseCode = CODE_200, description =
+            SUCCESSFULLY_GOT_COMMENTS)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/{taskId}/cursor")
+    public CursorPageResponse<CommentResponse> getCommentsForTaskByCursor(
+            @AuthenticationPrincipal User user,
+            @PathVariable @Positive Long taskId,
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE)
+            @Positive @Max(MAX_CURSOR_PAGE_SIZE) int size)
+            throws ForbiddenException {
+        return commentService.getAllCommentsByCursor(user.getId(), taskId, cursor, size);
+    }
+
     @Operation(summary = DELETE_COMMENT_SUMMARY)
     @ApiResponse(responseCode = CODE_204, description =
             SUCCESSFULLY_DELETED_COMMENT)
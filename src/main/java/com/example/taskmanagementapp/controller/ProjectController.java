@@ -4,15 +4,20 @@ import static com.example.taskmanagementapp.constant.Constants.CODE_200;
 import static com.example.taskmanagementapp.constant.Constants.CODE_201;
 import static com.example.taskmanagementapp.constant.Constants.CODE_204;
 import static com.example.taskmanagementapp.constant.Constants.CODE_400;
+import static com.example.taskmanagementapp.constant.Constants.CURSOR_DESCRIPTION;
+import static com.example.taskmanagementapp.constant.Constants.DEFAULT_CURSOR_PAGE_SIZE;
 import static com.example.taskmanagementapp.constant.Constants.INVALID_ENTITY_VALUE;
+import static com.example.taskmanagementapp.constant.Constants.MAX_CURSOR_PAGE_SIZE;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.ADD_EMPLOYEE_TO_PROJECT;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.CREATE_PROJECT;
+import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.CURSOR_SUMMARY_SUFFIX;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.DELETE_EMPLOYEE_FROM_PROJECT;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.DELETE_PROJECT_BY_ID;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.GET_ALL_ASSIGNED_PROJECTS;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.GET_ALL_CREATED_PROJECTS;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.GET_ALL_DELETED_PROJECTS;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.GET_PROJECT_BY_ID;
+import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.GET_PROJECT_DELETION_STATUS;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.PAGEABLE_EXAMPLE;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.PROJECT_API_DESCRIPTION;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.PROJECT_API_NAME;
@@ -24,13 +29,16 @@ import static com.example.taskmanagementapp.constant.controller.ProjectControlle
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.SUCCESSFULLY_GET_ALL_CREATED_PROJECTS;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.SUCCESSFULLY_GET_ALL_DELETED_PROJECTS;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.SUCCESSFULLY_GET_PROJECT_BY_ID;
+import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.SUCCESSFULLY_GET_PROJECT_DELETION_STATUS;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.SUCCESSFULLY_UPDATED_PROJECT_BY_ID;
 import static com.example.taskmanagementapp.constant.controller.ProjectControllerConstants.UPDATE_PROJECT_BY_ID;
 
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
 import com.example.taskmanagementapp.dto.project.request.ProjectRequest;
 import com.example.taskmanagementapp.dto.project.request.ProjectStatusDto;
 import com.example.taskmanagementapp.dto.project.request.UpdateProjectRequest;
 import com.example.taskmanagementapp.dto.project.response.EmployeeAssignmentResponse;
+import com.example.taskmanagementapp.dto.project.response.ProjectDeletionResponse;
 import com.example.taskmanagementapp.dto.project.response.ProjectResponse;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.ConflictException;
@@ -42,6 +50,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -112,6 +121,48 @@ public class ProjectController {
         return projectService.getDeletedCreatedProjects(user.getId(), pageable);
     }
 
+    @Operation(summary = GET_ALL_ASSIGNED_PROJECTS + CURSOR_SUMMARY_SUFFIX)
+    @ApiResponse(responseCode = CODE_200, description =
+            SUCCESSFULLY_GET_ALL_ASSIGNED_PROJECTS)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/assigned/cursor")
+    public CursorPageResponse<ProjectResponse> getAssignedProjectsByCursor(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE)
+            @Positive @Max(MAX_CURSOR_PAGE_SIZE) int size) {
+        return projectService.getAssignedProjectsByCursor(user.getId(), cursor, size);
+    }
+
+    @Operation(summary = GET_ALL_CREATED_PROJECTS + CURSOR_SUMMARY_SUFFIX)
+    @ApiResponse(responseCode = CODE_200, description =
+            SUCCESSFULLY_GET_ALL_CREATED_PROJECTS)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/created/cursor")
+    public CursorPageResponse<ProjectResponse> getCreatedProjectsByCursor(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE)
+            @Positive @Max(MAX_CURSOR_PAGE_SIZE) int size) {
+        return projectService.getCreatedProjectsByCursor(user.getId(), cursor, size);
+    }
+
+    @Operation(summary = GET_ALL_DELETED_PROJECTS + CURSOR_SUMMARY_SUFFIX)
+    @ApiResponse(responseCode = CODE_200, description =
+            SUCCESSFULLY_GET_ALL_DELETED_PROJECTS)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/deleted/cursor")
+    public CursorPageResponse<ProjectResponse> getDeletedProjectsByCursor(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE)
+            @Positive @Max(MAX_CURSOR_PAGE_SIZE) int size) {
+        return projectService.getDeletedCreatedProjectsByCursor(user.getId(), cursor, size);
+    }
+
     @Operation(summary = GET_PROJECT_BY_ID)
     @ApiResponse(responseCode = CODE_200, description =
             SUCCESSFULLY_GET_PROJECT_BY_ID)
@@ -148,6 +199,16 @@ public class ProjectController {
         projectService.deleteProjectById(user.getId(), projectId);
     }
 
+    @Operation(summary = GET_PROJECT_DELETION_STATUS)
+    @ApiResponse(responseCode = CODE_200, description =
+            SUCCESSFULLY_GET_PROJECT_DELETION_STATUS)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/{projectId}/deletion")
+    public ProjectDeletionResponse getProjectDeletionStatus(@AuthenticationPrincipal User user,
+                                        @PathVariable @Positive Long projectId) {
+        return projectService.getProjectDeletionStatus(user.getId(), projectId);
+    }
+
     @Operation(summary = ADD_EMPLOYEE_TO_PROJECT)
     @ApiResponse(responseCode = CODE_200, description =
             SUCCESSFULLY_ADDED_EMPLOYEE_TO_PROJECT)
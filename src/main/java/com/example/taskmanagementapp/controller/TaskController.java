@@ -4,28 +4,48 @@ import static com.example.taskmanagementapp.constant.Constants.CODE_200;
 import static com.example.taskmanagementapp.constant.Constants.CODE_201;
 import static com.example.taskmanagementapp.constant.Constants.CODE_204;
 import static com.example.taskmanagementapp.constant.Constants.CODE_400;
+import static com.example.taskmanagementapp.constant.Constants.CURSOR_DESCRIPTION;
+import static com.example.taskmanagementapp.constant.Constants.DEFAULT_CURSOR_PAGE_SIZE;
+import static com.example.taskmanagementapp.constant.Constants.DEFAULT_SEARCH_RESULTS;
 import static com.example.taskmanagementapp.constant.Constants.INVALID_ENTITY_VALUE;
+import static com.example.taskmanagementapp.constant.Constants.MAX_BULK_TASKS;
+import static com.example.taskmanagementapp.constant.Constants.MAX_CURSOR_PAGE_SIZE;
+import static com.example.taskmanagementapp.constant.Constants.MAX_SEARCH_QUERY_LENGTH;
+import static com.example.taskmanagementapp.constant.Constants.MAX_SEARCH_RESULTS;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.CREATE_TASK;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.CREATE_TASKS;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.DELETE_TASK_BY_ID;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.GET_FILTERED_TASKS_BY_PROJECT_ID;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.GET_TASKS_BY_PROJECT_ID;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.GET_TASKS_BY_PROJECT_ID_CURSOR;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.GET_TASK_BY_ID;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.GET_TASK_BY_LABEL_ID;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.PAGEABLE_EXAMPLE;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SEARCH_TASKS;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_CREATED_TASK;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_CREATED_TASKS;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_DELETED_TASK_BY_ID;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_GET_FILTERED_TASKS_BY_PROJECT_ID;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_GET_TASKS_BY_PROJECT_ID;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_GET_TASK_BY_ID;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_GET_TASK_BY_LABEL_ID;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_SEARCHED_TASKS;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_UPDATED_TASKS;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.SUCCESSFULLY_UPDATED_TASK_BY_ID;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.TASKS_API_DESCRIPTION;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.TASKS_API_NAME;
+import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.UPDATE_TASKS;
 import static com.example.taskmanagementapp.constant.controller.TaskControllerConstants.UPDATE_TASK_BY_ID;
 
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
+import com.example.taskmanagementapp.dto.task.request.BulkTaskUpdateRequest;
+import com.example.taskmanagementapp.dto.task.request.TaskFilterRequest;
 import com.example.taskmanagementapp.dto.task.request.TaskPriorityDto;
 import com.example.taskmanagementapp.dto.task.request.TaskRequest;
 import com.example.taskmanagementapp.dto.task.request.TaskStatusDto;
 import com.example.taskmanagementapp.dto.task.request.UpdateTaskRequest;
 import com.example.taskmanagementapp.dto.task.response.TaskResponse;
+import com.example.taskmanagementapp.dto.task.response.TaskSearchResponse;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.ForbiddenException;
 import com.example.taskmanagementapp.service.TaskService;
@@ -34,7 +54,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -73,6 +97,32 @@ public class TaskController {
         return taskService.createTask(user, createTaskDto, taskPriorityDto);
     }
 
+    @Operation(summary = CREATE_TASKS)
+    @ApiResponse(responseCode = CODE_201, description = SUCCESSFULLY_CREATED_TASKS)
+    @ApiResponse(responseCode = CODE_400, description = INVALID_ENTITY_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PostMapping("/bulk")
+    public List<TaskResponse> createTasks(@AuthenticationPrincipal User user,
+                                          @RequestBody @NotEmpty @Size(max = MAX_BULK_TASKS)
+                                          List<@Valid TaskRequest> createTaskDtos,
+                                          @RequestParam TaskPriorityDto taskPriorityDto)
+            throws ForbiddenException {
+        return taskService.createTasks(user, createTaskDtos, taskPriorityDto);
+    }
+
+    @Operation(summary = UPDATE_TASKS)
+    @ApiResponse(responseCode = CODE_200, description = SUCCESSFULLY_UPDATED_TASKS)
+    @ApiResponse(responseCode = CODE_400, description = INVALID_ENTITY_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PutMapping("/bulk")
+    public List<TaskResponse> updateTasks(@AuthenticationPrincipal User user,
+                                          @RequestBody @Valid
+                                          BulkTaskUpdateRequest bulkTaskUpdateDto)
+            throws ForbiddenException {
+        return taskService.updateTasks(user.getId(), bulkTaskUpdateDto);
+    }
+
     @Operation(summary = GET_TASKS_BY_PROJECT_ID)
     @ApiResponse(responseCode = CODE_200, description = SUCCESSFULLY_GET_TASKS_BY_PROJECT_ID)
     @GetMapping("/all-project-tasks/{projectId}")
@@ -84,6 +134,40 @@ public class TaskController {
         return taskService.getTasksForProject(user.getId(), projectId, pageable);
     }
 
+    @Operation(summary = GET_TASKS_BY_PROJECT_ID_CURSOR)
+    @ApiResponse(responseCode = CODE_200, description = SUCCESSFULLY_GET_TASKS_BY_PROJECT_ID)
+    @GetMapping("/all-project-tasks/{projectId}/cursor")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public CursorPageResponse<TaskResponse> getTasksByProjectIdByCursor(
+            @AuthenticationPrincipal User user,
+            @PathVariable @Positive Long projectId,
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE)
+            @Positive @Max(MAX_CURSOR_PAGE_SIZE) int size)
+            throws ForbiddenException {
+        return taskService.getTasksForProjectByCursor(user.getId(), projectId, cursor, size);
+    }
+
+    @Operation(summary = GET_FILTERED_TASKS_BY_PROJECT_ID)
+    @ApiResponse(responseCode = CODE_200,
+            description = SUCCESSFULLY_GET_FILTERED_TASKS_BY_PROJECT_ID)
+    @ApiResponse(responseCode = CODE_400, description = INVALID_ENTITY_VALUE)
+    @GetMapping("/all-project-tasks/{projectId}/filter")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public CursorPageResponse<TaskResponse> getFilteredTasksByProjectId(
+            @AuthenticationPrincipal User user,
+            @PathVariable @Positive Long projectId,
+            @Valid TaskFilterRequest filter,
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE)
+            @Positive @Max(MAX_CURSOR_PAGE_SIZE) int size)
+            throws ForbiddenException {
+        return taskService.getFilteredTasksForProject(user.getId(), projectId, filter,
+                cursor, size);
+    }
+
     @Operation(summary = GET_TASK_BY_ID)
     @ApiResponse(responseCode = CODE_200, description = SUCCESSFULLY_GET_TASK_BY_ID)
     @GetMapping("/{taskId}")
@@ -118,6 +202,19 @@ public class TaskController {
         taskService.deleteTask(user.getId(), taskId);
     }
 
+    @Operation(summary = SEARCH_TASKS)
+    @ApiResponse(responseCode = CODE_200, description = SUCCESSFULLY_SEARCHED_TASKS)
+    @ApiResponse(responseCode = CODE_400, description = INVALID_ENTITY_VALUE)
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public List<TaskSearchResponse> searchTasks(
+            @AuthenticationPrincipal User user,
+            @RequestParam @NotBlank @Size(max = MAX_SEARCH_QUERY_LENGTH) String query,
+            @RequestParam(defaultValue = DEFAULT_SEARCH_RESULTS)
+            @Positive @Max(MAX_SEARCH_RESULTS) int size) {
+        return taskService.searchTasks(user.getId(), query, size);
+    }
+
     @Operation(summary = GET_TASK_BY_LABEL_ID)
     @ApiResponse(responseCode = CODE_204, description = SUCCESSFULLY_GET_TASK_BY_LABEL_ID)
     @GetMapping("/with-label/{labelId}")
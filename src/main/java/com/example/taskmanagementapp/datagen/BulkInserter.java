@@ -0,0 +1,80 @@
+package com.example.taskmanagementapp.datagen;
+
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.MAX_STATEMENT_PARAMETERS;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class BulkInserter implements AutoCloseable {
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final BulkInserter parent;
+    private final List<Object> values;
+    private PreparedStatement fullStatement;
+    private long inserted;
+
+    BulkInserter(Connection connection, int batchSize, BulkInserter parent,
+                 String table, String... columns) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = Math.min(batchSize, MAX_STATEMENT_PARAMETERS / columns.length);
+        this.parent = parent;
+        this.values = new ArrayList<>(rowsPerStatement * columns.length);
+    }
+
+    void add(Object... row) throws SQLException {
+        Collections.addAll(values, row);
+        if (values.size() == rowsPerStatement * columns.length) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(insertSql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        }
+    }
+
+    void flush() throws SQLException {
+        if (!values.isEmpty()) {
+            try (PreparedStatement statement =
+                         connection.prepareStatement(insertSql(values.size() / columns.length))) {
+                execute(statement);
+            }
+        }
+    }
+
+    long getInserted() {
+        return inserted;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+        if (fullStatement != null) {
+            fullStatement.close();
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        if (parent != null) {
+            parent.flush();
+        }
+        for (int i = 0; i < values.size(); i++) {
+            statement.setObject(i + 1, values.get(i));
+        }
+        statement.executeUpdate();
+        inserted += values.size() / columns.length;
+        values.clear();
+    }
+
+    private String insertSql(int rows) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, row));
+    }
+}
@@ -0,0 +1,421 @@
+package com.example.taskmanagementapp.datagen;
+
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.COMMENT_TEXTS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.COMMENT_WINDOW_SECONDS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.DATAGEN_PROFILE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.DELETED_TASK_RATE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.DISABLED_USER_RATE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.EMAIL_DOMAIN;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.FIRST_NAMES;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.ID_GENERATOR_GAP;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.LABEL_NAMES;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.LAST_NAMES;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.LOCKED_USER_RATE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.MANAGER_SHARE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.MAX_PROJECT_DAYS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.MAX_TEAM_SIZE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.MIN_PROJECT_DAYS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.MIN_TEAM_SIZE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.PROGRESS_LOG_INTERVAL;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.PROJECT_START_WINDOW_DAYS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.PROJECT_STATUS_WEIGHTS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.PROJECT_WORDS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.TASK_OBJECTS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.TASK_PRIORITY_WEIGHTS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.TASK_STATUS_WEIGHTS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.TASK_VERBS;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.TEAM_SIZE_PARETO_ALPHA;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.USERNAME_PREFIX;
+
+import com.example.taskmanagementapp.entity.Label;
+import com.example.taskmanagementapp.entity.Project;
+import com.example.taskmanagementapp.entity.Role;
+import com.example.taskmanagementapp.entity.Task;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile(DATAGEN_PROFILE)
+public class DataGenerator implements ApplicationRunner {
+    private static final Logger logger = LogManager.getLogger(DataGenerator.class);
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext applicationContext;
+    private final long seed;
+    private final int users;
+    private final int projects;
+    private final long tasks;
+    private final double commentsPerTask;
+    private final double labelsPerUser;
+    private final double labelsPerTask;
+    private final double membershipSkew;
+    private final int batchSize;
+    private final LocalDate referenceDate;
+    private final String password;
+    private final boolean exitOnCompletion;
+
+    public DataGenerator(DataSource dataSource,
+                         PasswordEncoder passwordEncoder,
+                         ConfigurableApplicationContext applicationContext,
+                         @Value("${datagen.seed}") long seed,
+                         @Value("${datagen.users}") int users,
+                         @Value("${datagen.projects}") int projects,
+                         @Value("${datagen.tasks}") long tasks,
+                         @Value("${datagen.comments-per-task}") double commentsPerTask,
+                         @Value("${datagen.labels-per-user}") double labelsPerUser,
+                         @Value("${datagen.labels-per-task}") double labelsPerTask,
+                         @Value("${datagen.membership-skew}") double membershipSkew,
+                         @Value("${datagen.batch-size}") int batchSize,
+                         @Value("${datagen.reference-date}") String referenceDate,
+                         @Value("${datagen.password}") String password,
+                         @Value("${datagen.exit-on-completion}") boolean exitOnCompletion) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.applicationContext = applicationContext;
+        this.seed = seed;
+        this.users = users;
+        this.projects = projects;
+        this.tasks = tasks;
+        this.commentsPerTask = commentsPerTask;
+        this.labelsPerUser = labelsPerUser;
+        this.labelsPerTask = labelsPerTask;
+        this.membershipSkew = membershipSkew;
+        this.batchSize = batchSize;
+        this.referenceDate = LocalDate.parse(referenceDate);
+        this.password = password;
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        generate();
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    public void generate() throws SQLException {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        logger.info("Generating {} users, {} projects and {} tasks with seed {}",
+                users, projects, tasks, seed);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            Dataset dataset = new Dataset(
+                    nextId(connection, "users"), nextId(connection, "projects"));
+            insertUsers(connection, random, dataset);
+            insertLabels(connection, random, dataset);
+            insertProjects(connection, random, dataset);
+            insertTasks(connection, random, dataset);
+            advanceIdGenerator(connection, "tasks");
+            advanceIdGenerator(connection, "comments");
+            advanceIdGenerator(connection, "labels");
+        }
+        logger.info("Data generation finished in {} s",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private void insertUsers(Connection connection, SplittableRandom random, Dataset dataset)
+            throws SQLException {
+        long roleId = queryLong(connection, "SELECT id FROM roles WHERE name = '"
+                + Role.RoleName.ROLE_USER.name() + "'");
+        String encodedPassword = passwordEncoder.encode(password);
+        try (BulkInserter inserter = new BulkInserter(connection, batchSize, null, "users",
+                "id", "username", "password", "email", "first_name", "last_name", "role_id",
+                "is_enabled", "is_account_non_locked")) {
+            for (int i = 0; i < users; i++) {
+                long id = dataset.userId(i);
+                inserter.add(id, USERNAME_PREFIX + id, encodedPassword,
+                        USERNAME_PREFIX + id + EMAIL_DOMAIN,
+                        FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                        LAST_NAMES[random.nextInt(LAST_NAMES.length)], roleId,
+                        random.nextDouble() >= DISABLED_USER_RATE,
+                        random.nextDouble() >= LOCKED_USER_RATE);
+            }
+            inserter.flush();
+            logger.info("Inserted {} users", inserter.getInserted());
+        }
+    }
+
+    private void insertLabels(Connection connection, SplittableRandom random, Dataset dataset)
+            throws SQLException {
+        dataset.firstLabelIds = new long[users];
+        dataset.labelCounts = new int[users];
+        long labelId = nextId(connection, "labels");
+        Label.Color[] colors = Label.Color.values();
+        try (BulkInserter inserter = new BulkInserter(connection, batchSize, null, "labels",
+                "id", "name", "color", "user_id")) {
+            for (int i = 0; i < users; i++) {
+                int count = Math.min(geometric(random, labelsPerUser), LABEL_NAMES.length);
+                int firstName = random.nextInt(LABEL_NAMES.length);
+                dataset.firstLabelIds[i] = labelId;
+                dataset.labelCounts[i] = count;
+                for (int j = 0; j < count; j++) {
+                    inserter.add(labelId++, LABEL_NAMES[(firstName + j) % LABEL_NAMES.length],
+                            colors[random.nextInt(colors.length)].name(), dataset.userId(i));
+                }
+            }
+            inserter.flush();
+            logger.info("Inserted {} labels", inserter.getInserted());
+        }
+    }
+
+    private void insertProjects(Connection connection, SplittableRandom random, Dataset dataset)
+            throws SQLException {
+        SkewedPicker userPicker = new SkewedPicker(random, users, membershipSkew);
+        dataset.owners = new int[projects];
+        dataset.members = new int[projects][];
+        dataset.startDays = new long[projects];
+        dataset.lengthDays = new int[projects];
+        try (BulkInserter projectInserter = new BulkInserter(connection, batchSize, null,
+                "projects", "id", "name", "description", "start_date", "end_date", "status",
+                "is_deleted", "owner_id");
+                BulkInserter managerInserter = new BulkInserter(connection, batchSize,
+                        projectInserter, "project_managers", "project_id", "manager_id");
+                BulkInserter employeeInserter = new BulkInserter(connection, batchSize,
+                        projectInserter, "project_employees", "project_id", "employee_id")) {
+            for (int p = 0; p < projects; p++) {
+                final long projectId = dataset.projectId(p);
+                int owner = userPicker.next(random);
+                LocalDate startDate = referenceDate.minusDays(
+                        random.nextInt(PROJECT_START_WINDOW_DAYS));
+                int lengthDays = MIN_PROJECT_DAYS
+                        + random.nextInt(MAX_PROJECT_DAYS - MIN_PROJECT_DAYS + 1);
+                dataset.owners[p] = owner;
+                dataset.startDays[p] = startDate.toEpochDay();
+                dataset.lengthDays[p] = lengthDays;
+                projectInserter.add(projectId,
+                        PROJECT_WORDS[random.nextInt(PROJECT_WORDS.length)] + " " + (p + 1),
+                        "Generated project " + (p + 1), startDate,
+                        startDate.plusDays(lengthDays),
+                        weighted(random, Project.Status.values(), PROJECT_STATUS_WEIGHTS).name(),
+                        false, dataset.userId(owner));
+
+                int[] members = pickMembers(random, userPicker, owner);
+                int managers = Math.max(1, (int) Math.round(members.length * MANAGER_SHARE));
+                for (int m = 0; m < members.length; m++) {
+                    employeeInserter.add(projectId, dataset.userId(members[m]));
+                    if (m < managers) {
+                        managerInserter.add(projectId, dataset.userId(members[m]));
+                    }
+                }
+                dataset.members[p] = members;
+            }
+            projectInserter.flush();
+            employeeInserter.flush();
+            managerInserter.flush();
+            logger.info("Inserted {} projects with {} employees and {} managers",
+                    projectInserter.getInserted(), employeeInserter.getInserted(),
+                    managerInserter.getInserted());
+        }
+    }
+
+    private void insertTasks(Connection connection, SplittableRandom random, Dataset dataset)
+            throws SQLException {
+        long taskId = nextId(connection, "tasks");
+        long commentId = nextId(connection, "comments");
+        Task.Status[] statuses = Task.Status.values();
+        Task.Priority[] priorities = Task.Priority.values();
+        long totalWeight = Arrays.stream(dataset.members).mapToLong(m -> m.length + 1L).sum();
+        long cumulativeWeight = 0;
+        long allocatedTasks = 0;
+        try (BulkInserter taskInserter = new BulkInserter(connection, batchSize, null, "tasks",
+                "id", "name", "description", "priority", "status", "due_date", "project_id",
+                "assignee_id", "is_deleted");
+                BulkInserter commentInserter = new BulkInserter(connection, batchSize,
+                        taskInserter, "comments", "id", "task_id", "user_id", "text", "timestamp");
+                BulkInserter labelInserter = new BulkInserter(connection, batchSize,
+                        taskInserter, "labels_tasks", "label_id", "task_id")) {
+            for (int p = 0; p < projects; p++) {
+                cumulativeWeight += dataset.members[p].length + 1;
+                long target = Math.round((double) tasks * cumulativeWeight / totalWeight);
+                LocalDate startDate = LocalDate.ofEpochDay(dataset.startDays[p]);
+                for (; allocatedTasks < target; allocatedTasks++) {
+                    int assignee = pickParticipant(random, dataset, p);
+                    taskInserter.add(taskId,
+                            TASK_VERBS[random.nextInt(TASK_VERBS.length)] + " "
+                                    + TASK_OBJECTS[random.nextInt(TASK_OBJECTS.length)],
+                            "Generated task " + taskId,
+                            weighted(random, priorities, TASK_PRIORITY_WEIGHTS).name(),
+                            weighted(random, statuses, TASK_STATUS_WEIGHTS).name(),
+                            startDate.plusDays(random.nextInt(dataset.lengthDays[p] + 1)),
+                            dataset.projectId(p), dataset.userId(assignee),
+                            random.nextDouble() < DELETED_TASK_RATE);
+
+                    int comments = geometric(random, commentsPerTask);
+                    for (int c = 0; c < comments; c++) {
+                        commentInserter.add(commentId++, taskId,
+                                dataset.userId(pickParticipant(random, dataset, p)),
+                                COMMENT_TEXTS[random.nextInt(COMMENT_TEXTS.length)],
+                                startDate.atStartOfDay().plusSeconds(
+                                        random.nextInt(COMMENT_WINDOW_SECONDS)));
+                    }
+
+                    int labelCount = dataset.labelCounts[assignee];
+                    int labels = Math.min(geometric(random, labelsPerTask), labelCount);
+                    int firstLabel = labels > 0 ? random.nextInt(labelCount) : 0;
+                    for (int l = 0; l < labels; l++) {
+                        labelInserter.add(dataset.firstLabelIds[assignee]
+                                + (firstLabel + l) % labelCount, taskId);
+                    }
+
+                    taskId++;
+                    if ((allocatedTasks + 1) % PROGRESS_LOG_INTERVAL == 0) {
+                        logger.info("Inserted {} of {} tasks", allocatedTasks + 1, tasks);
+                    }
+                }
+            }
+            taskInserter.flush();
+            commentInserter.flush();
+            labelInserter.flush();
+            logger.info("Inserted {} tasks with {} comments and {} labels_tasks",
+                    taskInserter.getInserted(), commentInserter.getInserted(),
+                    labelInserter.getInserted());
+        }
+    }
+
+    private int[] pickMembers(SplittableRandom random, SkewedPicker userPicker, int owner) {
+        double paretoSize = MIN_TEAM_SIZE
+                / Math.pow(1 - random.nextDouble(), 1 / TEAM_SIZE_PARETO_ALPHA);
+        int teamSize = (int) Math.min(Math.min(paretoSize, MAX_TEAM_SIZE), users - 1);
+        Set<Integer> members = new LinkedHashSet<>();
+        while (members.size() < teamSize) {
+            int member = userPicker.next(random);
+            if (member != owner) {
+                members.add(member);
+            }
+        }
+        return members.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int pickParticipant(SplittableRandom random, Dataset dataset, int project) {
+        int[] members = dataset.members[project];
+        int index = random.nextInt(members.length + 1);
+        return index == members.length ? dataset.owners[project] : members[index];
+    }
+
+    private int geometric(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        return (int) (Math.log(1 - random.nextDouble()) / Math.log(mean / (1 + mean)));
+    }
+
+    private <E> E weighted(SplittableRandom random, E[] values, double[] weights) {
+        double point = random.nextDouble();
+        for (int i = 0; i < values.length - 1; i++) {
+            point -= weights[i];
+            if (point < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private long nextId(Connection connection, String table) throws SQLException {
+        return queryLong(connection, "SELECT COALESCE(MAX(id), 0) + 1 FROM " + table);
+    }
+
+    private long queryLong(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+                ResultSet resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("No result for " + sql);
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void advanceIdGenerator(Connection connection, String table) throws SQLException {
+        long nextValue = nextId(connection, table) - 1 + ID_GENERATOR_GAP;
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE id_generators SET next_val = ? WHERE sequence_name = ? AND next_val < ?")) {
+            update.setLong(1, nextValue);
+            update.setString(2, table);
+            update.setLong(3, nextValue);
+            if (update.executeUpdate() > 0
+                    || queryLong(connection, "SELECT COUNT(*) FROM id_generators "
+                    + "WHERE sequence_name = '" + table + "'") > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO id_generators (sequence_name, next_val) VALUES (?, ?)")) {
+            insert.setString(1, table);
+            insert.setLong(2, nextValue);
+            insert.executeUpdate();
+        }
+    }
+
+    private static class Dataset {
+        private final long firstUserId;
+        private final long firstProjectId;
+        private long[] firstLabelIds;
+        private int[] labelCounts;
+        private int[] owners;
+        private int[][] members;
+        private long[] startDays;
+        private int[] lengthDays;
+
+        private Dataset(long firstUserId, long firstProjectId) {
+            this.firstUserId = firstUserId;
+            this.firstProjectId = firstProjectId;
+        }
+
+        private long userId(int index) {
+            return firstUserId + index;
+        }
+
+        private long projectId(int index) {
+            return firstProjectId + index;
+        }
+    }
+
+    private static class SkewedPicker {
+        private final double[] cumulativeWeights;
+        private final int[] ranks;
+
+        private SkewedPicker(SplittableRandom random, int size, double exponent) {
+            cumulativeWeights = new double[size];
+            ranks = new int[size];
+            double total = 0;
+            for (int i = 0; i < size; i++) {
+                total += 1 / Math.pow(i + 1, exponent);
+                cumulativeWeights[i] = total;
+                ranks[i] = i;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int rank = ranks[i];
+                ranks[i] = ranks[j];
+                ranks[j] = rank;
+            }
+        }
+
+        private int next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulativeWeights,
+                    random.nextDouble(cumulativeWeights[cumulativeWeights.length - 1]));
+            return ranks[index >= 0 ? index : -index - 1];
+        }
+    }
+}
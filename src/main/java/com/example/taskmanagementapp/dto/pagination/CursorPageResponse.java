@@ -0,0 +1,8 @@
+package com.example.taskmanagementapp.dto.pagination;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor) {
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanagementapp.dto.project.response;
+
+public record ProjectDeletionResponse(Long projectId, Status status, long deletedTasks) {
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
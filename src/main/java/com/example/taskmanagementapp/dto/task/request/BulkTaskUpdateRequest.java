@@ -0,0 +1,30 @@
+package com.example.taskmanagementapp.dto.task.request;
+
+import static com.example.taskmanagementapp.constant.Constants.MAX_BULK_TASKS;
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+
+import com.example.taskmanagementapp.validation.date.Date;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record BulkTaskUpdateRequest(
+        @Schema(name = "taskIds",
+                example = "[1, 2, 3]",
+                requiredMode = REQUIRED)
+        @NotEmpty
+        @Size(max = MAX_BULK_TASKS)
+        Set<@Positive Long> taskIds,
+        @Schema(name = "status",
+                example = "IN_PROGRESS")
+        TaskStatusDto status,
+        @Schema(name = "priority",
+                example = "HIGH")
+        TaskPriorityDto priority,
+        @Schema(name = "dueDate",
+                example = "2026-01-01")
+        @Date
+        LocalDate dueDate) {}
@@ -0,0 +1,27 @@
+package com.example.taskmanagementapp.dto.task.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record TaskFilterRequest(
+        @Schema(name = "statuses",
+                example = "NOT_STARTED")
+        Set<TaskStatusDto> statuses,
+        @Schema(name = "priorities",
+                example = "HIGH")
+        Set<TaskPriorityDto> priorities,
+        @Schema(name = "assigneeId",
+                example = "1")
+        @Positive
+        Long assigneeId,
+        @Schema(name = "dueDateFrom",
+                example = "2026-01-01")
+        LocalDate dueDateFrom,
+        @Schema(name = "dueDateTo",
+                example = "2026-01-31")
+        LocalDate dueDateTo,
+        @Schema(name = "labelIds",
+                example = "1")
+        Set<@Positive Long> labelIds) {}
@@ -0,0 +1,3 @@
+package com.example.taskmanagementapp.dto.task.response;
+
+public record TaskSearchResponse(TaskResponse task, double score) {}
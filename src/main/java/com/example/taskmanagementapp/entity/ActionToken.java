@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,8 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "action_tokens")
+@Table(name = "action_tokens",
+        indexes = @Index(name = "idx_action_tokens_action_token", columnList = "action_token"))
 public class ActionToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,30 @@
+package com.example.taskmanagementapp.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "attachment_content_deletions",
+        indexes = @Index(name = "idx_attachment_content_deletions_delete_after",
+                columnList = "delete_after"))
+public class AttachmentContentDeletion {
+    @Id
+    @Column(name = "file_id")
+    private String fileId;
+    @Column(nullable = false, name = "delete_after")
+    private LocalDateTime deleteAfter;
+}
@@ -1,14 +1,22 @@
 package com.example.taskmanagementapp.entity;
 
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.COMMENT_ID_GENERATOR;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_ALLOCATION_SIZE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_NAME_COLUMN;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_TABLE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_VALUE_COLUMN;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,11 +32,16 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = @Index(name = "idx_comments_task_id_timestamp",
+                columnList = "task_id, timestamp"))
 
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = COMMENT_ID_GENERATOR)
+    @TableGenerator(name = COMMENT_ID_GENERATOR, table = ID_GENERATOR_TABLE,
+            pkColumnName = ID_GENERATOR_NAME_COLUMN, valueColumnName = ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "comments", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, name = "task_id")
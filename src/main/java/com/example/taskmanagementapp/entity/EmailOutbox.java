@@ -0,0 +1,68 @@
+package com.example.taskmanagementapp.entity;
+
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.EMAIL_OUTBOX_ID_GENERATOR;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_ALLOCATION_SIZE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_NAME_COLUMN;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_TABLE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_VALUE_COLUMN;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_id", columnList = "status, id"))
+public class EmailOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = EMAIL_OUTBOX_ID_GENERATOR)
+    @TableGenerator(name = EMAIL_OUTBOX_ID_GENERATOR, table = ID_GENERATOR_TABLE,
+            pkColumnName = ID_GENERATOR_NAME_COLUMN, valueColumnName = ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "email_outbox", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+    @Column(nullable = false, name = "to_email")
+    private String toEmail;
+    @Column(nullable = false)
+    private String subject;
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    // FAILED is the dead letter: rows that used up email.outbox.max-attempts are kept by the
+    // purge job for inspection and can be requeued by setting them back to PENDING.
+    public enum Status {
+        PENDING, PROCESSING, SENT, FAILED
+    }
+}
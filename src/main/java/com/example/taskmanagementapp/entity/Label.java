@@ -1,5 +1,12 @@
 package com.example.taskmanagementapp.entity;
 
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.LABEL_CACHE_REGION;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_ALLOCATION_SIZE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_NAME_COLUMN;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_TABLE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_VALUE_COLUMN;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.LABEL_ID_GENERATOR;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,6 +20,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -21,6 +29,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -30,9 +40,13 @@ import lombok.Setter;
 @NoArgsConstructor
 @Entity
 @Table(name = "labels")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = LABEL_CACHE_REGION)
 public class Label {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = LABEL_ID_GENERATOR)
+    @TableGenerator(name = LABEL_ID_GENERATOR, table = ID_GENERATOR_TABLE,
+            pkColumnName = ID_GENERATOR_NAME_COLUMN, valueColumnName = ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "labels", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     @Column(nullable = false)
     private String name;
@@ -1,5 +1,7 @@
 package com.example.taskmanagementapp.entity;
 
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.PROJECT_CACHE_REGION;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -22,6 +25,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 
 @Getter
@@ -31,8 +36,11 @@ import org.hibernate.annotations.SQLDelete;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "projects")
+@Table(name = "projects",
+        indexes = @Index(name = "idx_projects_owner_id_is_deleted",
+                columnList = "owner_id, is_deleted"))
 @SQLDelete(sql = "UPDATE projects SET is_deleted = TRUE WHERE id = ?")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PROJECT_CACHE_REGION)
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,49 @@
+package com.example.taskmanagementapp.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "project_deletions",
+        indexes = @Index(name = "idx_project_deletions_status_project_id",
+                columnList = "status, project_id"))
+public class ProjectDeletion {
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(nullable = false, name = "deleted_tasks")
+    private long deletedTasks;
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    // A failed attempt goes back to PENDING until its next_attempt_at and carries on from the
+    // tasks that are still left; FAILED is terminal once project.deletion.max-attempts is used.
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.taskmanagementapp.entity;
 
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.ROLE_CACHE_REGION;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -14,6 +16,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import org.springframework.security.core.GrantedAuthority;
 
 @Getter
@@ -24,6 +29,8 @@ import org.springframework.security.core.GrantedAuthority;
 @NoArgsConstructor
 @Entity
 @Table(name = "roles")
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = ROLE_CACHE_REGION)
 public class Role implements GrantedAuthority {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
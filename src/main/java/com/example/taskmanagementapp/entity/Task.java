@@ -1,5 +1,11 @@
 package com.example.taskmanagementapp.entity;
 
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_ALLOCATION_SIZE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_NAME_COLUMN;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_TABLE;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.ID_GENERATOR_VALUE_COLUMN;
+import static com.example.taskmanagementapp.constant.entity.IdGeneratorConstants.TASK_ID_GENERATOR;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,9 +14,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,11 +35,20 @@ import org.hibernate.annotations.SQLDelete;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_id_is_deleted_status_priority",
+                columnList = "project_id, is_deleted, status, priority"),
+        @Index(name = "idx_tasks_project_id_is_deleted_assignee_id_due_date",
+                columnList = "project_id, is_deleted, assignee_id, due_date"),
+        @Index(name = "idx_tasks_is_deleted_due_date_assignee_id",
+                columnList = "is_deleted, due_date, assignee_id")})
 @SQLDelete(sql = "UPDATE tasks SET is_deleted = TRUE WHERE id = ?")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = TASK_ID_GENERATOR)
+    @TableGenerator(name = TASK_ID_GENERATOR, table = ID_GENERATOR_TABLE,
+            pkColumnName = ID_GENERATOR_NAME_COLUMN, valueColumnName = ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "tasks", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     @Column(nullable = false)
     private String name;
@@ -0,0 +1,7 @@
+package com.example.taskmanagementapp.exception;
+
+public class EmailDeliveryException extends RuntimeException {
+    public EmailDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -5,11 +5,12 @@ import com.example.taskmanagementapp.dto.comment.request.ColorDto;
 import com.example.taskmanagementapp.dto.label.request.LabelRequest;
 import com.example.taskmanagementapp.dto.label.response.LabelResponse;
 import com.example.taskmanagementapp.entity.Label;
-import com.example.taskmanagementapp.entity.Task;
 import com.example.taskmanagementapp.entity.User;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -27,14 +28,21 @@ public interface LabelMapper {
             "java(com.example.taskmanagementapp.dto.comment.request."
             + "ColorDto.valueOf(label.getColor().name()))")
     @Mapping(target = "userId", source = "user.id")
-    LabelResponse toLabelDto(Label label);
+    LabelResponse toLabelDto(Label label, @Context LabelTasks labelTasks);
+
+    default List<LabelResponse> toLabelDtoList(List<Label> labels, LabelTasks labelTasks) {
+        return labels.stream()
+                .map(label -> toLabelDto(label, labelTasks))
+                .toList();
+    }
 
     @AfterMapping
-    default void setTaskIds(@MappingTarget LabelResponse labelResponse, Label label) {
-        labelResponse.getTaskIds().addAll(label.getTasks().stream()
-                .map(Task::getId)
-                .collect(Collectors.toSet()));
+    default void setTaskIds(@MappingTarget LabelResponse labelResponse, Label label,
+                            @Context LabelTasks labelTasks) {
+        labelResponse.getTaskIds().addAll(
+                labelTasks.taskIds().getOrDefault(label.getId(), Set.of()));
     }
 
-    List<LabelResponse> toLabelDtoList(List<Label> labels);
+    record LabelTasks(Map<Long, Set<Long>> taskIds) {
+    }
 }
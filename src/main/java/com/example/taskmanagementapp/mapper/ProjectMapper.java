@@ -6,9 +6,13 @@ import com.example.taskmanagementapp.dto.project.request.ProjectStatusDto;
 import com.example.taskmanagementapp.dto.project.response.ProjectResponse;
 import com.example.taskmanagementapp.entity.Project;
 import com.example.taskmanagementapp.entity.User;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -36,13 +40,22 @@ public interface ProjectMapper {
         project.getManagers().add(user);
     }
 
+    default ProjectResponse toProjectDto(Project project) {
+        return toProjectDto(project, ProjectMembers.of(project));
+    }
+
     @Mapping(target = "statusDto", ignore = true)
     @Mapping(target = "employeeIds", ignore = true)
     @Mapping(target = "managerIds", ignore = true)
     @Mapping(target = "ownerId", source = "owner.id")
-    ProjectResponse toProjectDto(Project project);
+    ProjectResponse toProjectDto(Project project, @Context ProjectMembers members);
 
-    List<ProjectResponse> toProjectDtoList(List<Project> project);
+    default List<ProjectResponse> toProjectDtoList(List<Project> projects,
+                                                   ProjectMembers members) {
+        return projects.stream()
+                .map(project -> toProjectDto(project, members))
+                .toList();
+    }
 
     @AfterMapping
     default void setStatus(@MappingTarget ProjectResponse projectDto, Project project) {
@@ -50,16 +63,29 @@ public interface ProjectMapper {
     }
 
     @AfterMapping
-    default void setEmployeeIds(@MappingTarget ProjectResponse projectDto, Project project) {
-        projectDto.setEmployeeIds(project.getEmployees().stream()
-                .map(User::getId)
-                .collect(Collectors.toSet()));
+    default void setMemberIds(@MappingTarget ProjectResponse projectDto, Project project,
+                              @Context ProjectMembers members) {
+        projectDto.setEmployeeIds(members.employeeIdsOf(project.getId()));
+        projectDto.setManagerIds(members.managerIdsOf(project.getId()));
     }
 
-    @AfterMapping
-    default void setManagerIds(@MappingTarget ProjectResponse projectDto, Project project) {
-        projectDto.setManagerIds(project.getManagers().stream()
-                .map(User::getId)
-                .collect(Collectors.toSet()));
+    record ProjectMembers(Map<Long, Set<Long>> employeeIds, Map<Long, Set<Long>> managerIds) {
+        static ProjectMembers of(Project project) {
+            return new ProjectMembers(
+                    Map.of(project.getId(), project.getEmployees().stream()
+                            .map(User::getId)
+                            .collect(Collectors.toSet())),
+                    Map.of(project.getId(), project.getManagers().stream()
+                            .map(User::getId)
+                            .collect(Collectors.toSet())));
+        }
+
+        Set<Long> employeeIdsOf(Long projectId) {
+            return new HashSet<>(employeeIds.getOrDefault(projectId, Set.of()));
+        }
+
+        Set<Long> managerIdsOf(Long projectId) {
+            return new HashSet<>(managerIds.getOrDefault(projectId, Set.of()));
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.example.taskmanagementapp.profiling;
+
+import org.hibernate.BaseSessionEventListener;
+
+public class JdbcProfilingListener extends BaseSessionEventListener {
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestProfiler.record(ProfileSegment.DB, System.nanoTime() - statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestProfiler.record(ProfileSegment.DB, System.nanoTime() - batchStartedAt);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanagementapp.profiling;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProfileSegment {
+    AUTH("auth"),
+    AUTHORITY("authz"),
+    SERVICE("svc"),
+    DB("db"),
+    STORAGE("storage");
+
+    private final String metricName;
+}
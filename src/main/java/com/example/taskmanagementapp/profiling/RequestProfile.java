@@ -0,0 +1,75 @@
+package com.example.taskmanagementapp.profiling;
+
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.NANOS_PER_MILLI;
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.TOTAL_METRIC;
+
+import java.util.Locale;
+import org.apache.logging.log4j.message.StringMapMessage;
+
+public class RequestProfile {
+    private static final ProfileSegment[] SEGMENTS = ProfileSegment.values();
+    private final long startedAt = System.nanoTime();
+    private final int[] counts = new int[SEGMENTS.length];
+    private final long[] nanos = new long[SEGMENTS.length];
+    private final int[] depths = new int[SEGMENTS.length];
+
+    public boolean enter(ProfileSegment segment) {
+        return depths[segment.ordinal()]++ == 0;
+    }
+
+    public void exit(ProfileSegment segment, boolean outermost, long elapsedNanos) {
+        depths[segment.ordinal()]--;
+        counts[segment.ordinal()]++;
+        if (outermost) {
+            nanos[segment.ordinal()] += elapsedNanos;
+        }
+    }
+
+    public void record(ProfileSegment segment, long elapsedNanos) {
+        counts[segment.ordinal()]++;
+        nanos[segment.ordinal()] += elapsedNanos;
+    }
+
+    public int getCount(ProfileSegment segment) {
+        return counts[segment.ordinal()];
+    }
+
+    public long getNanos(ProfileSegment segment) {
+        return nanos[segment.ordinal()];
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    public String toServerTiming() {
+        StringBuilder result = new StringBuilder();
+        for (ProfileSegment segment : SEGMENTS) {
+            if (counts[segment.ordinal()] > 0) {
+                result.append(segment.getMetricName())
+                        .append(";desc=\"").append(counts[segment.ordinal()]).append(" calls\"")
+                        .append(";dur=").append(toMillis(nanos[segment.ordinal()]))
+                        .append(", ");
+            }
+        }
+        return result.append(TOTAL_METRIC).append(";dur=").append(toMillis(getElapsedNanos()))
+                .toString();
+    }
+
+    public StringMapMessage toLogMessage(String method, String uri, int status) {
+        StringMapMessage message = new StringMapMessage()
+                .with("method", method)
+                .with("uri", uri)
+                .with("status", status)
+                .with("totalMs", toMillis(getElapsedNanos()));
+        for (ProfileSegment segment : SEGMENTS) {
+            message.with(segment.getMetricName() + "Count", counts[segment.ordinal()])
+                    .with(segment.getMetricName() + "Ms", toMillis(nanos[segment.ordinal()]));
+        }
+        return message;
+    }
+
+    private String toMillis(long elapsedNanos) {
+        return String.format(Locale.ROOT, "%.1f", elapsedNanos / NANOS_PER_MILLI);
+    }
+}
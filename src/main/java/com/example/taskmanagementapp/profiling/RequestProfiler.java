@@ -0,0 +1,29 @@
+package com.example.taskmanagementapp.profiling;
+
+public final class RequestProfiler {
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private RequestProfiler() {
+    }
+
+    public static RequestProfile start() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void record(ProfileSegment segment, long elapsedNanos) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.record(segment, elapsedNanos);
+        }
+    }
+}
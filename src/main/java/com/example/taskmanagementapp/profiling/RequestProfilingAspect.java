@@ -0,0 +1,43 @@
+package com.example.taskmanagementapp.profiling;
+
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.ATTACHMENT_STORAGE_TIMER;
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.PROFILING_PROPERTY;
+
+import io.micrometer.core.annotation.Timed;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@ConditionalOnProperty(name = PROFILING_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class RequestProfilingAspect {
+    @Around("@within(timed)")
+    public Object profileTimedCall(ProceedingJoinPoint joinPoint, Timed timed) throws Throwable {
+        return profile(joinPoint, ATTACHMENT_STORAGE_TIMER.equals(timed.value())
+                ? ProfileSegment.STORAGE : ProfileSegment.SERVICE);
+    }
+
+    @Around("execution(public * com.example.taskmanagementapp.service.utils"
+            + ".ProjectAuthorityUtil.*(..))")
+    public Object profileAuthorityCheck(ProceedingJoinPoint joinPoint) throws Throwable {
+        return profile(joinPoint, ProfileSegment.AUTHORITY);
+    }
+
+    private Object profile(ProceedingJoinPoint joinPoint, ProfileSegment segment)
+            throws Throwable {
+        RequestProfile profile = RequestProfiler.current();
+        if (profile == null) {
+            return joinPoint.proceed();
+        }
+        boolean outermost = profile.enter(segment);
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            profile.exit(segment, outermost, System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanagementapp.profiling;
+
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.PROFILING_PROPERTY;
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.SLOW_REQUEST_LOGGER;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = PROFILING_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class RequestProfilingFilter extends OncePerRequestFilter {
+    private static final Logger slowRequestLogger = LogManager.getLogger(SLOW_REQUEST_LOGGER);
+    private final long slowRequestThresholdNanos;
+    private final boolean serverTimingEnabled;
+
+    public RequestProfilingFilter(@Value("${profiling.slow-request-threshold-ms}")
+                                  long slowRequestThresholdMillis,
+                                  @Value("${profiling.server-timing.enabled:false}")
+                                  boolean serverTimingEnabled) {
+        this.slowRequestThresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+                slowRequestThresholdMillis);
+        this.serverTimingEnabled = serverTimingEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestProfile profile = RequestProfiler.start();
+        // The header exposes internal timings, so it is only sent where it has been turned on
+        ServerTimingResponseWrapper wrappedResponse = serverTimingEnabled
+                ? new ServerTimingResponseWrapper(response, profile)
+                : null;
+        try {
+            filterChain.doFilter(request, wrappedResponse != null ? wrappedResponse : response);
+        } finally {
+            if (wrappedResponse != null) {
+                wrappedResponse.writeServerTiming();
+            }
+            RequestProfiler.clear();
+            if (profile.getElapsedNanos() >= slowRequestThresholdNanos) {
+                slowRequestLogger.warn(profile.toLogMessage(request.getMethod(),
+                        request.getRequestURI(), response.getStatus()));
+            }
+        }
+    }
+}
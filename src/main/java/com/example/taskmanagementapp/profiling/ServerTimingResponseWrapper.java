@@ -0,0 +1,64 @@
+package com.example.taskmanagementapp.profiling;
+
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.SERVER_TIMING_HEADER;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+public class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+    private final RequestProfile profile;
+    private boolean headerWritten;
+
+    public ServerTimingResponseWrapper(HttpServletResponse response, RequestProfile profile) {
+        super(response);
+        this.profile = profile;
+    }
+
+    // Headers cannot change once the response is committed, so the header is set when the
+    // body starts; its timings leave out serialization, which the slow request log includes
+    public void writeServerTiming() {
+        if (!headerWritten && !isCommitted()) {
+            setHeader(SERVER_TIMING_HEADER, profile.toServerTiming());
+        }
+        headerWritten = true;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeServerTiming();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeServerTiming();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeServerTiming();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeServerTiming();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeServerTiming();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        writeServerTiming();
+        super.sendRedirect(location);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanagementapp.repository;
+
+import com.example.taskmanagementapp.entity.AttachmentContentDeletion;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface AttachmentContentDeletionRepository
+        extends JpaRepository<AttachmentContentDeletion, String> {
+    @Query(value = "SELECT * FROM attachment_content_deletions "
+            + "WHERE delete_after <= :now "
+            + "ORDER BY delete_after "
+            + "LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AttachmentContentDeletion> findDueForUpdate(LocalDateTime now, int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO attachment_content_deletions (file_id, delete_after) "
+            + "VALUES (:fileId, :deleteAfter) "
+            + "ON DUPLICATE KEY UPDATE delete_after = :deleteAfter", nativeQuery = true)
+    int scheduleDeletion(String fileId, LocalDateTime deleteAfter);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AttachmentContentDeletion d WHERE d.fileId = :fileId")
+    int cancelDeletion(String fileId);
+}
@@ -1,9 +1,20 @@
 package com.example.taskmanagementapp.repository;
 
 import com.example.taskmanagementapp.entity.Attachment;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
     List<Attachment> findAllByTaskId(Long taskId);
+
+    List<Attachment> findAllByTaskIdIn(Collection<Long> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.task.id IN :taskIds")
+    void deleteAllByTaskIdIn(Collection<Long> taskIds);
+
+    boolean existsByFileId(String fileId);
 }
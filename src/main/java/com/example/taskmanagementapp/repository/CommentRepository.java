@@ -1,9 +1,13 @@
 package com.example.taskmanagementapp.repository;
 
 import com.example.taskmanagementapp.entity.Comment;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,7 +19,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("DELETE FROM Comment c WHERE c.task.id = :taskId")
     void deleteAllByTaskId(Long taskId);
 
-    Page<Comment> findAllByTaskId(Long taskId, Pageable pageable);
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :taskIds")
+    void deleteAllByTaskIdIn(Collection<Long> taskIds);
+
+    Slice<Comment> findAllByTaskId(Long taskId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c "
+            + "WHERE c.task.id = :taskId "
+            + " AND (c.timestamp > :lastTimestamp "
+            + "  OR (c.timestamp = :lastTimestamp AND c.id > :lastCommentId)) "
+            + "ORDER BY c.timestamp, c.id")
+    List<Comment> findAllByTaskIdAfter(Long taskId, LocalDateTime lastTimestamp,
+                                       Long lastCommentId, Limit limit);
 
     Optional<Comment> findByIdAndUserId(Long id, Long userId);
 }
@@ -0,0 +1,52 @@
+package com.example.taskmanagementapp.repository;
+
+import com.example.taskmanagementapp.entity.EmailOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    @Query(value = "SELECT * FROM email_outbox "
+            + "WHERE (status = 'PENDING' "
+            + "  AND (next_attempt_at IS NULL OR next_attempt_at <= :now)) "
+            + " OR (status = 'PROCESSING' AND locked_until < :now) "
+            + "ORDER BY id "
+            + "LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> findClaimableForUpdate(LocalDateTime now, int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.lockedUntil = :lockedUntil "
+            + "WHERE e.id = :id AND e.attempts = :attempt AND e.status = PROCESSING")
+    int renewLease(Long id, int attempt, LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = SENT, e.sentAt = :sentAt, "
+            + "e.lockedUntil = null "
+            + "WHERE e.id = :id AND e.attempts = :attempt AND e.status = PROCESSING")
+    int markSent(Long id, int attempt, LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = PENDING, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :lastError, e.lockedUntil = null "
+            + "WHERE e.id = :id AND e.attempts = :attempt AND e.status = PROCESSING")
+    int scheduleRetry(Long id, int attempt, LocalDateTime nextAttemptAt, String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = FAILED, e.lastError = :lastError, "
+            + "e.lockedUntil = null "
+            + "WHERE e.id = :id AND e.attempts = :attempt AND e.status = PROCESSING")
+    int markFailed(Long id, int attempt, String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = SENT AND e.sentAt < :sentBefore")
+    int deleteAllSentBefore(LocalDateTime sentBefore);
+}
@@ -1,15 +1,55 @@
 package com.example.taskmanagementapp.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 import com.example.taskmanagementapp.entity.Label;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface LabelRepository extends JpaRepository<Label, Long> {
-    Optional<Label> findByIdAndUserId(Long id, Long userId);
+    default Optional<Label> findByIdAndUserId(Long id, Long userId) {
+        return findById(id).filter(label -> label.getUser().getId().equals(userId));
+    }
+
+    Slice<Label> findAllByUserId(Long userId, Pageable pageable);
+
+    default boolean existsByIdAndUserId(Long id, Long userId) {
+        return findByIdAndUserId(id, userId).isPresent();
+    }
+
+    @Query("SELECT l.id AS labelId, t.id AS taskId FROM Label l "
+            + "JOIN l.tasks t "
+            + "WHERE l.id IN :labelIds")
+    List<LabelTaskId> findTaskIdsByLabelIdIn(Collection<Long> labelIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "labels_tasks"))
+    @Query(value = "INSERT IGNORE INTO labels_tasks (label_id, task_id) "
+            + "VALUES (:labelId, :taskId)", nativeQuery = true)
+    void addLabelLink(Long labelId, Long taskId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "labels_tasks"))
+    @Query(value = "DELETE FROM labels_tasks "
+            + "WHERE label_id = :labelId AND task_id = :taskId", nativeQuery = true)
+    void deleteLabelLink(Long labelId, Long taskId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "labels_tasks"))
+    @Query(value = "DELETE FROM labels_tasks WHERE task_id IN :taskIds", nativeQuery = true)
+    void deleteLabelLinksByTaskIdIn(Collection<Long> taskIds);
 
-    Page<Label> findAllByUserId(Long userId, Pageable pageable);
+    interface LabelTaskId {
+        Long getLabelId();
 
-    boolean existsByIdAndUserId(Long id, Long userId);
+        Long getTaskId();
+    }
 }
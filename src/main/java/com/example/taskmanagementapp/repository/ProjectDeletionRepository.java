@@ -0,0 +1,49 @@
+package com.example.taskmanagementapp.repository;
+
+import com.example.taskmanagementapp.entity.ProjectDeletion;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ProjectDeletionRepository extends JpaRepository<ProjectDeletion, Long> {
+    @Query(value = "SELECT * FROM project_deletions "
+            + "WHERE (status = 'PENDING' "
+            + "  AND (next_attempt_at IS NULL OR next_attempt_at <= :now)) "
+            + " OR (status = 'RUNNING' AND locked_until < :now) "
+            + "ORDER BY project_id "
+            + "LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ProjectDeletion> findClaimableForUpdate(LocalDateTime now, int limit);
+
+    @Modifying
+    @Query("UPDATE ProjectDeletion d SET d.deletedTasks = d.deletedTasks + :deletedTasks, "
+            + "d.lockedUntil = :lockedUntil "
+            + "WHERE d.projectId = :projectId AND d.attempts = :attempt AND d.status = RUNNING")
+    int recordProgress(Long projectId, int attempt, long deletedTasks,
+                       LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectDeletion d SET d.status = COMPLETED, d.lockedUntil = null, "
+            + "d.lastError = null "
+            + "WHERE d.projectId = :projectId AND d.attempts = :attempt AND d.status = RUNNING")
+    int markCompleted(Long projectId, int attempt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectDeletion d SET d.status = PENDING, d.nextAttemptAt = :nextAttemptAt, "
+            + "d.lockedUntil = null, d.lastError = :lastError "
+            + "WHERE d.projectId = :projectId AND d.attempts = :attempt AND d.status = RUNNING")
+    int scheduleRetry(Long projectId, int attempt, LocalDateTime nextAttemptAt,
+                      String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectDeletion d SET d.status = FAILED, d.lockedUntil = null, "
+            + "d.lastError = :lastError "
+            + "WHERE d.projectId = :projectId AND d.attempts = :attempt AND d.status = RUNNING")
+    int markFailed(Long projectId, int attempt, String lastError);
+}
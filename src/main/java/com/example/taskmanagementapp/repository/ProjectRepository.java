@@ -1,11 +1,19 @@
 package com.example.taskmanagementapp.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 import com.example.taskmanagementapp.entity.Project;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p "
@@ -13,22 +21,44 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             + "SELECT 1 FROM p.employees pe "
             + "WHERE pe.id = :employeeId) "
             + "AND p.isDeleted = false")
-    Page<Project> findAllByEmployeeId(Long employeeId, Pageable pageable);
+    Slice<Project> findAllByEmployeeId(Long employeeId, Pageable pageable);
+
+    @Query("SELECT p FROM Project p "
+            + "WHERE EXISTS ("
+            + "SELECT 1 FROM p.employees pe "
+            + "WHERE pe.id = :employeeId) "
+            + "AND p.isDeleted = false "
+            + "AND p.id > :lastProjectId "
+            + "ORDER BY p.id")
+    List<Project> findAllByEmployeeIdAfter(Long employeeId, Long lastProjectId, Limit limit);
 
     @Query("SELECT p FROM Project p "
             + "WHERE p.owner.id = :ownerId "
             + " AND p.isDeleted = false ")
-    Page<Project> findAllByOwnerId(Long ownerId, Pageable pageable);
+    Slice<Project> findAllByOwnerId(Long ownerId, Pageable pageable);
+
+    @Query("SELECT p FROM Project p "
+            + "WHERE p.owner.id = :ownerId "
+            + " AND p.isDeleted = false "
+            + " AND p.id > :lastProjectId "
+            + "ORDER BY p.id")
+    List<Project> findAllByOwnerIdAfter(Long ownerId, Long lastProjectId, Limit limit);
 
     @Query("SELECT p FROM Project p "
             + "WHERE p.owner.id = :ownerId "
             + " AND p.isDeleted = true ")
-    Page<Project> findAllByOwnerIdDeleted(Long ownerId, Pageable pageable);
+    Slice<Project> findAllByOwnerIdDeleted(Long ownerId, Pageable pageable);
 
     @Query("SELECT p FROM Project p "
-            + "WHERE p.id = :id "
-            + " AND p.isDeleted = false")
-    Optional<Project> findByIdNotDeleted(Long id);
+            + "WHERE p.owner.id = :ownerId "
+            + " AND p.isDeleted = true "
+            + " AND p.id > :lastProjectId "
+            + "ORDER BY p.id")
+    List<Project> findAllByOwnerIdDeletedAfter(Long ownerId, Long lastProjectId, Limit limit);
+
+    default Optional<Project> findByIdNotDeleted(Long id) {
+        return findById(id).filter(project -> !project.isDeleted());
+    }
 
     @Query("SELECT COUNT(p) > 0 FROM Project p "
             + "JOIN p.managers m "
@@ -44,6 +74,59 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             + "WHERE p.id = :projectId AND p.owner.id = :userId AND p.isDeleted = false")
     boolean isUserOwner(Long projectId, Long userId);
 
+    @Query("SELECT COUNT(p) > 0 FROM Project p "
+            + "WHERE p.id = :projectId AND p.owner.id = :userId AND p.isDeleted = true")
+    boolean isUserOwnerOfDeleted(Long projectId, Long userId);
+
+    @Query("SELECT (CASE WHEN p.owner.id = :userId THEN 1 ELSE 0 END) "
+            + " + (CASE WHEN EXISTS (SELECT 1 FROM p.managers m WHERE m.id = :userId) "
+            + "THEN 2 ELSE 0 END) "
+            + " + (CASE WHEN EXISTS (SELECT 1 FROM p.employees e WHERE e.id = :userId) "
+            + "THEN 4 ELSE 0 END) "
+            + "FROM Project p "
+            + "WHERE p.id = :projectId AND p.isDeleted = false")
+    Optional<Integer> findUserRoleMask(Long projectId, Long userId);
+
     @Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.id = :id AND p.isDeleted = false")
     boolean existsByIdNotDeleted(Long id);
+
+    @Query("SELECT p.id AS projectId, e.id AS userId FROM Project p "
+            + "JOIN p.employees e "
+            + "WHERE p.id IN :projectIds")
+    List<ProjectMemberId> findEmployeeIdsByProjectIdIn(Collection<Long> projectIds);
+
+    @Query("SELECT p.id AS projectId, m.id AS userId FROM Project p "
+            + "JOIN p.managers m "
+            + "WHERE p.id IN :projectIds")
+    List<ProjectMemberId> findManagerIdsByProjectIdIn(Collection<Long> projectIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_employees"))
+    @Query(value = "INSERT IGNORE INTO project_employees (project_id, employee_id) "
+            + "VALUES (:projectId, :userId)", nativeQuery = true)
+    void addEmployee(Long projectId, Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_managers"))
+    @Query(value = "INSERT IGNORE INTO project_managers (project_id, manager_id) "
+            + "VALUES (:projectId, :userId)", nativeQuery = true)
+    void addManager(Long projectId, Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_employees"))
+    @Query(value = "DELETE FROM project_employees "
+            + "WHERE project_id = :projectId AND employee_id = :userId", nativeQuery = true)
+    void removeEmployee(Long projectId, Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "project_managers"))
+    @Query(value = "DELETE FROM project_managers "
+            + "WHERE project_id = :projectId AND manager_id = :userId", nativeQuery = true)
+    void removeManager(Long projectId, Long userId);
+
+    interface ProjectMemberId {
+        Long getProjectId();
+
+        Long getUserId();
+    }
 }
@@ -1,8 +1,16 @@
 package com.example.taskmanagementapp.repository;
 
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.ROLE_QUERY_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 import com.example.taskmanagementapp.entity.Role;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = ROLE_QUERY_CACHE_REGION)})
     Role findByName(Role.RoleName name);
 }
@@ -1,26 +1,54 @@
 package com.example.taskmanagementapp.repository;
 
 import com.example.taskmanagementapp.entity.Task;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>,
+        JpaSpecificationExecutor<Task> {
     @Query("SELECT t FROM Task t "
             + "WHERE t.project.id = :projectId "
             + " AND t.isDeleted = false")
-    Page<Task> findAllByProjectIdNonDeleted(Long projectId, Pageable pageable);
+    Slice<Task> findAllByProjectIdNonDeleted(Long projectId, Pageable pageable);
 
     @Query("SELECT t FROM Task t "
-            + "JOIN FETCH t.assignee "
+            + "WHERE t.project.id = :projectId "
+            + " AND t.isDeleted = false "
+            + " AND t.id > :lastTaskId "
+            + "ORDER BY t.id")
+    List<Task> findAllByProjectIdNonDeletedAfter(Long projectId, Long lastTaskId, Limit limit);
+
+    @Query("SELECT t FROM Task t "
+            + "JOIN FETCH t.assignee a "
             + "JOIN FETCH t.project "
-            + "WHERE t.isDeleted = false")
-    List<Task> findAllNonDeletedWithAssigneeAndProject();
+            + "WHERE t.isDeleted = false "
+            + " AND t.dueDate = :dueDate "
+            + " AND (a.id > :lastAssigneeId "
+            + "  OR (a.id = :lastAssigneeId AND t.id > :lastTaskId)) "
+            + "ORDER BY a.id, t.id")
+    List<Task> findAllNonDeletedDueOnAfter(LocalDate dueDate, Long lastAssigneeId,
+                                           Long lastTaskId, Limit limit);
+
+    @Query("SELECT t.id FROM Task t "
+            + "WHERE t.project.id = :projectId "
+            + " AND t.isDeleted = false "
+            + "ORDER BY t.id")
+    List<Long> findIdsByProjectIdNonDeleted(Long projectId, Limit limit);
+
+    @Query("SELECT COUNT(t) > 0 FROM Task t "
+            + "WHERE t.project.id = :projectId "
+            + " AND t.isDeleted = false")
+    boolean existsByProjectIdNonDeleted(Long projectId);
 
     @Query("SELECT t FROM Task t "
             + "WHERE t.id = :id "
@@ -33,10 +61,51 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             + "WHERE t.project.id = :projectId")
     void deleteAllByProjectId(Long projectId);
 
+    @Modifying
+    @Query("UPDATE Task t SET t.isDeleted = TRUE "
+            + "WHERE t.id IN :taskIds")
+    void deleteAllByIdIn(Collection<Long> taskIds);
+
     @Query(value = "SELECT t.* FROM tasks t "
             + "JOIN labels_tasks "
             + "ON t.id = labels_tasks.task_id "
             + " WHERE labels_tasks.label_id = :labelId"
             + " AND t.is_deleted = false", nativeQuery = true)
-    Page<Task> findAllByLabelIdNonDeleted(Long labelId, Pageable pageable);
+    Slice<Task> findAllByLabelIdNonDeleted(Long labelId, Pageable pageable);
+
+    @Query(value = "WITH visible_projects AS ("
+            + " SELECT p.id FROM projects p "
+            + " WHERE p.owner_id = :userId AND p.is_deleted = FALSE"
+            + " UNION"
+            + " SELECT p.id FROM project_managers pm "
+            + " JOIN projects p ON p.id = pm.project_id AND p.is_deleted = FALSE"
+            + " WHERE pm.manager_id = :userId"
+            + " UNION"
+            + " SELECT p.id FROM project_employees pe "
+            + " JOIN projects p ON p.id = pe.project_id AND p.is_deleted = FALSE"
+            + " WHERE pe.employee_id = :userId) "
+            + "SELECT hit.task_id AS taskId, SUM(hit.score) AS score FROM ("
+            + " SELECT STRAIGHT_JOIN t.id AS task_id, "
+            + "  MATCH(t.name, t.description) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score"
+            + " FROM visible_projects vp "
+            + " JOIN tasks t ON t.project_id = vp.id AND t.is_deleted = FALSE"
+            + " WHERE MATCH(t.name, t.description) AGAINST (:query IN NATURAL LANGUAGE MODE)"
+            + " UNION ALL"
+            + " SELECT STRAIGHT_JOIN c.task_id, "
+            + "  MATCH(c.text) AGAINST (:query IN NATURAL LANGUAGE MODE)"
+            + " FROM visible_projects vp "
+            + " JOIN tasks t ON t.project_id = vp.id AND t.is_deleted = FALSE"
+            + " JOIN comments c ON c.task_id = t.id"
+            + " WHERE MATCH(c.text) AGAINST (:query IN NATURAL LANGUAGE MODE)"
+            + ") hit "
+            + "GROUP BY hit.task_id "
+            + "ORDER BY score DESC, taskId "
+            + "LIMIT :limit", nativeQuery = true)
+    List<TaskSearchHit> searchVisibleToUser(String query, Long userId, int limit);
+
+    interface TaskSearchHit {
+        Long getTaskId();
+
+        Double getScore();
+    }
 }
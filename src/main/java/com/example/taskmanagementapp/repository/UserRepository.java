@@ -2,7 +2,10 @@ package com.example.taskmanagementapp.repository;
 
 import com.example.taskmanagementapp.entity.User;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
@@ -12,4 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    @Query(value = "SELECT u FROM User u LEFT JOIN FETCH u.role",
+            countQuery = "SELECT COUNT(u) FROM User u")
+    Page<User> findAllWithRole(Pageable pageable);
 }
@@ -0,0 +1,58 @@
+package com.example.taskmanagementapp.repository.specification;
+
+import com.example.taskmanagementapp.entity.Label;
+import com.example.taskmanagementapp.entity.Task;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalDate;
+import java.util.Collection;
+import org.springframework.data.jpa.domain.Specification;
+
+public class TaskSpecifications {
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inProjectNonDeleted(Long projectId) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("project").get("id"), projectId),
+                cb.isFalse(root.get("isDeleted")));
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<Task.Status> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> hasPriorityIn(Collection<Task.Priority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> assignedTo(Long assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    public static Specification<Task> hasAnyLabelOf(Collection<Long> labelIds, Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> labelled = query.subquery(Long.class);
+            Root<Label> label = labelled.from(Label.class);
+            Join<Label, Task> labelledTask = label.join("tasks");
+            labelled.select(labelledTask.get("id"))
+                    .where(label.get("id").in(labelIds),
+                            cb.equal(label.get("user").get("id"), userId),
+                            cb.equal(labelledTask.get("id"), root.get("id")));
+            return cb.exists(labelled);
+        };
+    }
+
+    public static Specification<Task> idGreaterThan(Long lastTaskId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), lastTaskId);
+    }
+}
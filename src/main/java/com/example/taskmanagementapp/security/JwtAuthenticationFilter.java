@@ -1,10 +1,17 @@
 package com.example.taskmanagementapp.security;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.JWT_FILTER_TIMER;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.DIVIDER;
 
+import com.example.taskmanagementapp.entity.User;
+import com.example.taskmanagementapp.profiling.ProfileSegment;
+import com.example.taskmanagementapp.profiling.RequestProfiler;
 import com.example.taskmanagementapp.security.jwtutil.abstr.JwtAbstractUtil;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtStrategy;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtType;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -17,25 +24,31 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
     private final JwtAbstractUtil jwtAccessUtil;
     private final JwtAbstractUtil jwtRefreshUtil;
+    private final Timer filterTimer;
     @Value("${jwt.access.expiration}")
     private Long accessExpiration;
 
     public JwtAuthenticationFilter(@Autowired JwtStrategy jwtStrategy,
-            @Autowired UserDetailsService userDetailsService) {
+            @Autowired UserDetailsServiceImpl userDetailsService,
+            @Autowired PrincipalCache principalCache,
+            @Autowired MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
         this.jwtAccessUtil = jwtStrategy.getStrategy(JwtType.ACCESS);
         this.jwtRefreshUtil = jwtStrategy.getStrategy(JwtType.REFRESHMENT);
+        this.filterTimer = Timer.builder(JWT_FILTER_TIMER)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -44,20 +57,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
-        String accessToken = findAccessToken(request);
-        if (accessToken == null || !(jwtAccessUtil.isValidToken(accessToken))) {
-            accessToken = refreshAccessToken(request, response);
+        Timer.Sample sample = Timer.start();
+        try {
+            authenticate(request, response);
+        } finally {
+            RequestProfiler.record(ProfileSegment.AUTH, sample.stop(filterTimer));
         }
-        if (accessToken != null && jwtAccessUtil.isValidToken(accessToken)) {
-            String username = jwtAccessUtil.getUsername(accessToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request, HttpServletResponse response) {
+        String accessToken = findAccessToken(request);
+        Claims claims = accessToken != null
+                ? jwtAccessUtil.getVerifiedClaims(accessToken)
+                : refreshAccessToken(request, response);
+        if (claims != null) {
+            User user = principalCache.get(claims.getSubject(),
+                    userDetailsService::loadUserByUsername);
             Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities()
+                    user, null, user.getAuthorities()
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
-
-        filterChain.doFilter(request, response);
     }
 
     private String getCookieValue(HttpServletRequest httpServletRequest, String cookieName) {
@@ -80,12 +101,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return getCookieValue(httpServletRequest, "refreshToken");
     }
 
-    private String refreshAccessToken(HttpServletRequest request,
+    private Claims refreshAccessToken(HttpServletRequest request,
                                HttpServletResponse response) {
         String refreshToken = findRefreshToken(request);
-        if (refreshToken != null && jwtRefreshUtil.isValidToken(refreshToken)) {
-            String username = jwtRefreshUtil.getUsername(refreshToken);
-            String accessToken = jwtAccessUtil.generateToken(username);
+        if (refreshToken != null) {
+            Claims claims = jwtRefreshUtil.getVerifiedClaims(refreshToken);
+            String accessToken = jwtAccessUtil.generateToken(claims.getSubject());
             String accessCookie = "accessToken" + "=" + accessToken
                     + "; Path=/"
                     + "; HttpOnly"
@@ -93,7 +114,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     + "; SameSite=Strict"
                     + "; Max-Age=" + accessExpiration / DIVIDER;
             response.addHeader("Set-Cookie", accessCookie);
-            return accessToken;
+            return claims;
         }
         return null;
     }
@@ -0,0 +1,145 @@
+package com.example.taskmanagementapp.security;
+
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.PRINCIPAL_CACHE_HITS;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.PRINCIPAL_CACHE_MISSES;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.PRINCIPAL_CACHE_SIZE;
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.MAX_CACHED_PRINCIPALS;
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.PRINCIPAL_CACHE_TTL;
+
+import com.example.taskmanagementapp.config.PrimaryReadTemplate;
+import com.example.taskmanagementapp.entity.Role;
+import com.example.taskmanagementapp.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PrincipalCache implements MeterBinder {
+    private final Map<String, CachedPrincipal> principals = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                    return size() > MAX_CACHED_PRINCIPALS;
+                }
+            });
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final PrimaryReadTemplate primaryReadTemplate;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private long evictions;
+
+    @Autowired
+    public PrincipalCache(@Value("${jwt.access.expiration}") Long accessExpiration,
+                          PrimaryReadTemplate primaryReadTemplate) {
+        this(accessExpiration, primaryReadTemplate, System::nanoTime);
+    }
+
+    PrincipalCache(Long accessExpiration, PrimaryReadTemplate primaryReadTemplate,
+                   LongSupplier nanoClock) {
+        this.primaryReadTemplate = primaryReadTemplate;
+        this.ttlNanos = Math.min(PRINCIPAL_CACHE_TTL.toMillis(), accessExpiration / 2)
+                * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    public User get(String username, Function<String, User> loader) {
+        long now = nanoClock.getAsLong();
+        long evictionsBeforeLoad;
+        synchronized (principals) {
+            CachedPrincipal cached = principals.get(username);
+            if (cached != null && now - cached.loadedAt() < ttlNanos) {
+                hits.increment();
+                return cached.toUser();
+            }
+            evictionsBeforeLoad = evictions;
+        }
+        misses.increment();
+        CachedPrincipal loaded = CachedPrincipal.of(
+                primaryReadTemplate.read(() -> loader.apply(username)), now);
+        synchronized (principals) {
+            if (evictions == evictionsBeforeLoad) {
+                principals.put(username, loaded);
+            }
+        }
+        return loaded.toUser();
+    }
+
+    public void evict(String username) {
+        remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            remove(username);
+                        }
+                    });
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return principals.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(PRINCIPAL_CACHE_HITS, hits, LongAdder::sum).register(registry);
+        FunctionCounter.builder(PRINCIPAL_CACHE_MISSES, misses, LongAdder::sum).register(registry);
+        Gauge.builder(PRINCIPAL_CACHE_SIZE, principals, Map::size).register(registry);
+    }
+
+    private void remove(String username) {
+        synchronized (principals) {
+            evictions++;
+            principals.remove(username);
+        }
+    }
+
+    private record CachedPrincipal(Long id, String username, String password, String email,
+                                   String firstName, String lastName, Long roleId,
+                                   Role.RoleName roleName, boolean isEnabled,
+                                   boolean isAccountNonLocked, long loadedAt) {
+        private static CachedPrincipal of(User user, long loadedAt) {
+            Role role = user.getRole();
+            return new CachedPrincipal(user.getId(), user.getUsername(), user.getPassword(),
+                    user.getEmail(), user.getFirstName(), user.getLastName(),
+                    role != null ? role.getId() : null, role != null ? role.getName() : null,
+                    user.isEnabled(), user.isAccountNonLocked(), loadedAt);
+        }
+
+        private User toUser() {
+            return User.builder()
+                    .id(id)
+                    .username(username)
+                    .password(password)
+                    .email(email)
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .role(roleName != null ? new Role(roleId, roleName) : null)
+                    .isEnabled(isEnabled)
+                    .isAccountNonLocked(isAccountNonLocked)
+                    .build();
+        }
+    }
+}
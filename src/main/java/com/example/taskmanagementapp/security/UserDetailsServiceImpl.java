@@ -1,9 +1,10 @@
 package com.example.taskmanagementapp.security;
 
+import com.example.taskmanagementapp.config.PrimaryReadTemplate;
+import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.EntityNotFoundException;
 import com.example.taskmanagementapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
@@ -11,11 +12,14 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final PrimaryReadTemplate primaryReadTemplate;
 
+    // Credentials and lock state are checked against the primary, so a password change or
+    // a lock is not undone by a replica that hasn't replicated it yet
     @Override
-    public UserDetails loadUserByUsername(String username) {
-        return userRepository.findByUsername(username).orElseThrow(()
-                -> new EntityNotFoundException(
-                "Can't find user by username " + username));
+    public User loadUserByUsername(String username) {
+        return primaryReadTemplate.read(() -> userRepository.findByUsername(username))
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find user by username " + username));
     }
 }
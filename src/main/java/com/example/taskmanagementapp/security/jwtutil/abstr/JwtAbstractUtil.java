@@ -1,56 +1,109 @@
 package com.example.taskmanagementapp.security.jwtutil.abstr;
 
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.MAX_CACHED_TOKENS;
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.TOKEN_HASH_ALGORITHM;
+
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
 import javax.crypto.SecretKey;
 
 public abstract class JwtAbstractUtil {
     protected final SecretKey secret;
     protected final long expiration;
+    private final JwtParser parser;
+    private final LongSupplier currentTimeMillis;
+    private final Map<String, Claims> verifiedClaims = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                    return size() > MAX_CACHED_TOKENS;
+                }
+            });
 
     public JwtAbstractUtil(String secretString, long expiration) {
+        this(secretString, expiration, System::currentTimeMillis);
+    }
+
+    protected JwtAbstractUtil(String secretString, long expiration,
+                              LongSupplier currentTimeMillis) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        this.currentTimeMillis = currentTimeMillis;
+        this.parser = Jwts.parser()
+                .verifyWith(secret)
+                .clock(this::now)
+                .build();
     }
 
     public String generateToken(String username) {
+        long issuedAt = currentTimeMillis.getAsLong();
         return Jwts.builder()
                 .subject(username)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .issuedAt(new Date(issuedAt))
+                .expiration(new Date(issuedAt + expiration))
                 .signWith(secret)
                 .compact();
     }
 
-    public boolean isValidToken(String token) {
+    public Claims getVerifiedClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new JwtException("Expired or invalid JWT token");
+        }
+        String tokenHash = hash(token);
+        Claims claims = verifiedClaims.get(tokenHash);
+        if (claims != null) {
+            if (claims.getExpiration().after(now())) {
+                return claims;
+            }
+            verifiedClaims.remove(tokenHash);
+            throw new JwtException("Expired or invalid JWT token");
+        }
         try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(secret)
-                    .build()
-                    .parseSignedClaims(token);
-
-            return !claimsJws.getPayload().getExpiration().before(new Date());
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Expired or invalid JWT token");
         }
+        if (claims.getExpiration() == null || !claims.getExpiration().after(now())) {
+            throw new JwtException("Expired or invalid JWT token");
+        }
+        verifiedClaims.put(tokenHash, claims);
+        return claims;
+    }
+
+    public boolean isValidToken(String token) {
+        return getVerifiedClaims(token) != null;
     }
 
     public String getUsername(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        return getVerifiedClaims(token).getSubject();
     }
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parser()
-                .verifyWith(secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claimsResolver.apply(claims);
+    int getCachedTokenCount() {
+        return verifiedClaims.size();
+    }
+
+    private Date now() {
+        return new Date(currentTimeMillis.getAsLong());
+    }
+
+    private String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(TOKEN_HASH_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.example.taskmanagementapp.service;
 import com.dropbox.core.DbxException;
 import com.example.taskmanagementapp.dto.attachment.response.AttachmentResponse;
 import com.example.taskmanagementapp.exception.ForbiddenException;
+import com.example.taskmanagementapp.service.storage.AttachmentStorage;
 import java.io.IOException;
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,6 +16,10 @@ public interface AttachmentService {
     List<AttachmentResponse> getAttachmentForTask(Long authenticatedUserId, Long taskId)
             throws ForbiddenException;
 
+    AttachmentStorage.AttachmentDownload getAttachmentDownload(Long authenticatedUserId,
+                                                               Long taskId, Long attachmentId)
+            throws ForbiddenException, IOException;
+
     void deleteAttachmentFromTask(Long authenticatedUserId, Long taskId, Long attachmentId)
-            throws DbxException, ForbiddenException;
+            throws IOException, DbxException, ForbiddenException;
 }
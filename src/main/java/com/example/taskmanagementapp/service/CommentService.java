@@ -3,6 +3,7 @@ package com.example.taskmanagementapp.service;
 import com.example.taskmanagementapp.dto.comment.request.CommentRequest;
 import com.example.taskmanagementapp.dto.comment.request.UpdateCommentRequest;
 import com.example.taskmanagementapp.dto.comment.response.CommentResponse;
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.ForbiddenException;
 import java.util.List;
@@ -19,5 +20,11 @@ public interface CommentService {
     List<CommentResponse> getAllComments(Long authenticatedUserId, Long taskId,
                                          Pageable pageable) throws ForbiddenException;
 
+    CursorPageResponse<CommentResponse> getAllCommentsByCursor(Long authenticatedUserId,
+                                                               Long taskId,
+                                                               String cursor,
+                                                               int size)
+            throws ForbiddenException;
+
     void deleteComment(Long authenticatedUserId, Long commentId) throws ForbiddenException;
 }
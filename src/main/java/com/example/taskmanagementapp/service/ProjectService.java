@@ -1,9 +1,11 @@
 package com.example.taskmanagementapp.service;
 
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
 import com.example.taskmanagementapp.dto.project.request.ProjectRequest;
 import com.example.taskmanagementapp.dto.project.request.ProjectStatusDto;
 import com.example.taskmanagementapp.dto.project.request.UpdateProjectRequest;
 import com.example.taskmanagementapp.dto.project.response.EmployeeAssignmentResponse;
+import com.example.taskmanagementapp.dto.project.response.ProjectDeletionResponse;
 import com.example.taskmanagementapp.dto.project.response.ProjectResponse;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.ConflictException;
@@ -21,6 +23,18 @@ public interface ProjectService {
 
     List<ProjectResponse> getDeletedCreatedProjects(Long userId, Pageable pageable);
 
+    CursorPageResponse<ProjectResponse> getAssignedProjectsByCursor(Long userId,
+                                                                    String cursor,
+                                                                    int size);
+
+    CursorPageResponse<ProjectResponse> getCreatedProjectsByCursor(Long userId,
+                                                                   String cursor,
+                                                                   int size);
+
+    CursorPageResponse<ProjectResponse> getDeletedCreatedProjectsByCursor(Long userId,
+                                                                          String cursor,
+                                                                          int size);
+
     ProjectResponse getProjectById(Long authenticatedUserId,
                                    Long projectId) throws ForbiddenException;
 
@@ -31,6 +45,8 @@ public interface ProjectService {
 
     void deleteProjectById(Long authenticatedUserId, Long projectId) throws ForbiddenException;
 
+    ProjectDeletionResponse getProjectDeletionStatus(Long authenticatedUserId, Long projectId);
+
     EmployeeAssignmentResponse assignEmployeeToProject(User authenticatedUser, Long projectId,
                                                    Long employeeId, boolean isNewEmployeeManager)
             throws ForbiddenException;
@@ -1,10 +1,14 @@
 package com.example.taskmanagementapp.service;
 
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
+import com.example.taskmanagementapp.dto.task.request.BulkTaskUpdateRequest;
+import com.example.taskmanagementapp.dto.task.request.TaskFilterRequest;
 import com.example.taskmanagementapp.dto.task.request.TaskPriorityDto;
 import com.example.taskmanagementapp.dto.task.request.TaskRequest;
 import com.example.taskmanagementapp.dto.task.request.TaskStatusDto;
 import com.example.taskmanagementapp.dto.task.request.UpdateTaskRequest;
 import com.example.taskmanagementapp.dto.task.response.TaskResponse;
+import com.example.taskmanagementapp.dto.task.response.TaskSearchResponse;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.ForbiddenException;
 import java.util.List;
@@ -15,9 +19,26 @@ public interface TaskService {
                             TaskRequest createTaskDto,
                             TaskPriorityDto taskPriorityDto) throws ForbiddenException;
 
+    List<TaskResponse> createTasks(User authenticatedUser,
+                                   List<TaskRequest> createTaskDtos,
+                                   TaskPriorityDto taskPriorityDto) throws ForbiddenException;
+
     List<TaskResponse> getTasksForProject(Long authenticatedUserId, Long projectId,
                                           Pageable pageable) throws ForbiddenException;
 
+    CursorPageResponse<TaskResponse> getTasksForProjectByCursor(Long authenticatedUserId,
+                                                                Long projectId,
+                                                                String cursor,
+                                                                int size)
+            throws ForbiddenException;
+
+    CursorPageResponse<TaskResponse> getFilteredTasksForProject(Long authenticatedUserId,
+                                                                Long projectId,
+                                                                TaskFilterRequest filter,
+                                                                String cursor,
+                                                                int size)
+            throws ForbiddenException;
+
     TaskResponse getTaskById(Long authenticatedUserId,
                              Long taskId) throws ForbiddenException;
 
@@ -27,8 +48,14 @@ public interface TaskService {
                             TaskStatusDto taskStatusDto,
                             TaskPriorityDto taskPriorityDto) throws ForbiddenException;
 
+    List<TaskResponse> updateTasks(Long authenticatedUserId,
+                                   BulkTaskUpdateRequest bulkTaskUpdateDto)
+            throws ForbiddenException;
+
     void deleteTask(Long authenticatedUserId,
                     Long taskId) throws ForbiddenException;
 
+    List<TaskSearchResponse> searchTasks(Long authenticatedUserId, String query, int size);
+
     List<TaskResponse> getTasksWithLabel(Long authenticatedUserId, Long labelId, Pageable pageable);
 }
@@ -0,0 +1,153 @@
+package com.example.taskmanagementapp.service.dropbox;
+
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.DROPBOX_STORAGE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.STORAGE_PROPERTY;
+
+import com.dropbox.core.DbxException;
+import com.dropbox.core.v2.DbxClientV2;
+import com.dropbox.core.v2.files.CommitInfo;
+import com.dropbox.core.v2.files.UploadSessionCursor;
+import com.dropbox.core.v2.sharing.CreateSharedLinkWithSettingsErrorException;
+import com.dropbox.core.v2.sharing.ListSharedLinksResult;
+import com.example.taskmanagementapp.service.utils.TransliterationUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+@Component
+@ConditionalOnProperty(name = STORAGE_PROPERTY, havingValue = DROPBOX_STORAGE,
+        matchIfMissing = true)
+public class DropboxFileUploader {
+    private static final Logger logger = LogManager.getLogger(DropboxFileUploader.class);
+
+    private final DbxClientV2 client;
+    private final ExecutorService dropboxExecutor;
+    private final long sessionThresholdBytes;
+    private final long chunkSizeBytes;
+
+    public DropboxFileUploader(DbxClientV2 client,
+                               @Qualifier("dropboxExecutor") ExecutorService dropboxExecutor,
+                               @Value("${dropbox.upload.session-threshold-bytes}")
+                               long sessionThresholdBytes,
+                               @Value("${dropbox.upload.chunk-size-bytes}") long chunkSizeBytes) {
+        this.client = client;
+        this.dropboxExecutor = dropboxExecutor;
+        this.sessionThresholdBytes = sessionThresholdBytes;
+        this.chunkSizeBytes = chunkSizeBytes;
+    }
+
+    public record UploadedFile(String fileName, String sharedLink) {}
+
+    public List<UploadedFile> uploadAll(String folder, MultipartFile[] uploadFiles)
+            throws IOException, DbxException {
+        List<CompletableFuture<UploadedFile>> uploads = new ArrayList<>();
+        for (MultipartFile uploadFile : uploadFiles) {
+            uploads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return upload(folder, uploadFile);
+                } catch (IOException | DbxException e) {
+                    throw new CompletionException(e);
+                }
+            }, dropboxExecutor));
+        }
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // allOf completes only after every upload has finished, so none is still writing
+            uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .forEach(upload -> deleteQuietly(folder + "/" + upload.join().fileName()));
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof DbxException dbxException) {
+                throw dbxException;
+            }
+            throw e;
+        }
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    public void delete(String path) throws DbxException {
+        client.files().deleteV2(path);
+    }
+
+    private UploadedFile upload(String folder, MultipartFile uploadFile)
+            throws IOException, DbxException {
+        String fileName = TransliterationUtil.transliterate(uploadFile.getOriginalFilename());
+        String path = folder + "/" + fileName;
+        try (InputStream stream = uploadFile.getInputStream()) {
+            if (uploadFile.getSize() > sessionThresholdBytes) {
+                uploadInSession(path, stream, uploadFile.getSize());
+            } else {
+                client.files().uploadBuilder(path).uploadAndFinish(stream);
+            }
+        }
+        try {
+            return new UploadedFile(fileName,
+                    makeDropboxLinkToRawFile(getOrCreateSharedLink(path)));
+        } catch (DbxException | RuntimeException e) {
+            deleteQuietly(path);
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(String path) {
+        try {
+            delete(path);
+        } catch (DbxException | RuntimeException e) {
+            logger.warn("Failed to delete orphaned Dropbox file {}", path, e);
+        }
+    }
+
+    private void uploadInSession(String path, InputStream stream, long size)
+            throws IOException, DbxException {
+        long firstChunk = Math.min(chunkSizeBytes, size);
+        String sessionId = client.files().uploadSessionStart()
+                .uploadAndFinish(stream, firstChunk)
+                .getSessionId();
+        long uploaded = firstChunk;
+        while (size - uploaded > chunkSizeBytes) {
+            client.files().uploadSessionAppendV2(new UploadSessionCursor(sessionId, uploaded))
+                    .uploadAndFinish(stream, chunkSizeBytes);
+            uploaded += chunkSizeBytes;
+        }
+        client.files().uploadSessionFinish(new UploadSessionCursor(sessionId, uploaded),
+                        CommitInfo.newBuilder(path).build())
+                .uploadAndFinish(stream, size - uploaded);
+    }
+
+    private String getOrCreateSharedLink(String dropboxPath) throws DbxException {
+        try {
+            return client.sharing()
+                    .createSharedLinkWithSettings(dropboxPath)
+                    .getUrl();
+        } catch (CreateSharedLinkWithSettingsErrorException e) {
+            if (e.errorValue.isSharedLinkAlreadyExists()) {
+                ListSharedLinksResult existingLinks = client.sharing().listSharedLinksBuilder()
+                        .withPath(dropboxPath)
+                        .withDirectOnly(true)
+                        .start();
+                if (!existingLinks.getLinks().isEmpty()) {
+                    return existingLinks.getLinks().getFirst().getUrl();
+                }
+            }
+            throw e;
+        }
+    }
+
+    private String makeDropboxLinkToRawFile(String link) {
+        return link.replace("dl=0", "raw=1");
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.taskmanagementapp.service.dropbox;
+
+import com.dropbox.core.http.HttpRequestor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LocalDropboxHttpRequestor extends HttpRequestor {
+    private static final String API_ARG_HEADER = "Dropbox-API-Arg";
+    private static final String TIMESTAMP = "2025-01-01T00:00:00Z";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong revision = new AtomicLong(0x100000000L);
+    private final long latencyMillis;
+    private final double failureRate;
+
+    public LocalDropboxHttpRequestor(long latencyMillis) {
+        this(latencyMillis, 0);
+    }
+
+    public LocalDropboxHttpRequestor(long latencyMillis, double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public Response doGet(String url, Iterable<Header> headers) throws IOException {
+        simulateLatency();
+        return respond(HTTP_NOT_FOUND, "{}");
+    }
+
+    @Override
+    public Uploader startPost(String url, Iterable<Header> headers) {
+        return new LocalUploader(url, headers);
+    }
+
+    @Override
+    public Uploader startPut(String url, Iterable<Header> headers) {
+        return new LocalUploader(url, headers);
+    }
+
+    private Response handle(String url, Iterable<Header> headers, byte[] body)
+            throws IOException {
+        simulateLatency();
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return respond(HTTP_SERVICE_UNAVAILABLE, "Simulated failure");
+        }
+        String endpoint = url.substring(url.indexOf("/2/") + 2);
+        JsonNode argument = readArgument(headers, body);
+        return switch (endpoint) {
+            case "/files/upload" -> respond(HTTP_OK,
+                    fileMetadata(argument.path("path").asText(), body.length));
+            case "/files/upload_session/start" -> respond(HTTP_OK,
+                    objectMapper.createObjectNode()
+                            .put("session_id", UUID.randomUUID().toString()).toString());
+            case "/files/upload_session/append_v2" -> respond(HTTP_OK, "null");
+            case "/files/upload_session/finish" -> respond(HTTP_OK, fileMetadata(
+                    argument.path("commit").path("path").asText(),
+                    argument.path("cursor").path("offset").asLong() + body.length));
+            case "/sharing/create_shared_link_with_settings" -> respond(HTTP_OK,
+                    sharedLinkMetadata(argument.path("path").asText()));
+            case "/files/delete_v2" -> {
+                ObjectNode result = objectMapper.createObjectNode();
+                result.set("metadata", objectMapper.readTree(
+                        fileMetadata(argument.path("path").asText(), 0)));
+                yield respond(HTTP_OK, result.toString());
+            }
+            default -> respond(HTTP_NOT_FOUND, "{}");
+        };
+    }
+
+    private JsonNode readArgument(Iterable<Header> headers, byte[] body) throws IOException {
+        for (Header header : headers) {
+            if (API_ARG_HEADER.equalsIgnoreCase(header.getKey())) {
+                return objectMapper.readTree(header.getValue());
+            }
+        }
+        return body.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(body);
+    }
+
+    private String fileMetadata(String path, long size) {
+        return baseMetadata(path, size)
+                .put(".tag", "file")
+                .put("id", "id:" + UUID.randomUUID())
+                .put("client_modified", TIMESTAMP)
+                .put("server_modified", TIMESTAMP)
+                .put("path_lower", path.toLowerCase())
+                .put("path_display", path)
+                .toString();
+    }
+
+    private String sharedLinkMetadata(String path) {
+        ObjectNode metadata = baseMetadata(path, 0)
+                .put(".tag", "file")
+                .put("url", "https://local.dropbox/s/" + UUID.randomUUID()
+                        + "/" + fileName(path) + "?dl=0")
+                .put("id", "id:" + UUID.randomUUID())
+                .put("client_modified", TIMESTAMP)
+                .put("server_modified", TIMESTAMP)
+                .put("path_lower", path.toLowerCase());
+        ObjectNode linkPermissions = metadata.putObject("link_permissions")
+                .put("can_revoke", false)
+                .put("can_set_expiry", false)
+                .put("can_remove_expiry", false)
+                .put("allow_download", true)
+                .put("can_allow_download", false)
+                .put("can_disallow_download", false)
+                .put("allow_comments", false)
+                .put("team_restricts_comments", false);
+        linkPermissions.putArray("visibility_policies");
+        return metadata.toString();
+    }
+
+    private ObjectNode baseMetadata(String path, long size) {
+        return objectMapper.createObjectNode()
+                .put("name", fileName(path))
+                .put("rev", Long.toHexString(revision.incrementAndGet()))
+                .put("size", size);
+    }
+
+    private String fileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private Response respond(int statusCode, String body) {
+        return new Response(statusCode,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                Map.of("Content-Type", List.of("application/json")));
+    }
+
+    private void simulateLatency() throws InterruptedIOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    private class LocalUploader extends Uploader {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final String url;
+        private final Iterable<Header> headers;
+
+        private LocalUploader(String url, Iterable<Header> headers) {
+            this.url = url;
+            this.headers = headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void abort() {
+        }
+
+        @Override
+        public Response finish() throws IOException {
+            return handle(url, headers, body.toByteArray());
+        }
+    }
+}
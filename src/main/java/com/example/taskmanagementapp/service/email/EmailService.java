@@ -1,20 +1,46 @@
 package com.example.taskmanagementapp.service.email;
 
-import com.example.taskmanagementapp.service.email.utils.EmailQueueProcessor;
+import com.example.taskmanagementapp.entity.EmailOutbox;
+import com.example.taskmanagementapp.repository.EmailOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional
 public class EmailService {
-    private final EmailQueueProcessor emailQueueProcessor;
+    private final EmailOutboxRepository emailOutboxRepository;
 
-    public EmailService(EmailQueueProcessor emailQueueProcessor) {
-        this.emailQueueProcessor = emailQueueProcessor;
+    public EmailService(EmailOutboxRepository emailOutboxRepository) {
+        this.emailOutboxRepository = emailOutboxRepository;
     }
 
-    public record EmailRequest(String toEmail, String subject, String body) {}
+    public record EmailRequest(Long id, int attempt, String toEmail, String subject,
+                               String body) {}
 
     public void queueEmail(String toEmail, String subject, String body) {
-        emailQueueProcessor.queueEmail(new EmailRequest(toEmail, subject, body));
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .toEmail(toEmail)
+                .subject(subject)
+                .body(body)
+                .status(EmailOutbox.Status.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
     }
 
+    public List<EmailRequest> claimBatch(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> claimed = emailOutboxRepository.findClaimableForUpdate(now, limit);
+        for (EmailOutbox email : claimed) {
+            email.setStatus(EmailOutbox.Status.PROCESSING);
+            email.setAttempts(email.getAttempts() + 1);
+            email.setLockedUntil(now.plus(lease));
+        }
+        return claimed.stream()
+                .map(email -> new EmailRequest(email.getId(), email.getAttempts(),
+                        email.getToEmail(), email.getSubject(), email.getBody()))
+                .toList();
+    }
 }
@@ -1,24 +1,31 @@
 package com.example.taskmanagementapp.service.email;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.DEADLINE_NOTIFIER_BATCH;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.DEADLINE_NOTIFIER_NOTIFIED;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.DEADLINE_NOTIFIER_RUN;
+import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.BATCH_SIZE;
 import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.BODY_1;
 import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.BODY_2;
 import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.BODY_3;
 import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.BODY_4;
 import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.BODY_5;
 import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.CRONOUNITS;
+import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.NO_PREVIOUS_ID;
 import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.SUBJECT;
 
 import com.example.taskmanagementapp.entity.Task;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.repository.TaskRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -29,34 +36,58 @@ public class TaskDeadlineNotifier {
     private static final Logger logger = LogManager.getLogger(TaskDeadlineNotifier.class);
     private final EmailService emailService;
     private final TaskRepository taskRepository;
+    private final MeterRegistry meterRegistry;
 
     @Async
     @Scheduled(cron = CRONOUNITS)
     public void taskDeadlineNotification() {
-        Map<User, List<Task>> usersTasksMap = filterTasksWhereDueTomorrow();
-        if (usersTasksMap.isEmpty()) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int notifiedAssignees = sendEmailWhereTaskDueTomorrow(LocalDate.now().plusDays(1));
+        sample.stop(meterRegistry.timer(DEADLINE_NOTIFIER_RUN));
+        meterRegistry.counter(DEADLINE_NOTIFIER_NOTIFIED).increment(notifiedAssignees);
+        if (notifiedAssignees == 0) {
             logger.info("No tasks due tomorrow found");
         } else {
-            sendEmailWhereTaskDueTomorrow(usersTasksMap);
+            logger.info("Task deadline notification sent to {} assignees", notifiedAssignees);
         }
     }
 
-    private Map<User, List<Task>> filterTasksWhereDueTomorrow() {
-        Predicate<Task> whereDueTomorrow = task -> task.getDueDate()
-                .isEqual(LocalDate.now().plusDays(1));
+    private int sendEmailWhereTaskDueTomorrow(LocalDate dueDate) {
+        int notifiedAssignees = 0;
+        User currentAssignee = null;
+        List<Task> currentAssigneeTasks = new ArrayList<>();
+        long lastAssigneeId = NO_PREVIOUS_ID;
+        long lastTaskId = NO_PREVIOUS_ID;
+        DistributionSummary batchSizes = meterRegistry.summary(DEADLINE_NOTIFIER_BATCH);
+        List<Task> batch;
+        do {
+            batch = taskRepository.findAllNonDeletedDueOnAfter(
+                    dueDate, lastAssigneeId, lastTaskId, Limit.of(BATCH_SIZE));
+            batchSizes.record(batch.size());
+            for (Task task : batch) {
+                if (currentAssignee != null
+                        && !currentAssignee.getId().equals(task.getAssignee().getId())) {
+                    emailService.queueEmail(currentAssignee.getEmail(), SUBJECT,
+                            formBody(currentAssigneeTasks));
+                    notifiedAssignees++;
+                    currentAssigneeTasks = new ArrayList<>();
+                }
+                currentAssignee = task.getAssignee();
+                currentAssigneeTasks.add(task);
+            }
+            if (!batch.isEmpty()) {
+                Task lastTask = batch.getLast();
+                lastAssigneeId = lastTask.getAssignee().getId();
+                lastTaskId = lastTask.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
 
-        return taskRepository.findAllNonDeletedWithAssigneeAndProject().stream()
-                .filter(whereDueTomorrow)
-                .collect(Collectors.groupingBy(Task::getAssignee));
-    }
-
-    private void sendEmailWhereTaskDueTomorrow(Map<User, List<Task>> userTasks) {
-        for (Map.Entry<User, List<Task>> entry : userTasks.entrySet()) {
-            String toEmail = entry.getKey().getEmail();
-            List<Task> tasks = entry.getValue();
-            emailService.queueEmail(toEmail, SUBJECT, formBody(tasks));
+        if (currentAssignee != null) {
+            emailService.queueEmail(currentAssignee.getEmail(), SUBJECT,
+                    formBody(currentAssigneeTasks));
+            notifiedAssignees++;
         }
-        logger.info("Task deadline notification sent");
+        return notifiedAssignees;
     }
 
     private String formBody(List<Task> tasks) {
@@ -0,0 +1,115 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import static com.example.taskmanagementapp.constant.service.email.EmailOutboxConstants.LEASE_SAFETY_FACTOR;
+import static com.example.taskmanagementapp.constant.service.email.EmailOutboxConstants.MAX_ERROR_LENGTH;
+import static com.example.taskmanagementapp.constant.service.email.EmailOutboxConstants.PURGE_CRONOUNITS;
+
+import com.example.taskmanagementapp.repository.EmailOutboxRepository;
+import com.example.taskmanagementapp.service.email.EmailService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmailOutboxPoller implements EmailQueueProcessor.EmailDeliveryCallback {
+    private static final Logger logger = LogManager.getLogger(EmailOutboxPoller.class);
+
+    private final EmailService emailService;
+    private final EmailQueueProcessor emailQueueProcessor;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final int batchSize;
+    private final Duration lease;
+    private final int retentionDays;
+    private final int maxAttempts;
+    private final Duration initialRetryDelay;
+    private final Duration maxRetryDelay;
+    private final int sendableWithinLease;
+
+    public EmailOutboxPoller(EmailService emailService,
+                             EmailQueueProcessor emailQueueProcessor,
+                             EmailOutboxRepository emailOutboxRepository,
+                             @Value("${email.outbox.batch-size}") int batchSize,
+                             @Value("${email.outbox.lease-seconds}") long leaseSeconds,
+                             @Value("${email.outbox.retention-days}") int retentionDays,
+                             @Value("${email.outbox.max-attempts}") int maxAttempts,
+                             @Value("${email.outbox.initial-retry-delay-seconds}")
+                             long initialRetryDelaySeconds,
+                             @Value("${email.outbox.max-retry-delay-seconds}")
+                             long maxRetryDelaySeconds,
+                             @Value("${email.dispatch.rate-per-second}") double ratePerSecond) {
+        this.emailService = emailService;
+        this.emailQueueProcessor = emailQueueProcessor;
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retentionDays = retentionDays;
+        this.maxAttempts = maxAttempts;
+        this.initialRetryDelay = Duration.ofSeconds(initialRetryDelaySeconds);
+        this.maxRetryDelay = Duration.ofSeconds(maxRetryDelaySeconds);
+        this.sendableWithinLease = (int) Math.min(Integer.MAX_VALUE,
+                ratePerSecond * leaseSeconds / LEASE_SAFETY_FACTOR);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms}")
+    public void pollOutbox() {
+        EmailQueueProcessor.EmailDispatchStats stats = emailQueueProcessor.getStats();
+        int capacity = Math.min(batchSize,
+                sendableWithinLease - stats.queueDepth() - stats.inFlight());
+        if (capacity <= 0) {
+            return;
+        }
+        List<EmailService.EmailRequest> claimed = emailService.claimBatch(capacity, lease);
+        claimed.forEach(request -> emailQueueProcessor.queueEmail(request, this));
+        if (!claimed.isEmpty()) {
+            logger.debug("Claimed {} emails from outbox", claimed.size());
+        }
+    }
+
+    @Scheduled(cron = PURGE_CRONOUNITS)
+    public void purgeSentEmails() {
+        int purged = emailOutboxRepository.deleteAllSentBefore(
+                LocalDateTime.now().minusDays(retentionDays));
+        logger.info("Purged {} sent emails from outbox", purged);
+    }
+
+    @Override
+    public boolean onSending(EmailService.EmailRequest emailRequest) {
+        return emailOutboxRepository.renewLease(emailRequest.id(), emailRequest.attempt(),
+                LocalDateTime.now().plus(lease)) == 1;
+    }
+
+    @Override
+    public void onSent(EmailService.EmailRequest emailRequest) {
+        if (emailOutboxRepository.markSent(emailRequest.id(), emailRequest.attempt(),
+                LocalDateTime.now()) == 0) {
+            logger.warn("Email {} was sent after its claim was lost", emailRequest.id());
+        }
+    }
+
+    @Override
+    public void onFailed(EmailService.EmailRequest emailRequest, String error) {
+        String lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (emailRequest.attempt() < maxAttempts) {
+            emailOutboxRepository.scheduleRetry(emailRequest.id(), emailRequest.attempt(),
+                    LocalDateTime.now().plus(getRetryDelay(emailRequest.attempt())), lastError);
+        } else if (emailOutboxRepository.markFailed(emailRequest.id(), emailRequest.attempt(),
+                lastError) == 1) {
+            logger.error("Email {} to {} moved to FAILED after {} attempts: {}",
+                    emailRequest.id(), emailRequest.toEmail(), emailRequest.attempt(), lastError);
+        }
+    }
+
+    Duration getRetryDelay(int attempt) {
+        Duration retryDelay = initialRetryDelay;
+        for (int i = 1; i < attempt && retryDelay.compareTo(maxRetryDelay) < 0; i++) {
+            retryDelay = retryDelay.multipliedBy(2);
+        }
+        return retryDelay.compareTo(maxRetryDelay) < 0 ? retryDelay : maxRetryDelay;
+    }
+}
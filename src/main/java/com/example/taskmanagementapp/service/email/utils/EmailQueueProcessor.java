@@ -1,56 +1,170 @@
 package com.example.taskmanagementapp.service.email.utils;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_DELIVERY_LATENCY;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_FAILED;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_IN_FLIGHT;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_QUEUE_DEPTH;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_RETRIED;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_SEND_LATENCY;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_SENT;
+
 import com.example.taskmanagementapp.service.email.EmailService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
-public class EmailQueueProcessor {
+public class EmailQueueProcessor implements MeterBinder {
     private static final Logger logger = LogManager.getLogger(EmailQueueProcessor.class);
-    private static final long DELAY_FOR_EMAIL_SEND = 500;
     private static final long DELAY_FOR_THREAD_STOP = 5000;
+    private static final EmailDeliveryCallback NO_CALLBACK = new EmailDeliveryCallback() {
+        @Override
+        public void onSent(EmailService.EmailRequest emailRequest) {
+        }
+
+        @Override
+        public void onFailed(EmailService.EmailRequest emailRequest, String error) {
+        }
+    };
 
-    private final BlockingQueue<EmailService.EmailRequest> emailQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<QueuedEmail> emailQueue = new LinkedBlockingQueue<>();
     private final EmailSender emailSender;
-    private Thread workerThread;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Semaphore concurrencyLimit;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int batchSize;
+    private final long batchWindowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final LongAccumulator maxLatencyMillis = new LongAccumulator(Math::max, 0);
+    private volatile Timer sendLatency;
+    private volatile Timer deliveryLatency;
+    private ExecutorService sendExecutor;
+    private Thread dispatcherThread;
 
-    public EmailQueueProcessor(EmailSender emailSender) {
+    public EmailQueueProcessor(EmailSender emailSender,
+                               @Value("${email.dispatch.rate-per-second}") double ratePerSecond,
+                               @Value("${email.dispatch.burst}") int burst,
+                               @Value("${email.dispatch.max-concurrency}") int maxConcurrency,
+                               @Value("${email.dispatch.max-attempts}") int maxAttempts,
+                               @Value("${email.dispatch.initial-backoff-ms}")
+                               long initialBackoffMillis,
+                               @Value("${email.dispatch.max-backoff-ms}") long maxBackoffMillis,
+                               @Value("${email.dispatch.batch-size}") int batchSize,
+                               @Value("${email.dispatch.batch-window-ms}")
+                               long batchWindowMillis) {
         this.emailSender = emailSender;
+        this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond, burst);
+        this.concurrencyLimit = new Semaphore(maxConcurrency);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.batchSize = batchSize;
+        this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+    }
+
+    public record EmailDispatchStats(int queueDepth, int inFlight, long sent, long failed,
+                                     long retried, double averageLatencyMillis,
+                                     long maxLatencyMillis) {}
+
+    public interface EmailDeliveryCallback {
+        default boolean onSending(EmailService.EmailRequest emailRequest) {
+            return true;
+        }
+
+        void onSent(EmailService.EmailRequest emailRequest);
+
+        void onFailed(EmailService.EmailRequest emailRequest, String error);
     }
 
     public void queueEmail(EmailService.EmailRequest emailRequest) {
+        queueEmail(emailRequest, NO_CALLBACK);
+    }
+
+    public void queueEmail(EmailService.EmailRequest emailRequest,
+                           EmailDeliveryCallback callback) {
         try {
-            emailQueue.put(emailRequest);
-            logger.info("Email queued: {}", emailRequest.toEmail());
+            emailQueue.put(new QueuedEmail(emailRequest, callback, System.nanoTime()));
+            logger.debug("Email queued: {}", emailRequest.toEmail());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             logger.error("Email queue interrupted: {}", e.getMessage());
         }
     }
 
+    public EmailDispatchStats getStats() {
+        long sentCount = sent.sum();
+        return new EmailDispatchStats(emailQueue.size(), inFlight.get(), sentCount,
+                failed.sum(), retried.sum(),
+                sentCount == 0 ? 0 : (double) totalLatencyMillis.sum() / sentCount,
+                maxLatencyMillis.get());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(EMAIL_QUEUE_DEPTH, emailQueue, BlockingQueue::size).register(registry);
+        Gauge.builder(EMAIL_IN_FLIGHT, inFlight, AtomicInteger::get).register(registry);
+        FunctionCounter.builder(EMAIL_SENT, sent, LongAdder::sum).register(registry);
+        FunctionCounter.builder(EMAIL_FAILED, failed, LongAdder::sum).register(registry);
+        FunctionCounter.builder(EMAIL_RETRIED, retried, LongAdder::sum).register(registry);
+        // Send latency covers only the provider call; delivery latency runs from queueing to
+        // the successful send, so it also includes rate limiting, batching and retry backoff
+        sendLatency = Timer.builder(EMAIL_SEND_LATENCY)
+                .publishPercentileHistogram()
+                .register(registry);
+        deliveryLatency = Timer.builder(EMAIL_DELIVERY_LATENCY)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
     @PostConstruct
     public void start() {
-        workerThread = new Thread(this::processQueue, "EmailWorkerThread");
-        workerThread.start();
-        logger.info("EmailWorkerThread started");
+        sendExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("EmailSender-", 0).factory());
+        dispatcherThread = Thread.ofVirtual().name("EmailDispatcher").start(this::processQueue);
+        logger.info("EmailDispatcher started");
     }
 
     @PreDestroy
     public void stop() {
-        if (workerThread != null) {
-            workerThread.interrupt();
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+            sendExecutor.shutdown();
             try {
-                workerThread.join(DELAY_FOR_THREAD_STOP);
-                logger.info("EmailWorkerThread stopped");
+                dispatcherThread.join(DELAY_FOR_THREAD_STOP);
+                if (!sendExecutor.awaitTermination(DELAY_FOR_THREAD_STOP, TimeUnit.MILLISECONDS)) {
+                    sendExecutor.shutdownNow();
+                }
+                logger.info("EmailDispatcher stopped, {} emails left in queue", emailQueue.size());
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                logger.warn("EmailWorkerThread did not stop gracefully: {}", e.getMessage());
+                logger.warn("EmailDispatcher did not stop gracefully: {}", e.getMessage());
             }
         }
     }
@@ -58,15 +172,179 @@ public class EmailQueueProcessor {
     private void processQueue() {
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                EmailService.EmailRequest request = emailQueue.take();
-                emailSender.send(request);
-                TimeUnit.MILLISECONDS.sleep(DELAY_FOR_EMAIL_SEND);
+                List<QueuedEmail> batch = takeBatch();
+                concurrencyLimit.acquire();
+                inFlight.addAndGet(batch.size());
+                sendExecutor.execute(() -> {
+                    try {
+                        sendWithRetry(batch);
+                    } finally {
+                        inFlight.addAndGet(-batch.size());
+                        concurrencyLimit.release();
+                    }
+                });
             } catch (InterruptedException e) {
-                logger.info("EmailWorkerThread interrupted");
+                logger.info("EmailDispatcher interrupted");
                 Thread.currentThread().interrupt();
             } catch (Exception e) {
                 logger.error("Unexpected error: {}", e.getMessage());
             }
         }
     }
+
+    private List<QueuedEmail> takeBatch() throws InterruptedException {
+        List<QueuedEmail> batch = new ArrayList<>(batchSize);
+        batch.add(emailQueue.take());
+        long deadline = System.nanoTime() + batchWindowNanos;
+        while (batch.size() < batchSize) {
+            emailQueue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            QueuedEmail next = emailQueue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void sendWithRetry(List<QueuedEmail> batch) {
+        List<QueuedEmail> pending = batch;
+        String lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                rateLimiter.acquire();
+                pending = pending.stream()
+                        .filter(this::notifySending)
+                        .toList();
+                if (pending.isEmpty()) {
+                    return;
+                }
+                Map<EmailService.EmailRequest, String> errors = new HashMap<>();
+                for (EmailSender.FailedEmail failedEmail : sendBatch(pending)) {
+                    errors.put(failedEmail.request(), failedEmail.error());
+                }
+                recordSent(pending.stream()
+                        .filter(queuedEmail -> !errors.containsKey(queuedEmail.request()))
+                        .toList());
+                if (errors.isEmpty()) {
+                    return;
+                }
+                pending = pending.stream()
+                        .filter(queuedEmail -> errors.containsKey(queuedEmail.request()))
+                        .toList();
+                lastError = errors.values().iterator().next();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                lastError = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            }
+            if (attempt == maxAttempts) {
+                logger.error("Failed to send {} emails after {} attempts: {}",
+                        pending.size(), attempt, lastError);
+            } else {
+                long backoffMillis = getBackoffMillis(attempt);
+                retried.add(pending.size());
+                logger.warn("Attempt {} to send {} emails failed, retrying in {} ms: {}",
+                        attempt, pending.size(), backoffMillis, lastError);
+                if (!sleep(backoffMillis)) {
+                    break;
+                }
+            }
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        for (QueuedEmail queuedEmail : pending) {
+            failed.increment();
+            notifyFailed(queuedEmail, lastError);
+        }
+    }
+
+    private List<EmailSender.FailedEmail> sendBatch(List<QueuedEmail> pending) {
+        long start = System.nanoTime();
+        try {
+            return emailSender.sendBatch(pending.stream()
+                    .map(QueuedEmail::request)
+                    .toList());
+        } finally {
+            Timer latencyTimer = sendLatency;
+            if (latencyTimer != null) {
+                latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void recordSent(List<QueuedEmail> delivered) {
+        long now = System.nanoTime();
+        Timer latencyTimer = deliveryLatency;
+        for (QueuedEmail queuedEmail : delivered) {
+            long latencyNanos = now - queuedEmail.queuedAt();
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+            sent.increment();
+            totalLatencyMillis.add(latencyMillis);
+            maxLatencyMillis.accumulate(latencyMillis);
+            if (latencyTimer != null) {
+                latencyTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+            }
+            notifySent(queuedEmail);
+        }
+    }
+
+    long getBackoffMillis(int attempt) {
+        long backoffMillis = initialBackoffMillis;
+        for (int i = 1; i < attempt && backoffMillis < maxBackoffMillis; i++) {
+            backoffMillis *= 2;
+        }
+        return Math.min(backoffMillis, maxBackoffMillis);
+    }
+
+    private boolean notifySending(QueuedEmail queuedEmail) {
+        try {
+            if (queuedEmail.callback().onSending(queuedEmail.request())) {
+                return true;
+            }
+            logger.warn("Email to {} is no longer claimed by this node, skipping it",
+                    queuedEmail.request().toEmail());
+        } catch (RuntimeException e) {
+            logger.error("Couldn't confirm claim on email to {}, skipping it: {}",
+                    queuedEmail.request().toEmail(), e.getMessage());
+        }
+        return false;
+    }
+
+    private void notifySent(QueuedEmail queuedEmail) {
+        try {
+            queuedEmail.callback().onSent(queuedEmail.request());
+        } catch (RuntimeException e) {
+            logger.error("Delivery callback failed for sent email to {}: {}",
+                    queuedEmail.request().toEmail(), e.getMessage());
+        }
+    }
+
+    private void notifyFailed(QueuedEmail queuedEmail, String error) {
+        try {
+            queuedEmail.callback().onFailed(queuedEmail.request(), error);
+        } catch (RuntimeException e) {
+            logger.error("Delivery callback failed for undelivered email to {}: {}",
+                    queuedEmail.request().toEmail(), e.getMessage());
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record QueuedEmail(EmailService.EmailRequest request,
+                               EmailDeliveryCallback callback, long queuedAt) {}
 }
@@ -1,7 +1,23 @@
 package com.example.taskmanagementapp.service.email.utils;
 
 import com.example.taskmanagementapp.service.email.EmailService;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface EmailSender {
     void send(EmailService.EmailRequest emailRequest);
+
+    default List<FailedEmail> sendBatch(List<EmailService.EmailRequest> emailRequests) {
+        List<FailedEmail> failedEmails = new ArrayList<>();
+        for (EmailService.EmailRequest emailRequest : emailRequests) {
+            try {
+                send(emailRequest);
+            } catch (RuntimeException e) {
+                failedEmails.add(new FailedEmail(emailRequest, e.getMessage()));
+            }
+        }
+        return failedEmails;
+    }
+
+    record FailedEmail(EmailService.EmailRequest request, String error) {}
 }
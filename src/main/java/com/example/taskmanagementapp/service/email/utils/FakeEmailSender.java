@@ -0,0 +1,97 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import static com.example.taskmanagementapp.constant.Constants.LOADTEST_PROFILE;
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.DATAGEN_PROFILE;
+import static com.example.taskmanagementapp.constant.service.email.EmailDispatchConstants.FAKE_MAILBOX_CAPACITY;
+
+import com.example.taskmanagementapp.exception.EmailDeliveryException;
+import com.example.taskmanagementapp.service.email.EmailService;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+@Service
+@Profile({LOADTEST_PROFILE, DATAGEN_PROFILE})
+@ConditionalOnProperty(name = "email.sender", havingValue = "fake")
+public class FakeEmailSender implements EmailSender {
+    private static final Logger logger = LogManager.getLogger(FakeEmailSender.class);
+
+    private final long latencyMillis;
+    private final double failureRate;
+    private final Map<String, BlockingQueue<EmailService.EmailRequest>> mailboxes =
+            new ConcurrentHashMap<>();
+
+    public FakeEmailSender(@Value("${email.fake.latency-ms}") long latencyMillis,
+                           @Value("${email.fake.failure-rate}") double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public void send(EmailService.EmailRequest emailRequest) {
+        simulateCall(emailRequest.toEmail());
+        deliver(emailRequest);
+        logger.debug("Fake email sent to {}", emailRequest.toEmail());
+    }
+
+    @Override
+    public List<FailedEmail> sendBatch(List<EmailService.EmailRequest> emailRequests) {
+        try {
+            simulateCall("batch of " + emailRequests.size());
+        } catch (EmailDeliveryException e) {
+            return emailRequests.stream()
+                    .map(emailRequest -> new FailedEmail(emailRequest, e.getMessage()))
+                    .toList();
+        }
+        emailRequests.forEach(this::deliver);
+        logger.debug("Fake batch of {} emails sent", emailRequests.size());
+        return List.of();
+    }
+
+    public Optional<EmailService.EmailRequest> takeEmail(String toEmail, long timeout,
+                                                         TimeUnit unit)
+            throws InterruptedException {
+        return Optional.ofNullable(mailbox(toEmail).poll(timeout, unit));
+    }
+
+    public void clearEmails(String toEmail) {
+        mailbox(toEmail).clear();
+    }
+
+    private void deliver(EmailService.EmailRequest emailRequest) {
+        BlockingQueue<EmailService.EmailRequest> mailbox = mailbox(emailRequest.toEmail());
+        //Mail nobody reads must not pile up for the whole run, so the oldest is dropped
+        while (!mailbox.offer(emailRequest)) {
+            mailbox.poll();
+        }
+    }
+
+    private BlockingQueue<EmailService.EmailRequest> mailbox(String toEmail) {
+        return mailboxes.computeIfAbsent(toEmail,
+                email -> new ArrayBlockingQueue<>(FAKE_MAILBOX_CAPACITY));
+    }
+
+    private void simulateCall(String recipient) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailDeliveryException("Interrupted while sending email to "
+                    + recipient, e);
+        }
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new EmailDeliveryException("Simulated failure for " + recipient, null);
+        }
+    }
+}
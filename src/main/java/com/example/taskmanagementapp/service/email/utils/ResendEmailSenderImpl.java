@@ -1,41 +1,83 @@
 package com.example.taskmanagementapp.service.email.utils;
 
+import static com.example.taskmanagementapp.constant.service.email.EmailDispatchConstants.MAX_RESEND_BATCH_SIZE;
+
+import com.example.taskmanagementapp.exception.EmailDeliveryException;
 import com.example.taskmanagementapp.service.email.EmailService;
 import com.resend.Resend;
 import com.resend.core.exception.ResendException;
+import com.resend.services.batch.model.CreateBatchEmailsResponse;
 import com.resend.services.emails.model.CreateEmailOptions;
 import com.resend.services.emails.model.CreateEmailResponse;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
+@ConditionalOnProperty(name = "email.sender", havingValue = "resend", matchIfMissing = true)
 public class ResendEmailSenderImpl implements EmailSender {
     private static final Logger logger = LogManager.getLogger(ResendEmailSenderImpl.class);
 
     private final Resend resendClient;
     private final String senderEmail;
 
+    @Autowired
     public ResendEmailSenderImpl(@Value("${resend.api.key}") String apiKey,
                                  @Value("${mail}") String senderEmail) {
-        this.resendClient = new Resend(apiKey);
+        this(new Resend(apiKey), senderEmail);
+    }
+
+    ResendEmailSenderImpl(Resend resendClient, String senderEmail) {
+        this.resendClient = resendClient;
         this.senderEmail = senderEmail;
     }
 
     @Override
     public void send(EmailService.EmailRequest emailRequest) {
-        CreateEmailOptions params = CreateEmailOptions.builder()
+        try {
+            CreateEmailResponse response = resendClient.emails().send(toOptions(emailRequest));
+            logger.debug("Email sent to {} with ID: {}", emailRequest.toEmail(), response.getId());
+        } catch (ResendException e) {
+            throw new EmailDeliveryException("Failed to send email to "
+                    + emailRequest.toEmail(), e);
+        }
+    }
+
+    @Override
+    public List<FailedEmail> sendBatch(List<EmailService.EmailRequest> emailRequests) {
+        if (emailRequests.size() == 1) {
+            return EmailSender.super.sendBatch(emailRequests);
+        }
+        List<FailedEmail> failedEmails = new ArrayList<>();
+        for (int from = 0; from < emailRequests.size(); from += MAX_RESEND_BATCH_SIZE) {
+            List<EmailService.EmailRequest> chunk = emailRequests.subList(from,
+                    Math.min(from + MAX_RESEND_BATCH_SIZE, emailRequests.size()));
+            try {
+                CreateBatchEmailsResponse response = resendClient.batch().send(chunk.stream()
+                        .map(this::toOptions)
+                        .toList());
+                logger.debug("Batch of {} emails sent", response.getData().size());
+            } catch (ResendException | RuntimeException e) {
+                String error = "Failed to send batch of " + chunk.size() + " emails: "
+                        + e.getMessage();
+                chunk.forEach(emailRequest ->
+                        failedEmails.add(new FailedEmail(emailRequest, error)));
+            }
+        }
+        return failedEmails;
+    }
+
+    private CreateEmailOptions toOptions(EmailService.EmailRequest emailRequest) {
+        return CreateEmailOptions.builder()
                 .from(senderEmail)
                 .to(emailRequest.toEmail())
                 .subject(emailRequest.subject())
                 .text(emailRequest.body())
                 .build();
-        try {
-            CreateEmailResponse response = resendClient.emails().send(params);
-            logger.info("Email sent to {} with ID: {}", emailRequest.toEmail(), response.getId());
-        } catch (ResendException e) {
-            logger.error("Failed to send email to {}: {}", emailRequest.toEmail(), e.getMessage());
-        }
     }
 }
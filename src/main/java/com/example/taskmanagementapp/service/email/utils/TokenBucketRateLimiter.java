@@ -0,0 +1,56 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double capacity;
+    private final double nanosPerToken;
+    private final LongSupplier nanoClock;
+    private double availableTokens;
+    private long lastRefill;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burstCapacity) {
+        this(permitsPerSecond, burstCapacity, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burstCapacity, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burstCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Rate and burst capacity of a rate limiter must be positive");
+        }
+        this.capacity = burstCapacity;
+        this.nanosPerToken = NANOS_PER_SECOND / permitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.availableTokens = burstCapacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    long tryAcquire() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            availableTokens = Math.min(capacity,
+                    availableTokens + (now - lastRefill) / nanosPerToken);
+            lastRefill = now;
+            if (availableTokens >= 1) {
+                availableTokens--;
+                return 0;
+            }
+            return (long) Math.ceil((1 - availableTokens) * nanosPerToken);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
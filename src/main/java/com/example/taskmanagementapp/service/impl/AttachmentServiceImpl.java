@@ -1,9 +1,8 @@
 package com.example.taskmanagementapp.service.impl;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.SERVICE_TIMER;
+
 import com.dropbox.core.DbxException;
-import com.dropbox.core.v2.DbxClientV2;
-import com.dropbox.core.v2.sharing.CreateSharedLinkWithSettingsErrorException;
-import com.dropbox.core.v2.sharing.ListSharedLinksResult;
 import com.example.taskmanagementapp.dto.attachment.response.AttachmentResponse;
 import com.example.taskmanagementapp.entity.Attachment;
 import com.example.taskmanagementapp.entity.Task;
@@ -13,28 +12,36 @@ import com.example.taskmanagementapp.mapper.AttachmentMapper;
 import com.example.taskmanagementapp.repository.AttachmentRepository;
 import com.example.taskmanagementapp.repository.TaskRepository;
 import com.example.taskmanagementapp.service.AttachmentService;
+import com.example.taskmanagementapp.service.storage.AttachmentStorage;
 import com.example.taskmanagementapp.service.utils.ProjectAuthorityUtil;
-import com.example.taskmanagementapp.service.utils.TransliterationUtil;
+import io.micrometer.core.annotation.Timed;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = SERVICE_TIMER, histogram = true)
 public class AttachmentServiceImpl implements AttachmentService {
-    private final DbxClientV2 client;
+    private static final Logger logger = LogManager.getLogger(AttachmentServiceImpl.class);
+
+    private final AttachmentStorage attachmentStorage;
     private final AttachmentRepository attachmentRepository;
     private final TaskRepository taskRepository;
     private final AttachmentMapper attachmentMapper;
     private final ProjectAuthorityUtil projectAuthorityUtil;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<AttachmentResponse> uploadAttachmentForTask(Long authenticatedUserId, Long taskId,
                                             MultipartFile[] uploadFiles) throws ForbiddenException,
                                             IOException, DbxException {
@@ -42,8 +49,20 @@ public class AttachmentServiceImpl implements AttachmentService {
         Long thisTaskProjectId = task.getProject().getId();
 
         if (projectAuthorityUtil.hasAnyAuthority(thisTaskProjectId, authenticatedUserId)) {
-            List<Attachment> attachments = uploadFilesToDropbox(uploadFiles, task);
-            return attachmentMapper.toAttachmentDtoList(attachmentRepository.saveAll(attachments));
+            List<AttachmentStorage.StoredFile> storedFiles =
+                    attachmentStorage.storeAll(taskId, uploadFiles);
+            List<Attachment> attachments;
+            try {
+                attachments = attachmentRepository.saveAll(storedFiles.stream()
+                        .map(storedFile -> attachmentMapper.toAttachment(
+                                task, storedFile.fileId(), storedFile.fileName()))
+                        .toList());
+            } catch (RuntimeException e) {
+                // No row points at the stored content, so it is removed again
+                deleteStoredFiles(taskId, storedFiles);
+                throw e;
+            }
+            return attachmentMapper.toAttachmentDtoList(attachments);
         } else {
             throw new ForbiddenException("You have no permission to add attachment to task "
                     + taskId + " since you are not in project " + thisTaskProjectId);
@@ -51,6 +70,7 @@ public class AttachmentServiceImpl implements AttachmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AttachmentResponse> getAttachmentForTask(Long authenticatedUserId, Long taskId)
             throws ForbiddenException {
         Task task = getTaskById(taskId);
@@ -65,67 +85,71 @@ public class AttachmentServiceImpl implements AttachmentService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentStorage.AttachmentDownload getAttachmentDownload(Long authenticatedUserId,
+                                                                      Long taskId,
+                                                                      Long attachmentId)
+            throws ForbiddenException, IOException {
+        Task task = getTaskById(taskId);
+        Attachment attachment = getAttachmentOfTask(attachmentId, taskId);
+        Long thisTaskProjectId = task.getProject().getId();
+
+        if (projectAuthorityUtil.hasAnyAuthority(thisTaskProjectId, authenticatedUserId)) {
+            return attachmentStorage.getDownload(attachment.getFileId(), attachment.getFileName());
+        } else {
+            throw new ForbiddenException("You have no permission to download attachment of task "
+                    + taskId + " since you are not in project " + thisTaskProjectId);
+        }
+    }
+
     @Override
     public void deleteAttachmentFromTask(Long authenticatedUserId, Long taskId, Long attachmentId)
-            throws DbxException, ForbiddenException {
+            throws IOException, DbxException, ForbiddenException {
         Task task = getTaskById(taskId);
-        Attachment attachment = attachmentRepository.findById(attachmentId).orElseThrow(
-                () -> new EntityNotFoundException("Attachment with id "
-                + attachmentId + " not found"));
+        Attachment attachment = getAttachmentOfTask(attachmentId, taskId);
 
         Long thisTaskProjectId = task.getProject().getId();
 
         if (projectAuthorityUtil.hasAnyAuthority(thisTaskProjectId, authenticatedUserId)) {
-            client.files().deleteV2("/task" + taskId
-                    + "/" + attachment.getFileName());
             attachmentRepository.deleteById(attachmentId);
+            deleteContentAfterCommit(taskId, attachment);
         } else {
             throw new ForbiddenException("You have no permission to delete attachment from task "
                     + taskId + " since you are not in project " + thisTaskProjectId);
         }
     }
 
-    private List<Attachment> uploadFilesToDropbox(MultipartFile[] uploadFiles, Task task)
-                                                        throws IOException, DbxException {
-        List<Attachment> attachments = new ArrayList<>();
-        for (MultipartFile uploadFile : uploadFiles) {
-            String fileName = TransliterationUtil
-                    .transliterate(uploadFile.getOriginalFilename());
-            try (InputStream stream = uploadFile.getInputStream()) {
-                client.files().uploadBuilder("/task" + task.getId() + "/"
-                        + fileName).uploadAndFinish(stream);
+    private void deleteStoredFiles(Long taskId, List<AttachmentStorage.StoredFile> storedFiles) {
+        for (AttachmentStorage.StoredFile storedFile : storedFiles) {
+            try {
+                attachmentStorage.delete(taskId, storedFile.fileName(), storedFile.fileId());
+            } catch (IOException | DbxException | RuntimeException e) {
+                logger.warn("Failed to delete stored file {} of task {} after failed save",
+                        storedFile.fileId(), taskId, e);
             }
-            String sharedLink = makeDropboxLinkToRawFile(getOrCreateSharedLink(client,
-                    "/task" + task.getId() + "/" + fileName));
-            Attachment thisAttachment = attachmentMapper.toAttachment(
-                    task, sharedLink, fileName);
-            attachments.add(thisAttachment);
         }
-        return attachments;
     }
 
-    private String getOrCreateSharedLink(DbxClientV2 client, String dropboxPath)
-            throws DbxException {
-        try {
-            return client.sharing()
-                    .createSharedLinkWithSettings(dropboxPath)
-                    .getUrl();
-        } catch (CreateSharedLinkWithSettingsErrorException e) {
-            if (e.errorValue.isSharedLinkAlreadyExists()) {
-                ListSharedLinksResult existingLinks = client.sharing().listSharedLinksBuilder()
-                        .withPath(dropboxPath)
-                        .withDirectOnly(true)
-                        .start();
-                if (!existingLinks.getLinks().isEmpty()) {
-                    return existingLinks.getLinks().getFirst().getUrl();
-                }
-            }
-            throw e;
+    private void deleteContentAfterCommit(Long taskId, Attachment attachment)
+            throws IOException, DbxException {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            attachmentStorage.delete(taskId, attachment.getFileName(), attachment.getFileId());
+            return;
         }
-    }
-
-    private String makeDropboxLinkToRawFile(String link) {
-        return link.replace("dl=0", "raw=1");
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        try {
+                            attachmentStorage.delete(taskId, attachment.getFileName(),
+                                    attachment.getFileId());
+                        } catch (IOException | DbxException | RuntimeException e) {
+                            logger.warn("Failed to delete content of attachment {}",
+                                    attachment.getId(), e);
+                        }
+                    }
+                });
     }
 
     private Task getTaskById(Long taskId) {
@@ -133,4 +157,11 @@ public class AttachmentServiceImpl implements AttachmentService {
                 () -> new EntityNotFoundException("Active task with id "
                         + taskId + " not found"));
     }
+
+    private Attachment getAttachmentOfTask(Long attachmentId, Long taskId) {
+        return attachmentRepository.findById(attachmentId)
+                .filter(attachment -> attachment.getTask().getId().equals(taskId))
+                .orElseThrow(() -> new EntityNotFoundException("Attachment with id "
+                        + attachmentId + " not found"));
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.taskmanagementapp.service.impl;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.SERVICE_TIMER;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.ACCOUNT_IS_LOCKED;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.CHECK_YOUR_EMAIL;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.DIVIDER;
@@ -35,6 +36,7 @@ import com.example.taskmanagementapp.exception.RegistrationException;
 import com.example.taskmanagementapp.mapper.UserMapper;
 import com.example.taskmanagementapp.repository.RoleRepository;
 import com.example.taskmanagementapp.repository.UserRepository;
+import com.example.taskmanagementapp.security.PrincipalCache;
 import com.example.taskmanagementapp.security.jwtutil.abstr.JwtAbstractUtil;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtStrategy;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtType;
@@ -44,6 +46,7 @@ import com.example.taskmanagementapp.service.email.RegisterConfirmEmailService;
 import com.example.taskmanagementapp.service.utils.ParamFromHttpRequestUtil;
 import com.example.taskmanagementapp.service.utils.RandomStringUtil;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
@@ -57,6 +60,7 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
+@Timed(value = SERVICE_TIMER, histogram = true)
 public class AuthenticationServiceImpl implements AuthenticationService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
@@ -67,6 +71,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final RegisterConfirmEmailService registerConfirmEmailService;
     private final ParamFromHttpRequestUtil paramFromHttpRequestUtil;
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
     private final Long accessExpiration;
     private final Long refreshExpiration;
 
@@ -79,6 +84,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                                      RegisterConfirmEmailService registerConfirmEmailService,
                                      ParamFromHttpRequestUtil paramFromHttpRequestUtil,
                                      RoleRepository roleRepository,
+                                     PrincipalCache principalCache,
                                      @Value("${jwt.access.expiration}") Long accessExpiration,
                                      @Value("${jwt.refresh.expiration}") Long refreshExpiration) {
         this.userRepository = userRepository;
@@ -90,6 +96,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         this.registerConfirmEmailService = registerConfirmEmailService;
         this.paramFromHttpRequestUtil = paramFromHttpRequestUtil;
         this.roleRepository = roleRepository;
+        this.principalCache = principalCache;
         this.accessExpiration = accessExpiration;
         this.refreshExpiration = refreshExpiration;
     }
@@ -144,6 +151,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 new EntityNotFoundException("User with email " + email + " was not found"));
         user.setPassword(passwordEncoder.encode(randomPassword));
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
         passwordEmailService.sendResetPassword(email, randomPassword);
         return new ResetLinkSentResponse(CHECK_YOUR_EMAIL);
     }
@@ -158,6 +166,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         user.setPassword(passwordEncoder
                 .encode(userSetNewPasswordRequestDto.newPassword()));
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
         return new PasswordChangeResponse(PASSWORD_SET_SUCCESSFULLY);
     }
 
@@ -193,6 +202,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         user.setEnabled(true);
         user.setAccountNonLocked(true);
         userRepository.save(user);
+        principalCache.evict(user.getUsername());
         return new RegistrationConfirmationResponse(REGISTRATION_CONFIRMED);
     }
 
@@ -1,8 +1,15 @@
 package com.example.taskmanagementapp.service.impl;
 
+import static com.example.taskmanagementapp.constant.Constants.FIRST_PAGE_TIMESTAMP;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.SERVICE_TIMER;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.decode;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.limitFor;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.toPage;
+
 import com.example.taskmanagementapp.dto.comment.request.CommentRequest;
 import com.example.taskmanagementapp.dto.comment.request.UpdateCommentRequest;
 import com.example.taskmanagementapp.dto.comment.response.CommentResponse;
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
 import com.example.taskmanagementapp.entity.Comment;
 import com.example.taskmanagementapp.entity.Task;
 import com.example.taskmanagementapp.entity.User;
@@ -12,7 +19,9 @@ import com.example.taskmanagementapp.mapper.CommentMapper;
 import com.example.taskmanagementapp.repository.CommentRepository;
 import com.example.taskmanagementapp.repository.TaskRepository;
 import com.example.taskmanagementapp.service.CommentService;
+import com.example.taskmanagementapp.service.utils.CursorPaginationUtil;
 import com.example.taskmanagementapp.service.utils.ProjectAuthorityUtil;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +31,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = SERVICE_TIMER, histogram = true)
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
@@ -65,6 +75,7 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CommentResponse> getAllComments(Long authenticatedUserId, Long taskId,
                                                 Pageable pageable) throws ForbiddenException {
         Long thisProjectId = getProjectIdForTaskWithId(taskId);
@@ -78,6 +89,28 @@ public class CommentServiceImpl implements CommentService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getAllCommentsByCursor(Long authenticatedUserId,
+                                                                      Long taskId,
+                                                                      String cursor,
+                                                                      int size)
+            throws ForbiddenException {
+        Long thisProjectId = getProjectIdForTaskWithId(taskId);
+
+        if (projectAuthorityUtil.hasAnyAuthority(thisProjectId, authenticatedUserId)) {
+            CursorPaginationUtil.PageCursor pageCursor = decode(cursor);
+            List<Comment> comments = commentRepository.findAllByTaskIdAfter(taskId,
+                    pageCursor.sortKeyAsTimestampOr(FIRST_PAGE_TIMESTAMP), pageCursor.lastId(),
+                    limitFor(size));
+            return toPage(comments, size, commentMapper::toCommentDtoList,
+                    comment -> comment.getTimestamp().toString(), Comment::getId);
+        } else {
+            throw new ForbiddenException("You can't get comments for task " + taskId
+                    + " since you are not participant in project " + thisProjectId);
+        }
+    }
+
     @Override
     public void deleteComment(Long authenticatedUserId, Long commentId) throws ForbiddenException {
         Comment thisComment = getCommentByIdAndUserId(commentId, authenticatedUserId);
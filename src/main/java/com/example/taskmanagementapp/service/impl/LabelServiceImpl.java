@@ -1,5 +1,7 @@
 package com.example.taskmanagementapp.service.impl;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.SERVICE_TIMER;
+
 import com.example.taskmanagementapp.dto.comment.request.ColorDto;
 import com.example.taskmanagementapp.dto.label.request.LabelRequest;
 import com.example.taskmanagementapp.dto.label.request.UpdateLabelRequest;
@@ -14,7 +16,9 @@ import com.example.taskmanagementapp.repository.LabelRepository;
 import com.example.taskmanagementapp.repository.TaskRepository;
 import com.example.taskmanagementapp.service.LabelService;
 import com.example.taskmanagementapp.service.utils.ProjectAuthorityUtil;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = SERVICE_TIMER, histogram = true)
 public class LabelServiceImpl implements LabelService {
     private final LabelRepository labelRepository;
     private final TaskRepository taskRepository;
@@ -31,7 +36,7 @@ public class LabelServiceImpl implements LabelService {
 
     @Override
     public LabelResponse createLabel(User user, ColorDto colorDto, LabelRequest labelDto) {
-        return labelMapper.toLabelDto(
+        return toLabelDto(
                 labelRepository.save(
                         labelMapper.toAddLabel(user, labelDto, colorDto)));
     }
@@ -46,19 +51,21 @@ public class LabelServiceImpl implements LabelService {
         if (labelDto.name() != null && !labelDto.name().isBlank()) {
             label.setName(labelDto.name());
         }
-        return labelMapper.toLabelDto(labelRepository.save(label));
+        return toLabelDto(labelRepository.save(label));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public LabelResponse getLabelById(Long authenticatedUserId, Long id) {
-        return labelMapper.toLabelDto(labelRepository.findByIdAndUserId(id, authenticatedUserId)
+        return toLabelDto(labelRepository.findByIdAndUserId(id, authenticatedUserId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "No label with id " + id + " for user with id " + authenticatedUserId)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<LabelResponse> getAllLabels(Long authenticatedUserId, Pageable pageable) {
-        return labelMapper.toLabelDtoList(
+        return toLabelDtoList(
                 labelRepository.findAllByUserId(authenticatedUserId, pageable).getContent());
     }
 
@@ -75,14 +82,13 @@ public class LabelServiceImpl implements LabelService {
     @Override
     public void attachLabelToTask(Long authenticatedUserId, Long taskId, Long labelId)
                                                         throws ForbiddenException {
-        Label thisLabel = getLabelByIdAndUserId(labelId, authenticatedUserId);
+        checkLabelExists(labelId, authenticatedUserId);
         Task thisTask = getTaskById(taskId);
         isUserAssignee(thisTask, authenticatedUserId, Action.ATTACH);
         Long thisProjectId = thisTask.getProject().getId();
 
         if (projectAuthorityUtil.hasAnyAuthority(thisProjectId, authenticatedUserId)) {
-            thisLabel.getTasks().add(thisTask);
-            labelRepository.save(thisLabel);
+            labelRepository.addLabelLink(labelId, taskId);
         } else {
             throw new ForbiddenException("You can't attach label " + labelId
                     + " to task " + taskId + " since you are not in project " + thisProjectId);
@@ -92,14 +98,13 @@ public class LabelServiceImpl implements LabelService {
     @Override
     public void detachLabelFromTask(Long authenticatedUserId, Long taskId, Long labelId)
                                                 throws ForbiddenException {
-        Label thisLabel = getLabelByIdAndUserId(labelId, authenticatedUserId);
+        checkLabelExists(labelId, authenticatedUserId);
         Task thisTask = getTaskById(taskId);
         isUserAssignee(thisTask, authenticatedUserId, Action.DETACH);
         Long thisProjectId = thisTask.getProject().getId();
 
         if (projectAuthorityUtil.hasAnyAuthority(thisProjectId, authenticatedUserId)) {
-            thisLabel.getTasks().remove(thisTask);
-            labelRepository.save(thisLabel);
+            labelRepository.deleteLabelLink(labelId, taskId);
         } else {
             throw new ForbiddenException("You can't detach label " + labelId
                     + " from task " + taskId + " since you are not in project " + thisProjectId);
@@ -113,6 +118,31 @@ public class LabelServiceImpl implements LabelService {
                                 + userId));
     }
 
+    private LabelResponse toLabelDto(Label label) {
+        return toLabelDtoList(List.of(label)).getFirst();
+    }
+
+    private List<LabelResponse> toLabelDtoList(List<Label> labels) {
+        if (labels.isEmpty()) {
+            return List.of();
+        }
+        List<Long> labelIds = labels.stream()
+                .map(Label::getId)
+                .toList();
+        return labelMapper.toLabelDtoList(labels, new LabelMapper.LabelTasks(
+                labelRepository.findTaskIdsByLabelIdIn(labelIds).stream()
+                        .collect(Collectors.groupingBy(LabelRepository.LabelTaskId::getLabelId,
+                                Collectors.mapping(LabelRepository.LabelTaskId::getTaskId,
+                                        Collectors.toSet())))));
+    }
+
+    private void checkLabelExists(Long id, Long userId) {
+        if (!labelRepository.existsByIdAndUserId(id, userId)) {
+            throw new EntityNotFoundException(
+                    "No label with id " + id + " for user with id " + userId);
+        }
+    }
+
     private Task getTaskById(Long id) {
         return taskRepository.findByIdNotDeleted(
                 id).orElseThrow(
@@ -3,19 +3,25 @@ package com.example.taskmanagementapp.service.impl;
 import static com.example.taskmanagementapp.constant.Constants.FIRST_POSITION;
 import static com.example.taskmanagementapp.constant.Constants.SECOND_POSITION;
 import static com.example.taskmanagementapp.constant.Constants.THIRD_POSITION;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.SERVICE_TIMER;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.CANNOT_DELETE_MANAGER;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.CANNOT_DELETE_OWNER;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.NO_ACCESS_PERMISSION;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.NO_ACTION_TOKEN_FOUND;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.NO_OWNER_OR_MANAGER_PERMISSION;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.NO_OWNER_PERMISSION;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.decode;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.limitFor;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.toPage;
 import static com.example.taskmanagementapp.service.utils.UpdateValueValidatorUtil.areDatesValid;
 import static com.example.taskmanagementapp.service.utils.UpdateValueValidatorUtil.areStringsValid;
 
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
 import com.example.taskmanagementapp.dto.project.request.ProjectRequest;
 import com.example.taskmanagementapp.dto.project.request.ProjectStatusDto;
 import com.example.taskmanagementapp.dto.project.request.UpdateProjectRequest;
 import com.example.taskmanagementapp.dto.project.response.EmployeeAssignmentResponse;
+import com.example.taskmanagementapp.dto.project.response.ProjectDeletionResponse;
 import com.example.taskmanagementapp.dto.project.response.ProjectResponse;
 import com.example.taskmanagementapp.entity.ActionToken;
 import com.example.taskmanagementapp.entity.Project;
@@ -26,7 +32,6 @@ import com.example.taskmanagementapp.exception.EntityNotFoundException;
 import com.example.taskmanagementapp.exception.ForbiddenException;
 import com.example.taskmanagementapp.mapper.ProjectMapper;
 import com.example.taskmanagementapp.repository.ActionTokenRepository;
-import com.example.taskmanagementapp.repository.CommentRepository;
 import com.example.taskmanagementapp.repository.ProjectRepository;
 import com.example.taskmanagementapp.repository.TaskRepository;
 import com.example.taskmanagementapp.repository.UserRepository;
@@ -35,11 +40,16 @@ import com.example.taskmanagementapp.security.jwtutil.strategy.JwtStrategy;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtType;
 import com.example.taskmanagementapp.service.ProjectService;
 import com.example.taskmanagementapp.service.email.AssignmentToProjectEmailService;
+import com.example.taskmanagementapp.service.project.ProjectDeletionJob;
 import com.example.taskmanagementapp.service.utils.ParamFromHttpRequestUtil;
 import com.example.taskmanagementapp.service.utils.ProjectAuthorityUtil;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -48,10 +58,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = SERVICE_TIMER, histogram = true)
 public class ProjectServiceImpl implements ProjectService {
     private final ProjectMapper projectMapper;
     private final ProjectRepository projectRepository;
-    private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final AssignmentToProjectEmailService emailService;
@@ -59,6 +69,7 @@ public class ProjectServiceImpl implements ProjectService {
     private final JwtStrategy jwtStrategy;
     private final ActionTokenRepository actionTokenRepository;
     private final ProjectAuthorityUtil projectAuthorityUtil;
+    private final ProjectDeletionJob projectDeletionJob;
 
     @Override
     public ProjectResponse createProject(User user,
@@ -68,27 +79,58 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getAssignedProjects(Long userId, Pageable pageable) {
-        return projectMapper.toProjectDtoList(
-                projectRepository.findAllByEmployeeId(userId, pageable)
-                        .getContent());
+        return toProjectDtoList(
+                projectRepository.findAllByEmployeeId(userId, pageable).getContent());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getCreatedProjects(Long userId, Pageable pageable) {
-        return projectMapper.toProjectDtoList(
-                        projectRepository.findAllByOwnerId(userId, pageable)
-                                .getContent());
+        return toProjectDtoList(
+                projectRepository.findAllByOwnerId(userId, pageable).getContent());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getDeletedCreatedProjects(Long userId, Pageable pageable) {
-        return projectMapper.toProjectDtoList(
-                projectRepository.findAllByOwnerIdDeleted(userId, pageable)
-                        .getContent());
+        return toProjectDtoList(
+                projectRepository.findAllByOwnerIdDeleted(userId, pageable).getContent());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProjectResponse> getAssignedProjectsByCursor(Long userId,
+                                                                           String cursor,
+                                                                           int size) {
+        return toPage(projectRepository.findAllByEmployeeIdAfter(
+                        userId, decode(cursor).lastId(), limitFor(size)),
+                size, this::toProjectDtoList, Project::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProjectResponse> getCreatedProjectsByCursor(Long userId,
+                                                                          String cursor,
+                                                                          int size) {
+        return toPage(projectRepository.findAllByOwnerIdAfter(
+                        userId, decode(cursor).lastId(), limitFor(size)),
+                size, this::toProjectDtoList, Project::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProjectResponse> getDeletedCreatedProjectsByCursor(Long userId,
+                                                                                 String cursor,
+                                                                                 int size) {
+        return toPage(projectRepository.findAllByOwnerIdDeletedAfter(
+                        userId, decode(cursor).lastId(), limitFor(size)),
+                size, this::toProjectDtoList, Project::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long authenticatedUserId,
                                           Long projectId) throws ForbiddenException {
         Project project = getActiveProjectById(projectId);
@@ -114,7 +156,7 @@ public class ProjectServiceImpl implements ProjectService {
             throw new ForbiddenException(NO_ACCESS_PERMISSION);
         }
         if (exceptions.isEmpty()) {
-            return projectMapper.toProjectDto(projectRepository.save(project));
+            return toProjectDto(projectRepository.save(project));
         } else {
             throw accumulateExceptions(exceptions);
         }
@@ -126,16 +168,29 @@ public class ProjectServiceImpl implements ProjectService {
         if (!projectRepository.existsByIdNotDeleted(projectId)) {
             throw new EntityNotFoundException("No active project with id " + projectId);
         }
-        if (projectRepository.isUserOwner(projectId, authenticatedUserId)) {
-            taskRepository.findAllByProjectIdNonDeleted(projectId, Pageable.unpaged())
-                    .forEach(task -> commentRepository.deleteAllByTaskId(task.getId()));
-            taskRepository.deleteAllByProjectId(projectId);
+        if (projectAuthorityUtil.isOwner(projectId, authenticatedUserId)) {
             projectRepository.deleteById(projectId);
+            projectAuthorityUtil.evictProject(projectId);
+            projectDeletionJob.scheduleAfterCommit(projectId);
         } else {
             throw new ForbiddenException(NO_OWNER_PERMISSION);
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectDeletionResponse getProjectDeletionStatus(Long authenticatedUserId,
+                                                            Long projectId) {
+        if (!projectRepository.isUserOwnerOfDeleted(projectId, authenticatedUserId)) {
+            throw new EntityNotFoundException("No deleted project with id " + projectId);
+        }
+        return projectDeletionJob.getProgress(projectId).orElseGet(
+                () -> new ProjectDeletionResponse(projectId,
+                        taskRepository.existsByProjectIdNonDeleted(projectId)
+                                ? ProjectDeletionResponse.Status.PENDING
+                                : ProjectDeletionResponse.Status.COMPLETED, 0));
+    }
+
     @Override
     public EmployeeAssignmentResponse assignEmployeeToProject(User user,
                                                               Long projectId,
@@ -174,18 +229,19 @@ public class ProjectServiceImpl implements ProjectService {
 
         Long projectId = Long.parseLong(actionToken.substring(FIRST_POSITION, SECOND_POSITION));
 
-        Project project = getActiveProjectById(projectId);
+        final Project project = getActiveProjectById(projectId);
 
         Long assigneeId = Long.parseLong(actionToken.substring(SECOND_POSITION, THIRD_POSITION));
         User assignee = getUserById(assigneeId);
 
         boolean isNewEmployeeManager = actionToken.contains("true");
 
-        project.getEmployees().add(assignee);
+        projectRepository.addEmployee(projectId, assignee.getId());
         if (isNewEmployeeManager) {
-            project.getManagers().add(assignee);
+            projectRepository.addManager(projectId, assignee.getId());
         }
-        return projectMapper.toProjectDto(projectRepository.save(project));
+        projectAuthorityUtil.evictProject(projectId);
+        return toProjectDto(project);
     }
 
     @Override
@@ -198,15 +254,15 @@ public class ProjectServiceImpl implements ProjectService {
             if (project.getOwner().getId().equals(removedEmployee.getId())) {
                 throw new ForbiddenException(CANNOT_DELETE_OWNER);
             }
-            if (project.getManagers().contains(removedEmployee)
-                    && !projectRepository.isUserOwner(projectId, userId)) {
-                throw new ForbiddenException(CANNOT_DELETE_MANAGER);
-            } else if (project.getManagers().contains(removedEmployee)
-                    && projectRepository.isUserOwner(projectId, userId)) {
-                project.getManagers().remove(removedEmployee);
+            if (projectAuthorityUtil.isManager(projectId, removedEmployee.getId())) {
+                if (!projectAuthorityUtil.isOwner(projectId, userId)) {
+                    throw new ForbiddenException(CANNOT_DELETE_MANAGER);
+                }
+                projectRepository.removeManager(projectId, removedEmployee.getId());
             }
-            project.getEmployees().remove(removedEmployee);
-            return projectMapper.toProjectDto(projectRepository.save(project));
+            projectRepository.removeEmployee(projectId, removedEmployee.getId());
+            projectAuthorityUtil.evictProject(projectId);
+            return toProjectDto(project);
         } else {
             throw new ForbiddenException(
                     "You should be owner or manager of this project "
@@ -242,8 +298,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
         if (updateProjectDto.ownerId() != null
                 && !updateProjectDto.ownerId().equals(project.getOwner().getId())) {
-            if (project.getEmployees().stream().map(User::getId)
-                    .noneMatch(updateProjectDto.ownerId()::equals)) {
+            if (!projectAuthorityUtil.isEmployee(project.getId(), updateProjectDto.ownerId())) {
                 exceptions.add(new ConflictException(
                         "Can't assign this user as owner since "
                                 + "they are not employees of this project"));
@@ -251,7 +306,8 @@ public class ProjectServiceImpl implements ProjectService {
             if (project.getOwner().getId().equals(currentUserId)) {
                 User newOwner = getUserById(updateProjectDto.ownerId());
                 project.setOwner(newOwner);
-                project.getManagers().add(newOwner);
+                projectRepository.addManager(project.getId(), newOwner.getId());
+                projectAuthorityUtil.evictProject(project.getId());
             } else {
                 exceptions.add(new ConflictException("Only owner can assign new owner"));
             }
@@ -283,4 +339,28 @@ public class ProjectServiceImpl implements ProjectService {
         return projectRepository.findByIdNotDeleted(projectId).orElseThrow(
                 () -> new EntityNotFoundException("No active project with id " + projectId));
     }
+
+    private ProjectResponse toProjectDto(Project project) {
+        return toProjectDtoList(List.of(project)).getFirst();
+    }
+
+    private List<ProjectResponse> toProjectDtoList(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+        List<Long> projectIds = projects.stream()
+                .map(Project::getId)
+                .toList();
+        return projectMapper.toProjectDtoList(projects, new ProjectMapper.ProjectMembers(
+                groupByProjectId(projectRepository.findEmployeeIdsByProjectIdIn(projectIds)),
+                groupByProjectId(projectRepository.findManagerIdsByProjectIdIn(projectIds))));
+    }
+
+    private Map<Long, Set<Long>> groupByProjectId(
+            List<ProjectRepository.ProjectMemberId> memberIds) {
+        return memberIds.stream().collect(Collectors.groupingBy(
+                ProjectRepository.ProjectMemberId::getProjectId,
+                Collectors.mapping(ProjectRepository.ProjectMemberId::getUserId,
+                        Collectors.toSet())));
+    }
 }
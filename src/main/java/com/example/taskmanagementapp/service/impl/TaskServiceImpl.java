@@ -1,16 +1,32 @@
 package com.example.taskmanagementapp.service.impl;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.SERVICE_TIMER;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.NO_ACCESS_PERMISSION_FOR_PROJECT_TASKS;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.NO_ACCESS_PERMISSION_FOR_TASK;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.NO_PERMISSION_FOR_TASK_DELETION;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.assignedTo;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.dueOnOrAfter;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.dueOnOrBefore;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.hasAnyLabelOf;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.hasPriorityIn;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.hasStatusIn;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.idGreaterThan;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.inProjectNonDeleted;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.decode;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.limitFor;
+import static com.example.taskmanagementapp.service.utils.CursorPaginationUtil.toPage;
 import static com.example.taskmanagementapp.service.utils.UpdateValueValidatorUtil.areDatesValid;
 import static com.example.taskmanagementapp.service.utils.UpdateValueValidatorUtil.areStringsValid;
 
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
+import com.example.taskmanagementapp.dto.task.request.BulkTaskUpdateRequest;
+import com.example.taskmanagementapp.dto.task.request.TaskFilterRequest;
 import com.example.taskmanagementapp.dto.task.request.TaskPriorityDto;
 import com.example.taskmanagementapp.dto.task.request.TaskRequest;
 import com.example.taskmanagementapp.dto.task.request.TaskStatusDto;
 import com.example.taskmanagementapp.dto.task.request.UpdateTaskRequest;
 import com.example.taskmanagementapp.dto.task.response.TaskResponse;
+import com.example.taskmanagementapp.dto.task.response.TaskSearchResponse;
 import com.example.taskmanagementapp.entity.Project;
 import com.example.taskmanagementapp.entity.Task;
 import com.example.taskmanagementapp.entity.User;
@@ -25,15 +41,25 @@ import com.example.taskmanagementapp.repository.UserRepository;
 import com.example.taskmanagementapp.service.TaskService;
 import com.example.taskmanagementapp.service.email.TaskAssignmentEmailService;
 import com.example.taskmanagementapp.service.utils.ProjectAuthorityUtil;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = SERVICE_TIMER, histogram = true)
 public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
@@ -78,6 +104,71 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    public List<TaskResponse> createTasks(User authenticatedUser,
+                                          List<TaskRequest> createTaskDtos,
+                                          TaskPriorityDto taskPriorityDto)
+            throws ForbiddenException {
+        Map<Long, Project> projectsById = new HashMap<>();
+        for (Long projectId : createTaskDtos.stream().map(TaskRequest::projectId).toList()) {
+            if (projectsById.containsKey(projectId)) {
+                continue;
+            }
+            Project project = projectRepository.findByIdNotDeleted(projectId)
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            "No active project with id " + projectId));
+            if (!projectAuthorityUtil.hasManagerialAuthority(
+                    projectId, authenticatedUser.getId())) {
+                throw new ForbiddenException(
+                        "You have no permission to modify project " + projectId);
+            }
+            projectsById.put(projectId, project);
+        }
+
+        Set<Long> assigneeIds = createTaskDtos.stream()
+                .map(TaskRequest::assigneeId)
+                .collect(Collectors.toSet());
+        Map<Long, User> assigneesById = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Long assigneeId : assigneeIds) {
+            if (!assigneesById.containsKey(assigneeId)) {
+                throw new EntityNotFoundException("No user with id " + assigneeId);
+            }
+        }
+        Map<Long, Set<Long>> assigneeIdsByProjectId = createTaskDtos.stream()
+                .collect(Collectors.groupingBy(TaskRequest::projectId,
+                        Collectors.mapping(TaskRequest::assigneeId, Collectors.toSet())));
+        for (Map.Entry<Long, Set<Long>> projectAssignees : assigneeIdsByProjectId.entrySet()) {
+            for (Long assigneeId : projectAssignees.getValue()) {
+                if (!projectAuthorityUtil.hasAnyAuthority(
+                        projectAssignees.getKey(), assigneeId)) {
+                    throw new ForbiddenException("User " + assigneeId
+                            + " is not assigned to project " + projectAssignees.getKey());
+                }
+            }
+        }
+
+        List<Task> createTasks = new ArrayList<>(createTaskDtos.size());
+        for (TaskRequest createTaskDto : createTaskDtos) {
+            Task createTask = taskMapper.toCreateTask(createTaskDto);
+            createTask.setProject(projectsById.get(createTaskDto.projectId()));
+            createTask.setAssignee(assigneesById.get(createTaskDto.assigneeId()));
+            createTask.setStatus(Task.Status.NOT_STARTED);
+            createTask.setPriority(Task.Priority.valueOf(taskPriorityDto.name()));
+            createTasks.add(createTask);
+        }
+        List<Task> savedTasks = taskRepository.saveAll(createTasks);
+        for (Task savedTask : savedTasks) {
+            taskAssignmentEmailService.sendTaskAssignmentEmail(
+                    savedTask.getAssignee().getEmail(),
+                    authenticatedUser.getEmail(),
+                    savedTask.getName(),
+                    savedTask.getProject().getName());
+        }
+        return taskMapper.toTaskDtoList(savedTasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<TaskResponse> getTasksForProject(Long authenticatedUserId,
                                                  Long projectId,
                                                  Pageable pageable)
@@ -94,6 +185,54 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTasksForProjectByCursor(Long authenticatedUserId,
+                                                                       Long projectId,
+                                                                       String cursor,
+                                                                       int size)
+            throws ForbiddenException {
+        if (!projectRepository.existsByIdNotDeleted(projectId)) {
+            throw new EntityNotFoundException("No active project with id " + projectId);
+        }
+        if (projectAuthorityUtil.hasAnyAuthority(projectId, authenticatedUserId)) {
+            List<Task> tasks = taskRepository.findAllByProjectIdNonDeletedAfter(
+                    projectId, decode(cursor).lastId(), limitFor(size));
+            return toPage(tasks, size, taskMapper::toTaskDtoList, Task::getId);
+        } else {
+            throw new ForbiddenException(NO_ACCESS_PERMISSION_FOR_PROJECT_TASKS);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getFilteredTasksForProject(Long authenticatedUserId,
+                                                                       Long projectId,
+                                                                       TaskFilterRequest filter,
+                                                                       String cursor,
+                                                                       int size)
+            throws ForbiddenException {
+        if (filter.dueDateFrom() != null && filter.dueDateTo() != null
+                && filter.dueDateFrom().isAfter(filter.dueDateTo())) {
+            throw new IllegalArgumentException("dueDateFrom must not be after dueDateTo");
+        }
+        if (!projectRepository.existsByIdNotDeleted(projectId)) {
+            throw new EntityNotFoundException("No active project with id " + projectId);
+        }
+        if (projectAuthorityUtil.hasAnyAuthority(projectId, authenticatedUserId)) {
+            Specification<Task> specification = toSpecification(authenticatedUserId, projectId,
+                    filter).and(idGreaterThan(decode(cursor).lastId()));
+            List<Task> tasks = taskRepository.findBy(specification, query -> query
+                    .sortBy(Sort.by("id"))
+                    .limit(limitFor(size).max())
+                    .all());
+            return toPage(tasks, size, taskMapper::toTaskDtoList, Task::getId);
+        } else {
+            throw new ForbiddenException(NO_ACCESS_PERMISSION_FOR_PROJECT_TASKS);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long authenticatedUserId, Long taskId)
             throws ForbiddenException {
         Task task = taskRepository.findByIdNotDeleted(taskId).orElseThrow(
@@ -126,6 +265,42 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    @Override
+    public List<TaskResponse> updateTasks(Long authenticatedUserId,
+                                          BulkTaskUpdateRequest bulkTaskUpdateDto)
+            throws ForbiddenException {
+        List<Task> tasks = taskRepository.findAllById(bulkTaskUpdateDto.taskIds()).stream()
+                .filter(task -> !task.isDeleted())
+                .toList();
+        if (tasks.size() != bulkTaskUpdateDto.taskIds().size()) {
+            Set<Long> foundIds = tasks.stream().map(Task::getId).collect(Collectors.toSet());
+            throw new EntityNotFoundException("No active tasks with ids "
+                    + bulkTaskUpdateDto.taskIds().stream()
+                            .filter(taskId -> !foundIds.contains(taskId))
+                            .toList());
+        }
+        Set<Long> projectIds = tasks.stream()
+                .map(task -> task.getProject().getId())
+                .collect(Collectors.toSet());
+        for (Long projectId : projectIds) {
+            if (!projectAuthorityUtil.hasManagerialAuthority(projectId, authenticatedUserId)) {
+                throw new ForbiddenException(NO_ACCESS_PERMISSION_FOR_TASK);
+            }
+        }
+        for (Task task : tasks) {
+            if (bulkTaskUpdateDto.status() != null) {
+                task.setStatus(Task.Status.valueOf(bulkTaskUpdateDto.status().name()));
+            }
+            if (bulkTaskUpdateDto.priority() != null) {
+                task.setPriority(Task.Priority.valueOf(bulkTaskUpdateDto.priority().name()));
+            }
+            if (bulkTaskUpdateDto.dueDate() != null) {
+                task.setDueDate(bulkTaskUpdateDto.dueDate());
+            }
+        }
+        return taskMapper.toTaskDtoList(taskRepository.saveAll(tasks));
+    }
+
     @Override
     public void deleteTask(Long authenticatedUserId, Long taskId) throws ForbiddenException {
         Task task = taskRepository.findByIdNotDeleted(taskId).orElseThrow(
@@ -141,6 +316,23 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<TaskSearchResponse> searchTasks(Long authenticatedUserId, String query, int size) {
+        List<TaskRepository.TaskSearchHit> hits =
+                taskRepository.searchVisibleToUser(query, authenticatedUserId, size);
+        Map<Long, Task> tasksById = taskRepository.findAllById(hits.stream()
+                        .map(TaskRepository.TaskSearchHit::getTaskId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return hits.stream()
+                .filter(hit -> tasksById.containsKey(hit.getTaskId()))
+                .map(hit -> new TaskSearchResponse(
+                        taskMapper.toTaskDto(tasksById.get(hit.getTaskId())), hit.getScore()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<TaskResponse> getTasksWithLabel(
             Long authenticatedUserId, Long labelId, Pageable pageable) {
         if (labelRepository.existsByIdAndUserId(labelId, authenticatedUserId)) {
@@ -152,6 +344,35 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    private Specification<Task> toSpecification(Long authenticatedUserId, Long projectId,
+                                                TaskFilterRequest filter) {
+        List<Specification<Task>> specifications = new ArrayList<>();
+        specifications.add(inProjectNonDeleted(projectId));
+        if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+            specifications.add(hasStatusIn(filter.statuses().stream()
+                    .map(status -> Task.Status.valueOf(status.name()))
+                    .toList()));
+        }
+        if (filter.priorities() != null && !filter.priorities().isEmpty()) {
+            specifications.add(hasPriorityIn(filter.priorities().stream()
+                    .map(priority -> Task.Priority.valueOf(priority.name()))
+                    .toList()));
+        }
+        if (filter.assigneeId() != null) {
+            specifications.add(assignedTo(filter.assigneeId()));
+        }
+        if (filter.dueDateFrom() != null) {
+            specifications.add(dueOnOrAfter(filter.dueDateFrom()));
+        }
+        if (filter.dueDateTo() != null) {
+            specifications.add(dueOnOrBefore(filter.dueDateTo()));
+        }
+        if (filter.labelIds() != null && !filter.labelIds().isEmpty()) {
+            specifications.add(hasAnyLabelOf(filter.labelIds(), authenticatedUserId));
+        }
+        return Specification.allOf(specifications);
+    }
+
     private void updatePresentField(User authenticatedUser,
                                     Task task,
                                     UpdateTaskRequest updateTaskDto,
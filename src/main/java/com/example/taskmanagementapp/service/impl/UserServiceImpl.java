@@ -1,5 +1,6 @@
 package com.example.taskmanagementapp.service.impl;
 
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.SERVICE_TIMER;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.FORBIDDEN_STATUS_CHANGE;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.STATUS_CANNOT_BE_NULL;
 import static com.example.taskmanagementapp.constant.security.SecurityConstants.UPDATE_USER_ROLE_EXCEPTION;
@@ -20,12 +21,14 @@ import com.example.taskmanagementapp.mapper.UserMapper;
 import com.example.taskmanagementapp.repository.ActionTokenRepository;
 import com.example.taskmanagementapp.repository.RoleRepository;
 import com.example.taskmanagementapp.repository.UserRepository;
+import com.example.taskmanagementapp.security.PrincipalCache;
 import com.example.taskmanagementapp.security.jwtutil.abstr.JwtAbstractUtil;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtStrategy;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtType;
 import com.example.taskmanagementapp.service.UserService;
 import com.example.taskmanagementapp.service.email.ChangeEmailService;
 import com.example.taskmanagementapp.service.utils.ParamFromHttpRequestUtil;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +39,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = SERVICE_TIMER, histogram = true)
 public class UserServiceImpl implements UserService {
     private final ChangeEmailService changeEmailService;
     private final ParamFromHttpRequestUtil randomParamFromHttpRequestUtil;
@@ -44,6 +48,7 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
     private final ActionTokenRepository actionTokenRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserProfileResponse updateUserRole(Long authenticatedUserId,
@@ -56,10 +61,12 @@ public class UserServiceImpl implements UserService {
                 () -> new EntityNotFoundException("Employee with id " + employeeId + " not found"));
         Role role = roleRepository.findByName(Role.RoleName.valueOf(roleNameDto.name()));
         employee.setRole(role);
+        principalCache.evict(employee.getUsername());
         return userMapper.toUserProfileInfoDto(userRepository.save(employee));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserProfileResponse getProfileInfo(Long authenticatedUserId) {
         return userMapper.toUserProfileInfoDto(userRepository.findById(authenticatedUserId)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -85,6 +92,7 @@ public class UserServiceImpl implements UserService {
             }
             changeEmailService.sendChangeEmail(updateUserProfileDto.email(), user.getEmail());
         }
+        principalCache.evict(user.getUsername());
         return userMapper.toUpdateUserProfileInfoDto(userRepository.save(user));
     }
 
@@ -112,12 +120,16 @@ public class UserServiceImpl implements UserService {
         } else {
             throw new IllegalArgumentException("Invalid account status " + accountStatusDto);
         }
+        principalCache.evict(thisUser.getUsername());
         return userMapper.toUserProfileAdminInfoDto(userRepository.save(thisUser));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserProfileResponse> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable).map(userMapper::toUserProfileInfoDto).getContent();
+        return userRepository.findAllWithRole(pageable)
+                .map(userMapper::toUserProfileInfoDto)
+                .getContent();
     }
 
     @Override
@@ -137,6 +149,7 @@ public class UserServiceImpl implements UserService {
                 () -> new EntityNotFoundException("User with email "
                         + email + " was not found"));
         user.setEmail(newEmail);
+        principalCache.evict(user.getUsername());
 
         return userMapper.toUserProfileInfoDto(userRepository.save(user));
     }
@@ -0,0 +1,245 @@
+package com.example.taskmanagementapp.service.project;
+
+import static com.example.taskmanagementapp.constant.service.project.ProjectDeletionConstants.DELETION_THREAD_NAME;
+import static com.example.taskmanagementapp.constant.service.project.ProjectDeletionConstants.MAX_CLAIMED_DELETIONS;
+import static com.example.taskmanagementapp.constant.service.project.ProjectDeletionConstants.MAX_ERROR_LENGTH;
+
+import com.dropbox.core.DbxException;
+import com.example.taskmanagementapp.dto.project.response.ProjectDeletionResponse;
+import com.example.taskmanagementapp.entity.ProjectDeletion;
+import com.example.taskmanagementapp.repository.AttachmentRepository;
+import com.example.taskmanagementapp.repository.CommentRepository;
+import com.example.taskmanagementapp.repository.LabelRepository;
+import com.example.taskmanagementapp.repository.ProjectDeletionRepository;
+import com.example.taskmanagementapp.repository.TaskRepository;
+import com.example.taskmanagementapp.service.storage.AttachmentStorage;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ProjectDeletionJob {
+    private static final Logger logger = LogManager.getLogger(ProjectDeletionJob.class);
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final LabelRepository labelRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ProjectDeletionRepository projectDeletionRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialRetryDelay;
+    private final Duration maxRetryDelay;
+    private final ExecutorService deletionExecutor;
+
+    @Autowired
+    public ProjectDeletionJob(TaskRepository taskRepository,
+                              CommentRepository commentRepository,
+                              LabelRepository labelRepository,
+                              AttachmentRepository attachmentRepository,
+                              ProjectDeletionRepository projectDeletionRepository,
+                              AttachmentStorage attachmentStorage,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${project.deletion.chunk-size}") int chunkSize,
+                              @Value("${project.deletion.lease-seconds}") long leaseSeconds,
+                              @Value("${project.deletion.max-attempts}") int maxAttempts,
+                              @Value("${project.deletion.initial-retry-delay-seconds}")
+                              long initialRetryDelaySeconds,
+                              @Value("${project.deletion.max-retry-delay-seconds}")
+                              long maxRetryDelaySeconds) {
+        this(taskRepository, commentRepository, labelRepository, attachmentRepository,
+                projectDeletionRepository, attachmentStorage, transactionManager, chunkSize,
+                Duration.ofSeconds(leaseSeconds), maxAttempts,
+                Duration.ofSeconds(initialRetryDelaySeconds),
+                Duration.ofSeconds(maxRetryDelaySeconds), Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name(DELETION_THREAD_NAME, 0).factory()));
+    }
+
+    ProjectDeletionJob(TaskRepository taskRepository,
+                       CommentRepository commentRepository,
+                       LabelRepository labelRepository,
+                       AttachmentRepository attachmentRepository,
+                       ProjectDeletionRepository projectDeletionRepository,
+                       AttachmentStorage attachmentStorage,
+                       PlatformTransactionManager transactionManager,
+                       int chunkSize,
+                       Duration lease,
+                       int maxAttempts,
+                       Duration initialRetryDelay,
+                       Duration maxRetryDelay,
+                       ExecutorService deletionExecutor) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.labelRepository = labelRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.projectDeletionRepository = projectDeletionRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialRetryDelay = initialRetryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.deletionExecutor = deletionExecutor;
+    }
+
+    @PreDestroy
+    public void stop() {
+        deletionExecutor.shutdownNow();
+    }
+
+    // The PENDING row is written in the caller's transaction, so the deletion is not lost
+    // if this node stops before it is picked up; any node's resume pass will claim it.
+    public void scheduleAfterCommit(Long projectId) {
+        projectDeletionRepository.save(ProjectDeletion.builder()
+                .projectId(projectId)
+                .status(ProjectDeletion.Status.PENDING)
+                .build());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            deletionExecutor.execute(ProjectDeletionJob.this::resumeUnfinished);
+                        }
+                    });
+        } else {
+            deletionExecutor.execute(this::resumeUnfinished);
+        }
+    }
+
+    public Optional<ProjectDeletionResponse> getProgress(Long projectId) {
+        return projectDeletionRepository.findById(projectId)
+                .map(deletion -> new ProjectDeletionResponse(projectId,
+                        ProjectDeletionResponse.Status.valueOf(deletion.getStatus().name()),
+                        deletion.getDeletedTasks()));
+    }
+
+    @Scheduled(fixedDelayString = "${project.deletion.resume-interval-ms}")
+    public void resumeUnfinished() {
+        List<ClaimedDeletion> claimed = transactionTemplate.execute(status -> claim());
+        for (ClaimedDeletion deletion : claimed) {
+            deletionExecutor.execute(() -> run(deletion));
+        }
+    }
+
+    private List<ClaimedDeletion> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProjectDeletion> claimable = projectDeletionRepository
+                .findClaimableForUpdate(now, MAX_CLAIMED_DELETIONS);
+        for (ProjectDeletion deletion : claimable) {
+            deletion.setStatus(ProjectDeletion.Status.RUNNING);
+            deletion.setAttempts(deletion.getAttempts() + 1);
+            deletion.setLockedUntil(now.plus(lease));
+        }
+        return claimable.stream()
+                .map(deletion -> new ClaimedDeletion(deletion.getProjectId(),
+                        deletion.getAttempts(), deletion.getDeletedTasks()))
+                .toList();
+    }
+
+    private void run(ClaimedDeletion deletion) {
+        Long projectId = deletion.projectId();
+        long deletedTasks = deletion.deletedTasks();
+        try {
+            DeletedChunk chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> deleteChunk(deletion));
+                deleteStoredFiles(chunk.attachments());
+                deletedTasks += chunk.taskCount();
+            } while (chunk.taskCount() == chunkSize && !Thread.currentThread().isInterrupted());
+            if (Thread.currentThread().isInterrupted()) {
+                // The lease runs out and the next resume pass on any node carries on
+                logger.info("Deletion of project {} stopped after {} tasks",
+                        projectId, deletedTasks);
+                return;
+            }
+            projectDeletionRepository.markCompleted(projectId, deletion.attempt());
+            logger.info("Deleted {} tasks of project {}", deletedTasks, projectId);
+        } catch (RuntimeException e) {
+            String error = e.getMessage() == null || e.getMessage().length() <= MAX_ERROR_LENGTH
+                    ? e.getMessage() : e.getMessage().substring(0, MAX_ERROR_LENGTH);
+            if (deletion.attempt() < maxAttempts) {
+                Duration retryDelay = getRetryDelay(deletion.attempt());
+                projectDeletionRepository.scheduleRetry(projectId, deletion.attempt(),
+                        LocalDateTime.now().plus(retryDelay), error);
+                logger.error("Deletion of project {} failed, will be retried in {}: {}",
+                        projectId, retryDelay, e.getMessage());
+            } else if (projectDeletionRepository.markFailed(projectId, deletion.attempt(),
+                    error) == 1) {
+                logger.error("Deletion of project {} moved to FAILED after {} attempts: {}",
+                        projectId, deletion.attempt(), e.getMessage());
+            }
+        }
+    }
+
+    Duration getRetryDelay(int attempt) {
+        Duration retryDelay = initialRetryDelay;
+        for (int i = 1; i < attempt && retryDelay.compareTo(maxRetryDelay) < 0; i++) {
+            retryDelay = retryDelay.multipliedBy(2);
+        }
+        return retryDelay.compareTo(maxRetryDelay) < 0 ? retryDelay : maxRetryDelay;
+    }
+
+    private DeletedChunk deleteChunk(ClaimedDeletion deletion) {
+        List<Long> taskIds = taskRepository.findIdsByProjectIdNonDeleted(
+                deletion.projectId(), Limit.of(chunkSize));
+        if (taskIds.isEmpty()) {
+            return new DeletedChunk(0, List.of());
+        }
+        // Extending the lease in the chunk's own transaction rolls the chunk back if another
+        // node has taken the deletion over after this claim expired
+        if (projectDeletionRepository.recordProgress(deletion.projectId(), deletion.attempt(),
+                taskIds.size(), LocalDateTime.now().plus(lease)) == 0) {
+            throw new IllegalStateException("Deletion of project " + deletion.projectId()
+                    + " was claimed by another node");
+        }
+        final List<StoredAttachment> attachments = attachmentRepository.findAllByTaskIdIn(taskIds)
+                .stream()
+                .map(attachment -> new StoredAttachment(attachment.getTask().getId(),
+                        attachment.getFileName(), attachment.getFileId()))
+                .toList();
+        commentRepository.deleteAllByTaskIdIn(taskIds);
+        labelRepository.deleteLabelLinksByTaskIdIn(taskIds);
+        attachmentRepository.deleteAllByTaskIdIn(taskIds);
+        taskRepository.deleteAllByIdIn(taskIds);
+        return new DeletedChunk(taskIds.size(), attachments);
+    }
+
+    private void deleteStoredFiles(List<StoredAttachment> attachments) {
+        for (StoredAttachment attachment : attachments) {
+            try {
+                attachmentStorage.delete(attachment.taskId(),
+                        attachment.fileName(), attachment.fileId());
+            } catch (IOException | DbxException e) {
+                logger.warn("Could not delete stored file {}: {}",
+                        attachment.fileId(), e.getMessage());
+            }
+        }
+    }
+
+    private record ClaimedDeletion(Long projectId, int attempt, long deletedTasks) {}
+
+    private record StoredAttachment(Long taskId, String fileName, String fileId) {}
+
+    private record DeletedChunk(int taskCount, List<StoredAttachment> attachments) {}
+}
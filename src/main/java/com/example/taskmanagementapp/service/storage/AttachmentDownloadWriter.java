@@ -0,0 +1,93 @@
+package com.example.taskmanagementapp.service.storage;
+
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_END_ATTRIBUTE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_FILENAME_ATTRIBUTE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_START_ATTRIBUTE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_SUPPORT_ATTRIBUTE;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AttachmentDownloadWriter {
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      AttachmentStorage.AttachmentDownload download) throws IOException {
+        if (download.localFile() == null) {
+            response.sendRedirect(download.redirectUrl());
+            return;
+        }
+        Path file = download.localFile();
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+        int status = HttpServletResponse.SC_OK;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                // Several ranges would need a multipart/byteranges body, so they are answered
+                // with 200 and the whole file, which a server is allowed to do instead
+                if (ranges.size() == 1) {
+                    start = ranges.getFirst().getRangeStart(length);
+                    end = ranges.getFirst().getRangeEnd(length);
+                    status = HttpServletResponse.SC_PARTIAL_CONTENT;
+                }
+                if (start > end) {
+                    throw new IllegalArgumentException("Range is not satisfiable");
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(MediaTypeFactory.getMediaType(download.fileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(download.fileName()).build().toString());
+        if (status == HttpServletResponse.SC_PARTIAL_CONTENT) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if (count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+            return;
+        }
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = source.transferTo(position, remaining, target);
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagementapp.service.storage;
+
+import com.dropbox.core.DbxException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface AttachmentStorage {
+    List<StoredFile> storeAll(Long taskId, MultipartFile[] files)
+            throws IOException, DbxException;
+
+    void delete(Long taskId, String fileName, String fileId) throws IOException, DbxException;
+
+    AttachmentDownload getDownload(String fileId, String fileName) throws IOException;
+
+    record StoredFile(String fileName, String fileId) {}
+
+    record AttachmentDownload(String fileName, Path localFile, String redirectUrl) {}
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanagementapp.service.storage;
+
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.ATTACHMENT_STORAGE_TIMER;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.DROPBOX_STORAGE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.STORAGE_PROPERTY;
+
+import com.dropbox.core.DbxException;
+import com.example.taskmanagementapp.service.dropbox.DropboxFileUploader;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+@Component
+@ConditionalOnProperty(name = STORAGE_PROPERTY, havingValue = DROPBOX_STORAGE,
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Timed(value = ATTACHMENT_STORAGE_TIMER, histogram = true)
+public class DropboxAttachmentStorage implements AttachmentStorage {
+    private final DropboxFileUploader dropboxFileUploader;
+
+    @Override
+    public List<StoredFile> storeAll(Long taskId, MultipartFile[] files)
+            throws IOException, DbxException {
+        return dropboxFileUploader.uploadAll(getFolder(taskId), files).stream()
+                .map(uploadedFile -> new StoredFile(
+                        uploadedFile.fileName(), uploadedFile.sharedLink()))
+                .toList();
+    }
+
+    @Override
+    public void delete(Long taskId, String fileName, String fileId) throws DbxException {
+        dropboxFileUploader.delete(getFolder(taskId) + "/" + fileName);
+    }
+
+    @Override
+    public AttachmentDownload getDownload(String fileId, String fileName) {
+        return new AttachmentDownload(fileName, null, fileId);
+    }
+
+    private String getFolder(Long taskId) {
+        return "/task" + taskId;
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.taskmanagementapp.service.storage;
+
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.ATTACHMENT_STORAGE_TIMER;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.CONTENT_HASH_ALGORITHM;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.HASH_PREFIX_LENGTH;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.LOCAL_STORAGE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.MAX_SWEPT_CONTENTS;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.STORAGE_PROPERTY;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.TEMP_DIRECTORY;
+
+import com.example.taskmanagementapp.entity.AttachmentContentDeletion;
+import com.example.taskmanagementapp.exception.EntityNotFoundException;
+import com.example.taskmanagementapp.repository.AttachmentContentDeletionRepository;
+import com.example.taskmanagementapp.repository.AttachmentRepository;
+import com.example.taskmanagementapp.service.utils.TransliterationUtil;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+// The root may be shared by several nodes, so blobs are never removed by the node that drops
+// the last reference: delete only queues the content, and the sweeper removes it once the
+// grace period has passed and no attachment row points at it any more.
+@Component
+@ConditionalOnProperty(name = STORAGE_PROPERTY, havingValue = LOCAL_STORAGE)
+@Timed(value = ATTACHMENT_STORAGE_TIMER, histogram = true)
+public class LocalAttachmentStorage implements AttachmentStorage {
+    private static final Logger logger = LogManager.getLogger(LocalAttachmentStorage.class);
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentContentDeletionRepository attachmentContentDeletionRepository;
+    private final TransactionOperations transactionOperations;
+    private final Path root;
+    private final Path tempDirectory;
+    private final Duration deletionGrace;
+
+    @Autowired
+    public LocalAttachmentStorage(AttachmentRepository attachmentRepository,
+                                  AttachmentContentDeletionRepository
+                                          attachmentContentDeletionRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${attachment.local.root}") Path root,
+                                  @Value("${attachment.local.deletion-grace-seconds}")
+                                  long deletionGraceSeconds) throws IOException {
+        this(attachmentRepository, attachmentContentDeletionRepository,
+                new TransactionTemplate(transactionManager), root,
+                Duration.ofSeconds(deletionGraceSeconds));
+    }
+
+    LocalAttachmentStorage(AttachmentRepository attachmentRepository,
+                           AttachmentContentDeletionRepository attachmentContentDeletionRepository,
+                           TransactionOperations transactionOperations,
+                           Path root,
+                           Duration deletionGrace) throws IOException {
+        this.attachmentRepository = attachmentRepository;
+        this.attachmentContentDeletionRepository = attachmentContentDeletionRepository;
+        this.transactionOperations = transactionOperations;
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDirectory = Files.createDirectories(this.root.resolve(TEMP_DIRECTORY));
+        this.deletionGrace = deletionGrace;
+    }
+
+    @Override
+    public List<StoredFile> storeAll(Long taskId, MultipartFile[] files) throws IOException {
+        List<StoredFile> storedFiles = new ArrayList<>(files.length);
+        try {
+            for (MultipartFile file : files) {
+                String fileName = TransliterationUtil.transliterate(file.getOriginalFilename());
+                storedFiles.add(new StoredFile(fileName, store(file)));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Content stored before the failure gets no row, so the sweeper reclaims it
+            storedFiles.forEach(storedFile -> scheduleDeletion(storedFile.fileId()));
+            throw e;
+        }
+        return storedFiles;
+    }
+
+    @Override
+    public void delete(Long taskId, String fileName, String fileId) {
+        scheduleDeletion(fileId);
+    }
+
+    @Override
+    public AttachmentDownload getDownload(String fileId, String fileName) {
+        Path file = resolve(fileId);
+        if (!Files.isRegularFile(file)) {
+            throw new EntityNotFoundException("Content of attachment " + fileName + " not found");
+        }
+        return new AttachmentDownload(fileName, file, null);
+    }
+
+    @Scheduled(fixedDelayString = "${attachment.local.sweep-interval-ms}")
+    public void sweepDeletedContent() {
+        Integer removed = transactionOperations.execute(status -> sweep());
+        if (removed != null && removed > 0) {
+            logger.info("Removed {} unreferenced attachment contents", removed);
+        }
+    }
+
+    // Each due row stays locked until the sweep commits, so a concurrent store of the same
+    // content waits in cancelDeletion and only then checks whether the blob is still there
+    private int sweep() {
+        List<AttachmentContentDeletion> due = attachmentContentDeletionRepository
+                .findDueForUpdate(LocalDateTime.now(), MAX_SWEPT_CONTENTS);
+        int removed = 0;
+        for (AttachmentContentDeletion deletion : due) {
+            String fileId = deletion.getFileId();
+            try {
+                if (!attachmentRepository.existsByFileId(fileId)
+                        && Files.deleteIfExists(resolve(fileId))) {
+                    removed++;
+                }
+                attachmentContentDeletionRepository.delete(deletion);
+            } catch (IOException e) {
+                logger.warn("Failed to remove attachment content {}, will retry: {}",
+                        fileId, e.getMessage());
+            }
+        }
+        return removed;
+    }
+
+    private void scheduleDeletion(String fileId) {
+        resolve(fileId);
+        attachmentContentDeletionRepository.scheduleDeletion(fileId,
+                LocalDateTime.now().plus(deletionGrace));
+    }
+
+    private String store(MultipartFile file) throws IOException {
+        Path tempFile = Files.createTempFile(tempDirectory, null, null);
+        try {
+            MessageDigest digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                    ReadableByteChannel source = Channels.newChannel(in);
+                    FileChannel target = FileChannel.open(tempFile,
+                            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(
+                        source, position, Long.MAX_VALUE)) > 0) {
+                    position += transferred;
+                }
+                target.force(false);
+            }
+            String fileId = HexFormat.of().formatHex(digest.digest());
+            // A deletion queued later starts a new grace period, which outlasts saving the rows
+            attachmentContentDeletionRepository.cancelDeletion(fileId);
+            Path destination = resolve(fileId);
+            if (!Files.exists(destination)) {
+                Files.createDirectories(destination.getParent());
+                try {
+                    Files.move(tempFile, destination, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Another node stored the same content in the meantime
+                }
+            }
+            return fileId;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path resolve(String fileId) {
+        if (fileId.length() <= HASH_PREFIX_LENGTH
+                || !fileId.chars().allMatch(HexFormat::isHexDigit)) {
+            throw new EntityNotFoundException("Attachment content " + fileId + " not found");
+        }
+        return root.resolve(fileId.substring(0, HASH_PREFIX_LENGTH)).resolve(fileId);
+    }
+}
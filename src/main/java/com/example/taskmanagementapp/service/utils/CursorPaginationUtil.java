@@ -0,0 +1,75 @@
+package com.example.taskmanagementapp.service.utils;
+
+import static com.example.taskmanagementapp.constant.Constants.CURSOR_SEPARATOR;
+import static com.example.taskmanagementapp.constant.Constants.FIRST_PAGE_ID;
+
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+
+public class CursorPaginationUtil {
+    private CursorPaginationUtil() {
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PageCursor(null, FIRST_PAGE_ID);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(CURSOR_SEPARATOR);
+            String sortKey = separator < 0 ? null : decoded.substring(0, separator);
+            return new PageCursor(sortKey, Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor " + cursor);
+        }
+    }
+
+    public static Limit limitFor(int size) {
+        return Limit.of(size + 1);
+    }
+
+    public static <E, D> CursorPageResponse<D> toPage(List<E> rows, int size,
+                                                      Function<List<E>, List<D>> mapper,
+                                                      Function<E, String> sortKey,
+                                                      Function<E, Long> id) {
+        if (rows.size() <= size) {
+            return new CursorPageResponse<>(mapper.apply(rows), null);
+        }
+        List<E> page = rows.subList(0, size);
+        E last = page.getLast();
+        return new CursorPageResponse<>(mapper.apply(page), encode(sortKey.apply(last),
+                id.apply(last)));
+    }
+
+    public static <E, D> CursorPageResponse<D> toPage(List<E> rows, int size,
+                                                      Function<List<E>, List<D>> mapper,
+                                                      Function<E, Long> id) {
+        return toPage(rows, size, mapper, row -> null, id);
+    }
+
+    private static String encode(String sortKey, Long id) {
+        String raw = sortKey == null ? String.valueOf(id) : sortKey + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record PageCursor(String sortKey, Long lastId) {
+        public LocalDateTime sortKeyAsTimestampOr(LocalDateTime firstPageTimestamp) {
+            if (sortKey == null) {
+                return firstPageTimestamp;
+            }
+            try {
+                return LocalDateTime.parse(sortKey);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid pagination cursor");
+            }
+        }
+    }
+}
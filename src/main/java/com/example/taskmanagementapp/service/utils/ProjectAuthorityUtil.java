@@ -1,22 +1,120 @@
 package com.example.taskmanagementapp.service.utils;
 
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.CACHED_PROJECT_TTL;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.EMPLOYEE_ROLE;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.MANAGER_ROLE;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.MAX_CACHED_PROJECTS;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.MAX_CACHED_USERS_PER_PROJECT;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.NO_ROLE;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.OWNER_ROLE;
+
+import com.example.taskmanagementapp.config.PrimaryReadTemplate;
 import com.example.taskmanagementapp.repository.ProjectRepository;
-import lombok.RequiredArgsConstructor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-@RequiredArgsConstructor
+// Role masks are cached per node: evictProject only clears this node's cache, so another node
+// can keep serving a revoked or missing membership until its entry expires after
+// CACHED_PROJECT_TTL. That bounded staleness is accepted in exchange for one query per
+// (project, user) pair instead of one per authority check. Masks are always read from the
+// primary, so a lagging replica can't add to that staleness.
 @Component
 public class ProjectAuthorityUtil {
     private final ProjectRepository projectRepository;
+    private final PrimaryReadTemplate primaryReadTemplate;
+    private final LongSupplier nanoClock;
+    private final Map<Long, ProjectMemberships> membershipCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ProjectMemberships> eldest) {
+                    return size() > MAX_CACHED_PROJECTS;
+                }
+            });
+
+    @Autowired
+    public ProjectAuthorityUtil(ProjectRepository projectRepository,
+                                PrimaryReadTemplate primaryReadTemplate) {
+        this(projectRepository, primaryReadTemplate, System::nanoTime);
+    }
+
+    ProjectAuthorityUtil(ProjectRepository projectRepository,
+                         PrimaryReadTemplate primaryReadTemplate, LongSupplier nanoClock) {
+        this.projectRepository = projectRepository;
+        this.primaryReadTemplate = primaryReadTemplate;
+        this.nanoClock = nanoClock;
+    }
 
     public boolean hasAnyAuthority(Long projectId, Long userId) {
-        return projectRepository.isUserOwner(projectId, userId)
-                || projectRepository.isUserEmployee(projectId, userId)
-                || projectRepository.isUserManager(projectId, userId);
+        return getRoleMask(projectId, userId) != NO_ROLE;
     }
 
     public boolean hasManagerialAuthority(Long projectId, Long userId) {
-        return projectRepository.isUserManager(projectId, userId)
-                || projectRepository.isUserOwner(projectId, userId);
+        return (getRoleMask(projectId, userId) & (OWNER_ROLE | MANAGER_ROLE)) != NO_ROLE;
+    }
+
+    public boolean isOwner(Long projectId, Long userId) {
+        return (getRoleMask(projectId, userId) & OWNER_ROLE) != NO_ROLE;
+    }
+
+    public boolean isManager(Long projectId, Long userId) {
+        return (getRoleMask(projectId, userId) & MANAGER_ROLE) != NO_ROLE;
+    }
+
+    public boolean isEmployee(Long projectId, Long userId) {
+        return (getRoleMask(projectId, userId) & EMPLOYEE_ROLE) != NO_ROLE;
+    }
+
+    public int getRoleMask(Long projectId, Long userId) {
+        ProjectMemberships memberships = getProjectMemberships(projectId);
+        Integer cachedMask = memberships.roleMasks.get(userId);
+        if (cachedMask != null) {
+            return cachedMask;
+        }
+        int roleMask = primaryReadTemplate.read(() ->
+                projectRepository.findUserRoleMask(projectId, userId).orElse(NO_ROLE));
+        if (memberships.roleMasks.size() >= MAX_CACHED_USERS_PER_PROJECT) {
+            memberships.roleMasks.clear();
+        }
+        memberships.roleMasks.put(userId, roleMask);
+        return roleMask;
+    }
+
+    public void evictProject(Long projectId) {
+        membershipCache.remove(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            membershipCache.remove(projectId);
+                        }
+                    });
+        }
+    }
+
+    private ProjectMemberships getProjectMemberships(Long projectId) {
+        long now = nanoClock.getAsLong();
+        ProjectMemberships memberships = membershipCache.get(projectId);
+        if (memberships == null || now - memberships.createdAt > CACHED_PROJECT_TTL.toNanos()) {
+            memberships = new ProjectMemberships(now);
+            membershipCache.put(projectId, memberships);
+        }
+        return memberships;
+    }
+
+    private static class ProjectMemberships {
+        private final long createdAt;
+        private final Map<Long, Integer> roleMasks = new ConcurrentHashMap<>();
+
+        private ProjectMemberships(long createdAt) {
+            this.createdAt = createdAt;
+        }
     }
 }
@@ -0,0 +1,72 @@
+package com.example.taskmanagementapp.benchmark;
+
+import com.dropbox.core.DbxException;
+import com.dropbox.core.DbxRequestConfig;
+import com.dropbox.core.v2.DbxClientV2;
+import com.example.taskmanagementapp.config.DropboxConfig;
+import com.example.taskmanagementapp.service.dropbox.DropboxFileUploader;
+import com.example.taskmanagementapp.service.dropbox.LocalDropboxHttpRequestor;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DropboxUploadBenchmark {
+    private static final int FILES = 5;
+    private static final long FAKE_LATENCY_MILLIS = 50;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long SESSION_THRESHOLD_BYTES = 4 * 1024 * 1024;
+    private static final long CHUNK_SIZE_BYTES = 1024 * 1024;
+    @Param({"1", "8"})
+    private int threads;
+    @Param({"65536", "5242880"})
+    private int fileSize;
+    private ExecutorService dropboxExecutor;
+    private DropboxFileUploader dropboxFileUploader;
+    private MultipartFile[] uploadFiles;
+
+    @Setup
+    public void setUp() {
+        DbxClientV2 client = new DbxClientV2(DbxRequestConfig.newBuilder("benchmark")
+                .withHttpRequestor(new LocalDropboxHttpRequestor(FAKE_LATENCY_MILLIS))
+                .build(), "token");
+        dropboxExecutor = new DropboxConfig().dropboxExecutor(threads, QUEUE_CAPACITY);
+        dropboxFileUploader = new DropboxFileUploader(client, dropboxExecutor,
+                SESSION_THRESHOLD_BYTES, CHUNK_SIZE_BYTES);
+        uploadFiles = new MultipartFile[FILES];
+        for (int i = 0; i < FILES; i++) {
+            uploadFiles[i] = new MockMultipartFile("files", "file" + i + ".bin",
+                    "application/octet-stream", new byte[fileSize]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dropboxExecutor.shutdown();
+    }
+
+    @Benchmark
+    public List<DropboxFileUploader.UploadedFile> uploadAll() throws IOException, DbxException {
+        return dropboxFileUploader.uploadAll("/task1", uploadFiles);
+    }
+}
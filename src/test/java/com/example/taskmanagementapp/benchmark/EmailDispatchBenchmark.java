@@ -0,0 +1,66 @@
+package com.example.taskmanagementapp.benchmark;
+
+import com.example.taskmanagementapp.service.email.EmailService;
+import com.example.taskmanagementapp.service.email.utils.EmailQueueProcessor;
+import com.example.taskmanagementapp.service.email.utils.FakeEmailSender;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class EmailDispatchBenchmark {
+    private static final int EMAILS = 200;
+    private static final long FAKE_LATENCY_MILLIS = 50;
+    private static final double RATE_PER_SECOND = 100_000;
+    private static final long POLL_INTERVAL_MILLIS = 1;
+    private static final long BATCH_WINDOW_MILLIS = 20;
+    @Param({"1", "8", "64"})
+    private int maxConcurrency;
+    @Param({"1", "100"})
+    private int batchSize;
+    private EmailQueueProcessor emailQueueProcessor;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        emailQueueProcessor = new EmailQueueProcessor(
+                new FakeEmailSender(FAKE_LATENCY_MILLIS, 0),
+                RATE_PER_SECOND, maxConcurrency, maxConcurrency, 1, 0, 0,
+                batchSize, BATCH_WINDOW_MILLIS);
+        emailQueueProcessor.start();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        emailQueueProcessor.stop();
+    }
+
+    @Benchmark
+    public EmailQueueProcessor.EmailDispatchStats dispatchBurst() throws InterruptedException {
+        for (int i = 0; i < EMAILS; i++) {
+            emailQueueProcessor.queueEmail(new EmailService.EmailRequest((long) i, 1,
+                    "assignee" + i + "@mail.com", "Tasks due tomorrow", "body"));
+        }
+        EmailQueueProcessor.EmailDispatchStats stats = emailQueueProcessor.getStats();
+        while (stats.sent() + stats.failed() < EMAILS) {
+            TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+            stats = emailQueueProcessor.getStats();
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.taskmanagementapp.benchmark;
+
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.MAX_CACHED_TOKENS;
+
+import com.example.taskmanagementapp.security.jwtutil.abstr.JwtAbstractUtil;
+import com.example.taskmanagementapp.security.jwtutil.impl.JwtAccessUtil;
+import com.example.taskmanagementapp.security.jwtutil.impl.JwtActionUtil;
+import com.example.taskmanagementapp.security.jwtutil.impl.JwtRefreshUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+    private static final String SECRET =
+            "eZTQb1Um2KE0dukTWfyHZSq2R3R1SFyqfRFfiReAPn1NHMKUBiTDKc5tajfn";
+    private static final long EXPIRATION = 900000L;
+    private static final String USERNAME = "JohnDoe";
+    private static final int DISTINCT_TOKENS = 2 * MAX_CACHED_TOKENS;
+    @Param({"ACCESS", "REFRESHMENT", "ACTION"})
+    private String strategy;
+    private SecretKey secretKey;
+    private JwtAbstractUtil jwtUtil;
+    private String token;
+    private String[] distinctTokens;
+    private int nextToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = switch (strategy) {
+            case "ACCESS" -> new JwtAccessUtil(SECRET, EXPIRATION);
+            case "REFRESHMENT" -> new JwtRefreshUtil(SECRET, EXPIRATION);
+            default -> new JwtActionUtil(SECRET, EXPIRATION);
+        };
+        token = jwtUtil.generateToken(USERNAME);
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = jwtUtil.generateToken(USERNAME + i);
+        }
+    }
+
+    @Benchmark
+    public String threeParsesWithFreshParser() {
+        if (!parseWithFreshParser(token).getExpiration().before(new Date())
+                && !parseWithFreshParser(token).getExpiration().before(new Date())) {
+            return parseWithFreshParser(token).getSubject();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(USERNAME);
+    }
+
+    @Benchmark
+    public String verifiedClaimsCached() {
+        return jwtUtil.getVerifiedClaims(token).getSubject();
+    }
+
+    @Benchmark
+    public String verifiedClaimsUncached() {
+        nextToken = (nextToken + 1) % DISTINCT_TOKENS;
+        return jwtUtil.getVerifiedClaims(distinctTokens[nextToken]).getSubject();
+    }
+
+    private Claims parseWithFreshParser(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanagementapp.benchmark;
+
+import com.example.taskmanagementapp.dto.project.response.ProjectResponse;
+import com.example.taskmanagementapp.dto.task.response.TaskResponse;
+import com.example.taskmanagementapp.entity.Project;
+import com.example.taskmanagementapp.entity.Task;
+import com.example.taskmanagementapp.entity.User;
+import com.example.taskmanagementapp.mapper.ProjectMapper;
+import com.example.taskmanagementapp.mapper.ProjectMapperImpl;
+import com.example.taskmanagementapp.mapper.TaskMapper;
+import com.example.taskmanagementapp.mapper.TaskMapperImpl;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    @Param({"20", "1000"})
+    private int size;
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+    private List<Task> tasks;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        User owner = user(0);
+        project = Project.builder()
+                .id(1L)
+                .name("project")
+                .startDate(START_DATE)
+                .endDate(START_DATE.plusYears(1))
+                .status(Project.Status.IN_PROGRESS)
+                .owner(owner)
+                .build();
+        tasks = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            User member = user(i);
+            project.getEmployees().add(member);
+            if (i % 10 == 0) {
+                project.getManagers().add(member);
+            }
+            tasks.add(Task.builder()
+                    .id((long) i)
+                    .name("task" + i)
+                    .description("description" + i)
+                    .priority(Task.Priority.values()[i % Task.Priority.values().length])
+                    .status(Task.Status.values()[i % Task.Status.values().length])
+                    .dueDate(START_DATE.plusDays(i))
+                    .project(project)
+                    .assignee(member)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<TaskResponse> toTaskDtoList() {
+        return taskMapper.toTaskDtoList(tasks);
+    }
+
+    @Benchmark
+    public ProjectResponse toProjectDto() {
+        return projectMapper.toProjectDto(project);
+    }
+
+    private User user(long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@mail.com")
+                .firstName("first")
+                .lastName("last")
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanagementapp.benchmark;
+
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.RANDOM_LINK_STRENGTH;
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.RANDOM_PASSWORD_STRENGTH;
+
+import com.example.taskmanagementapp.service.utils.RandomStringUtil;
+import com.example.taskmanagementapp.service.utils.TransliterationUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilBenchmark {
+    @Benchmark
+    public String transliterate(FileNameInput input) {
+        return TransliterationUtil.transliterate(input.fileName);
+    }
+
+    @Benchmark
+    public String randomPassword() {
+        return RandomStringUtil.generateRandomString(RANDOM_PASSWORD_STRENGTH);
+    }
+
+    @Benchmark
+    public String randomLink() {
+        return RandomStringUtil.generateRandomString(RANDOM_LINK_STRENGTH);
+    }
+
+    @State(Scope.Benchmark)
+    public static class FileNameInput {
+        @Param({"quarterly-report-final.pdf", "Щоквартальний звіт остаточний.pdf"})
+        private String fileName;
+    }
+}
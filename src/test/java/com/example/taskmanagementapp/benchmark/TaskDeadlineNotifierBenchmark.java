@@ -0,0 +1,81 @@
+package com.example.taskmanagementapp.benchmark;
+
+import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.NO_PREVIOUS_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.example.taskmanagementapp.entity.Project;
+import com.example.taskmanagementapp.entity.Task;
+import com.example.taskmanagementapp.entity.User;
+import com.example.taskmanagementapp.repository.TaskRepository;
+import com.example.taskmanagementapp.service.email.EmailService;
+import com.example.taskmanagementapp.service.email.TaskDeadlineNotifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.data.domain.Limit;
+
+// Covers only the in-memory grouping and email body building: the repository is a stub
+// returning a prepared page, so the due-date query itself is not measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskDeadlineNotifierBenchmark {
+    private static final int ASSIGNEES = 10;
+    @Param({"1", "40"})
+    private int tasksPerAssignee;
+    private TaskDeadlineNotifier taskDeadlineNotifier;
+
+    @Setup
+    public void setUp() {
+        LoggingSystem.get(getClass().getClassLoader())
+                .setLogLevel(TaskDeadlineNotifier.class.getName(), LogLevel.WARN);
+        Project project = Project.builder().id(1L).name("project").build();
+        List<Task> tasks = new ArrayList<>(ASSIGNEES * tasksPerAssignee);
+        for (int i = 1; i <= ASSIGNEES; i++) {
+            User assignee = User.builder().id((long) i).email("user" + i + "@mail.com").build();
+            for (int j = 0; j < tasksPerAssignee; j++) {
+                tasks.add(Task.builder()
+                        .id((long) tasks.size() + 1)
+                        .name("task" + tasks.size())
+                        .project(project)
+                        .assignee(assignee)
+                        .build());
+            }
+        }
+        TaskRepository taskRepository = mock(TaskRepository.class, withSettings().stubOnly());
+        when(taskRepository.findAllNonDeletedDueOnAfter(
+                any(LocalDate.class), anyLong(), eq(NO_PREVIOUS_ID), any(Limit.class)))
+                .thenReturn(tasks);
+        taskDeadlineNotifier = new TaskDeadlineNotifier(
+                mock(EmailService.class, withSettings().stubOnly()),
+                taskRepository, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void taskDeadlineNotification() {
+        taskDeadlineNotifier.taskDeadlineNotification();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.taskmanagementapp.benchmark;
+
+import com.example.taskmanagementapp.validation.emailandusername.EmailValidator;
+import com.example.taskmanagementapp.validation.emailandusername.NotLikeEmailValidator;
+import com.example.taskmanagementapp.validation.password.PasswordValidator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+    private static final String VALID_PASSWORD = "Best_Password1@3$";
+    private static final String INVALID_PASSWORD = "password_without_digits_or_capitals";
+    private static final String USERNAME = "JohnDoe";
+    private final PasswordValidator passwordValidator = new PasswordValidator();
+    private final EmailValidator emailValidator = new EmailValidator();
+    private final NotLikeEmailValidator notLikeEmailValidator = new NotLikeEmailValidator();
+
+    @Benchmark
+    public boolean password() {
+        return passwordValidator.isValid(VALID_PASSWORD, null);
+    }
+
+    @Benchmark
+    public boolean invalidPassword() {
+        return passwordValidator.isValid(INVALID_PASSWORD, null);
+    }
+
+    @Benchmark
+    public boolean email(EmailInput input) {
+        return emailValidator.isValid(input.email, null);
+    }
+
+    @Benchmark
+    public boolean notLikeEmail(EmailInput input) {
+        return notLikeEmailValidator.isValid(input.email, null);
+    }
+
+    @Benchmark
+    public boolean notLikeEmailUsername() {
+        return notLikeEmailValidator.isValid(USERNAME, null);
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmailInput {
+        @Param({"john_doe@mail.com",
+                "john.doe.with.a.rather.long.local.part@sub.domain.example.com",
+                "not-an-email-at-all-but-quite-long-to-force-backtracking"})
+        private String email;
+    }
+}
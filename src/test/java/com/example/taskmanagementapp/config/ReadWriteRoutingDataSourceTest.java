@@ -0,0 +1,128 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.PRIMARY_KEY;
+import static com.example.taskmanagementapp.constant.config.DataSourceRoutingConstants.REPLICA_KEY_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadWriteRoutingDataSourceTest {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final String REPLICA_KEY = REPLICA_KEY_PREFIX + 0;
+    private static final String LAG_QUERY =
+            "SELECT seconds_behind_source FROM replica_status";
+    private static final long MAX_LAG_SECONDS = 5;
+    private HikariDataSource primaryDataSource;
+    private HikariDataSource replicaDataSource;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PrimaryReadTemplate primaryReadTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = createNode(PRIMARY);
+        replicaDataSource = createNode(REPLICA);
+        new JdbcTemplate(replicaDataSource).execute(
+                "CREATE TABLE replica_status (seconds_behind_source BIGINT)");
+        setReplicaLag(0);
+        replicaLagMonitor = new ReplicaLagMonitor(Map.of(REPLICA_KEY, replicaDataSource),
+                LAG_QUERY, MAX_LAG_SECONDS);
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(PRIMARY_KEY, primaryDataSource,
+                REPLICA_KEY, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        primaryReadTemplate = new PrimaryReadTemplate(transactionManager, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryDataSource.close();
+        replicaDataSource.close();
+    }
+
+    @Test
+    void givenHealthyReplica_whenReadOnlyTransaction_thenRouteToReplica() {
+        replicaLagMonitor.checkReplicas();
+
+        assertEquals(List.of(REPLICA_KEY), replicaLagMonitor.getHealthyReplicas());
+        assertEquals(REPLICA, readNode(true));
+    }
+
+    @Test
+    void givenHealthyReplica_whenWriteTransaction_thenRouteToPrimary() {
+        replicaLagMonitor.checkReplicas();
+
+        assertEquals(PRIMARY, readNode(false));
+        assertEquals(PRIMARY, currentNode());
+    }
+
+    @Test
+    void givenReplicaLagPastThreshold_whenReadOnlyTransaction_thenFallBackToPrimary() {
+        replicaLagMonitor.checkReplicas();
+        setReplicaLag(MAX_LAG_SECONDS + 1);
+        replicaLagMonitor.checkReplicas();
+
+        assertTrue(replicaLagMonitor.getHealthyReplicas().isEmpty());
+        assertEquals(PRIMARY, readNode(true));
+    }
+
+    @Test
+    void givenReadOnlyTransaction_whenReadThroughPrimaryReadTemplate_thenRouteToPrimary() {
+        replicaLagMonitor.checkReplicas();
+        transactionTemplate.setReadOnly(true);
+
+        List<String> nodes = transactionTemplate.execute(status -> List.of(currentNode(),
+                primaryReadTemplate.read(this::currentNode), currentNode()));
+
+        assertEquals(List.of(REPLICA, PRIMARY, REPLICA), nodes);
+    }
+
+    private String readNode(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void setReplicaLag(long lagSeconds) {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.update("DELETE FROM replica_status");
+        replica.update("INSERT INTO replica_status VALUES (?)", lagSeconds);
+    }
+
+    private HikariDataSource createNode(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate node = new JdbcTemplate(dataSource);
+        node.execute("CREATE TABLE node (name VARCHAR(16))");
+        node.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
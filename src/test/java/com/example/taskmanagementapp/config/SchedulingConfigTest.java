@@ -0,0 +1,26 @@
+package com.example.taskmanagementapp.config;
+
+import static com.example.taskmanagementapp.constant.datagen.DataGeneratorConstants.DATAGEN_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+
+class SchedulingConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(SchedulingConfig.class);
+
+    @Test
+    void givenDefaultProfile_whenStartContext_thenEnableScheduling() {
+        contextRunner.run(context -> assertThat(context)
+                .hasSingleBean(ScheduledAnnotationBeanPostProcessor.class));
+    }
+
+    @Test
+    void givenDatagenProfile_whenStartContext_thenDisableScheduling() {
+        contextRunner.withPropertyValues("spring.profiles.active=" + DATAGEN_PROFILE)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(ScheduledAnnotationBeanPostProcessor.class));
+    }
+}
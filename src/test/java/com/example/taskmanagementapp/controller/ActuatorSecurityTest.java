@@ -0,0 +1,71 @@
+package com.example.taskmanagementapp.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+import com.dropbox.core.v2.DbxClientV2;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+@AutoConfigureObservability
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ActuatorSecurityTest {
+    private static final String PROMETHEUS = "/actuator/prometheus";
+    private static final String METRICS = "/actuator/metrics/email.send.latency";
+    private static final String HEALTH = "/actuator/health";
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    void setUpBeforeAll(@Autowired WebApplicationContext webApplicationContext) {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+    }
+
+    @Test
+    void givenAnonymousRequest_whenScrapeMetrics_thenForbid() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PROMETHEUS))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        mockMvc.perform(MockMvcRequestBuilders.get(METRICS))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    @Test
+    void givenRegularUser_whenScrapeMetrics_thenForbid() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PROMETHEUS)
+                        .with(user("JohnDoe").roles("USER")))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    @Test
+    void givenAdmin_whenScrapeMetrics_thenExposeEmailLatencyTimers() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PROMETHEUS)
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(
+                        containsString("email_send_latency_seconds")))
+                .andExpect(MockMvcResultMatchers.content().string(
+                        containsString("email_delivery_latency_seconds")));
+    }
+
+    @Test
+    void givenAnonymousRequest_whenCheckHealth_thenAllow() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(HEALTH))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+}
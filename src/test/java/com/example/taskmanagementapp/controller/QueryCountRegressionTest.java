@@ -0,0 +1,355 @@
+package com.example.taskmanagementapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+import com.dropbox.core.v2.DbxClientV2;
+import com.example.taskmanagementapp.profiling.ProfileSegment;
+import com.example.taskmanagementapp.profiling.RequestProfile;
+import com.example.taskmanagementapp.profiling.RequestProfiler;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountRegressionTest {
+    private static final String BUDGETS = "query-budgets.properties";
+    private static final String ENTITIES_SUFFIX = ".entities";
+    private static final String ROWS_SUFFIX = ".rows";
+    private static final String USERNAME = "owner";
+    private static final int MEMBERS = 20;
+    private static final int OWNED_PROJECTS = 20;
+    private static final int DELETED_PROJECTS = 10;
+    private static final int ASSIGNED_PROJECTS = 20;
+    private static final int TASKS = 20;
+    private static final int LABELS = 20;
+    private static final int SMALL = 1;
+    private static final int LARGE = 20;
+    private static final long OWNER_ID = 1;
+    private static final long OTHER_OWNER_ID = 2;
+    private static final long FEW_MEMBERS_PROJECT_ID = 1;
+    private static final long MANY_MEMBERS_PROJECT_ID = 2;
+    private static final long FULL_TASK_ID = 1;
+    private static final long SPARSE_TASK_ID = 2;
+    private static final long FULL_LABEL_ID = 1;
+    private static final long SPARSE_LABEL_ID = 2;
+    private static final long BULK_ASSIGNEE_ID = 3;
+    private static final int BULK_DUE_YEARS = 100;
+    private static final long FIRST_GENERATED_ID = 1_000;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Logger logger = LogManager.getLogger(QueryCountRegressionTest.class);
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    @Autowired
+    private DataSource dataSource;
+    private MockMvc mockMvc;
+    private Statistics statistics;
+    private UserDetails principal;
+    private Properties budgets;
+
+    static Stream<Arguments> endpoints() {
+        return Stream.of(
+                pageable("projects.assigned", "/projects/assigned"),
+                pageable("projects.created", "/projects/created"),
+                pageable("projects.deleted", "/projects/deleted"),
+                cursor("projects.assigned.cursor", "/projects/assigned/cursor"),
+                cursor("projects.created.cursor", "/projects/created/cursor"),
+                cursor("projects.deleted.cursor", "/projects/deleted/cursor"),
+                collection("projects.byId", "/projects/" + FEW_MEMBERS_PROJECT_ID,
+                        "/projects/" + MANY_MEMBERS_PROJECT_ID),
+                pageable("tasks.byProject", "/tasks/all-project-tasks/" + FEW_MEMBERS_PROJECT_ID),
+                cursor("tasks.byProject.cursor",
+                        "/tasks/all-project-tasks/" + FEW_MEMBERS_PROJECT_ID + "/cursor"),
+                cursor("tasks.byProject.filter",
+                        "/tasks/all-project-tasks/" + FEW_MEMBERS_PROJECT_ID + "/filter"),
+                collection("tasks.byId", "/tasks/" + SPARSE_TASK_ID, "/tasks/" + FULL_TASK_ID),
+                pageable("tasks.withLabel", "/tasks/with-label/" + FULL_LABEL_ID),
+                pageable("comments.byTask", "/comments/" + FULL_TASK_ID),
+                cursor("comments.byTask.cursor", "/comments/" + FULL_TASK_ID + "/cursor"),
+                collection("attachments.byTask", "/attachments/" + SPARSE_TASK_ID,
+                        "/attachments/" + FULL_TASK_ID),
+                pageable("labels", "/labels"),
+                collection("labels.byId", "/labels/" + SPARSE_LABEL_ID,
+                        "/labels/" + FULL_LABEL_ID),
+                collection("users.me", "/users/me", "/users/me"),
+                pageable("users", "/users"));
+    }
+
+    @BeforeAll
+    void setUpBeforeAll(@Autowired WebApplicationContext webApplicationContext,
+                        @Autowired EntityManagerFactory entityManagerFactory,
+                        @Autowired UserDetailsService userDetailsService)
+            throws SQLException, IOException {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        budgets = PropertiesLoaderUtils.loadProperties(new ClassPathResource(BUDGETS));
+        seed();
+        principal = userDetailsService.loadUserByUsername(USERNAME);
+    }
+
+    @AfterAll
+    void tearDownAfterAll() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM labels_tasks");
+            stmt.executeUpdate("DELETE FROM labels");
+            stmt.executeUpdate("DELETE FROM attachments");
+            stmt.executeUpdate("DELETE FROM comments");
+            stmt.executeUpdate("DELETE FROM tasks");
+            stmt.executeUpdate("DELETE FROM project_employees");
+            stmt.executeUpdate("DELETE FROM project_managers");
+            stmt.executeUpdate("DELETE FROM projects");
+            stmt.executeUpdate("DELETE FROM users");
+            stmt.executeUpdate("DELETE FROM roles");
+        }
+        logger.info("DB clean up completed");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("endpoints")
+    void givenSeededData_whenCallEndpoint_thenQueryCountIsConstantAndWithinBudget(
+            String endpoint, String smallUri, String largeUri) throws Exception {
+        perform(smallUri);
+        perform(largeUri);
+
+        QueryCost small = perform(smallUri);
+        QueryCost large = perform(largeUri);
+        logger.info("{}: {} statements, {} / {} entities loaded, {} / {} rows read",
+                endpoint, large.statements(), small.entities(), large.entities(),
+                small.rows(), large.rows());
+
+        assertEquals(small.statements(), large.statements(), endpoint
+                + " query count depends on page or collection size");
+        assertWithinBudget(endpoint, large);
+    }
+
+    @Test
+    void givenTaskBatches_whenCreateTasksInBulk_thenInsertThemInConstantBatchedStatements()
+            throws Exception {
+        createTasks(SMALL);
+        createTasks(LARGE);
+
+        QueryCost small = createTasks(SMALL);
+        QueryCost large = createTasks(LARGE);
+        long insertedTasks = statistics.getEntityInsertCount();
+        logger.info("tasks.bulk: {} / {} statements, {} / {} entities loaded, {} / {} rows read "
+                + "for {} / {} tasks", small.statements(), large.statements(), small.entities(),
+                large.entities(), small.rows(), large.rows(), SMALL, LARGE);
+
+        assertEquals(2L * LARGE, insertedTasks,
+                "Expected a task and an outbox email per request entry");
+        assertEquals(small.statements(), large.statements(),
+                "tasks.bulk issues a statement per task instead of one JDBC batch");
+        assertWithinBudget("tasks.bulk", large);
+    }
+
+    private void assertWithinBudget(String endpoint, QueryCost cost) {
+        assertWithinBudget(endpoint, "statements", endpoint, cost.statements());
+        assertWithinBudget(endpoint, "entities", endpoint + ENTITIES_SUFFIX, cost.entities());
+        assertWithinBudget(endpoint, "rows", endpoint + ROWS_SUFFIX, cost.rows());
+    }
+
+    private void assertWithinBudget(String endpoint, String measure, String key, long actual) {
+        String budget = budgets.getProperty(key);
+        assertNotNull(budget, "No " + measure + " budget committed for " + endpoint);
+        assertTrue(actual <= Long.parseLong(budget), endpoint + " " + measure + " were "
+                + actual + ", budget is " + budget);
+    }
+
+    private static Arguments pageable(String endpoint, String uri) {
+        return Arguments.of(endpoint, uri + "?page=0&size=" + SMALL,
+                uri + "?page=0&size=" + LARGE);
+    }
+
+    private static Arguments cursor(String endpoint, String uri) {
+        return Arguments.of(endpoint, uri + "?size=" + SMALL, uri + "?size=" + LARGE);
+    }
+
+    private static Arguments collection(String endpoint, String sparseUri, String fullUri) {
+        return Arguments.of(endpoint, sparseUri, fullUri);
+    }
+
+    private QueryCost perform(String uri) throws Exception {
+        return perform(MockMvcRequestBuilders.get(uri), MockMvcResultMatchers.status().isOk());
+    }
+
+    private QueryCost createTasks(int count) throws Exception {
+        String task = "{\"name\":\"task\",\"dueDate\":\""
+                + START_DATE.plusYears(BULK_DUE_YEARS)
+                + "\",\"projectId\":" + MANY_MEMBERS_PROJECT_ID + ",\"assigneeId\":" + BULK_ASSIGNEE_ID + "}";
+        return perform(MockMvcRequestBuilders.post("/tasks/bulk")
+                        .param("taskPriorityDto", "LOW")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + String.join(",", Collections.nCopies(count, task)) + "]"),
+                MockMvcResultMatchers.status().isCreated());
+    }
+
+    private QueryCost perform(MockHttpServletRequestBuilder request, ResultMatcher expectedStatus)
+            throws Exception {
+        statistics.clear();
+        RequestProfile profile = RequestProfiler.start();
+        try {
+            mockMvc.perform(request.with(user(principal)))
+                    .andExpect(expectedStatus);
+        } finally {
+            RequestProfiler.clear();
+        }
+        long rows = 0;
+        for (String query : statistics.getQueries()) {
+            rows += statistics.getQueryStatistics(query).getExecutionRowCount();
+        }
+        return new QueryCost(profile.getCount(ProfileSegment.DB),
+                statistics.getEntityLoadCount() + statistics.getEntityFetchCount(), rows);
+    }
+
+    private void seed() throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("INSERT INTO roles (id, name) "
+                        + "VALUES (1, 'ROLE_ADMIN'), (2, 'ROLE_USER')");
+                stmt.executeUpdate("UPDATE id_generators SET next_val = " + FIRST_GENERATED_ID);
+            }
+            insert(conn, "INSERT INTO users (id, username, password, email, first_name, "
+                    + "last_name, role_id, is_enabled, is_account_non_locked) "
+                    + "VALUES (?, ?, 'password', ?, 'first', 'last', ?, 1, 1)",
+                    MEMBERS + 1, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setString(2, i == OWNER_ID ? USERNAME : "user" + i);
+                        ps.setString(3, "user" + i + "@mail.com");
+                        ps.setLong(4, i == OWNER_ID ? 1 : 2);
+                    });
+            int projects = OWNED_PROJECTS + DELETED_PROJECTS + ASSIGNED_PROJECTS;
+            insert(conn, "INSERT INTO projects (id, name, start_date, end_date, status, "
+                    + "is_deleted, owner_id) VALUES (?, 'project', ?, ?, 'IN_PROGRESS', ?, ?)",
+                    projects, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setDate(2, Date.valueOf(START_DATE));
+                        ps.setDate(3, Date.valueOf(START_DATE.plusYears(1)));
+                        ps.setBoolean(4, i > OWNED_PROJECTS
+                                && i <= OWNED_PROJECTS + DELETED_PROJECTS);
+                        ps.setLong(5, i <= OWNED_PROJECTS + DELETED_PROJECTS
+                                ? OWNER_ID : OTHER_OWNER_ID);
+                    });
+            insert(conn, "INSERT INTO project_employees (project_id, employee_id) "
+                    + "VALUES (?, ?)", MEMBERS, (ps, i) -> {
+                        ps.setLong(1, i == 1 ? FEW_MEMBERS_PROJECT_ID : MANY_MEMBERS_PROJECT_ID);
+                        ps.setLong(2, i + 1);
+                    });
+            insert(conn, "INSERT INTO project_managers (project_id, manager_id) "
+                    + "VALUES (?, ?)", MEMBERS, (ps, i) -> {
+                        ps.setLong(1, i == 1 ? FEW_MEMBERS_PROJECT_ID : MANY_MEMBERS_PROJECT_ID);
+                        ps.setLong(2, i + 1);
+                    });
+            insert(conn, "INSERT INTO project_employees (project_id, employee_id) "
+                    + "VALUES (?, ?)", ASSIGNED_PROJECTS, (ps, i) -> {
+                        ps.setLong(1, OWNED_PROJECTS + DELETED_PROJECTS + i);
+                        ps.setLong(2, OWNER_ID);
+                    });
+            insert(conn, "INSERT INTO tasks (id, name, priority, status, due_date, "
+                    + "project_id, assignee_id, is_deleted) "
+                    + "VALUES (?, 'task', 'LOW', 'NOT_STARTED', ?, ?, ?, 0)",
+                    TASKS, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setDate(2, Date.valueOf(START_DATE.plusDays(i)));
+                        ps.setLong(3, FEW_MEMBERS_PROJECT_ID);
+                        ps.setLong(4, i % MEMBERS + 1);
+                    });
+            insert(conn, "INSERT INTO comments (id, task_id, user_id, text, timestamp) "
+                    + "VALUES (?, ?, ?, 'comment', ?)", LARGE + SMALL, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setLong(2, i <= LARGE ? FULL_TASK_ID : SPARSE_TASK_ID);
+                        ps.setLong(3, i % MEMBERS + 1);
+                        ps.setTimestamp(4, Timestamp.valueOf(START_TIME.plusMinutes(i)));
+                    });
+            insert(conn, "INSERT INTO attachments (id, task_id, file_id, file_name, "
+                    + "upload_date) VALUES (?, ?, ?, ?, ?)", LARGE + SMALL, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setLong(2, i <= LARGE ? FULL_TASK_ID : SPARSE_TASK_ID);
+                        ps.setString(3, "file" + i);
+                        ps.setString(4, "file" + i + ".txt");
+                        ps.setTimestamp(5, Timestamp.valueOf(START_TIME));
+                    });
+            insert(conn, "INSERT INTO labels (id, name, color, user_id) "
+                    + "VALUES (?, 'label', 'RED', ?)", LABELS, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setLong(2, OWNER_ID);
+                    });
+            insert(conn, "INSERT INTO labels_tasks (label_id, task_id) VALUES (?, ?)",
+                    TASKS + SMALL, (ps, i) -> {
+                        ps.setLong(1, i <= TASKS ? FULL_LABEL_ID : SPARSE_LABEL_ID);
+                        ps.setLong(2, i <= TASKS ? i : SPARSE_TASK_ID);
+                    });
+            insert(conn, "INSERT INTO labels_tasks (label_id, task_id) VALUES (?, ?)",
+                    LABELS - SMALL, (ps, i) -> {
+                        ps.setLong(1, i + 1);
+                        ps.setLong(2, FULL_TASK_ID);
+                    });
+        }
+    }
+
+    private void insert(Connection conn, String sql, int rows, RowBinder binder)
+            throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= rows; i++) {
+                binder.bind(ps, i);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    private record QueryCost(long statements, long entities, long rows) {
+    }
+}
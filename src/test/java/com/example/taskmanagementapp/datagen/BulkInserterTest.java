@@ -0,0 +1,68 @@
+package com.example.taskmanagementapp.datagen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+class BulkInserterTest {
+    private static final int BATCH_SIZE = 4;
+    private static final int PARENTS = 10;
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bulk_inserter");
+        jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        jdbcTemplate.execute("CREATE TABLE parents (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE children (parent_id BIGINT NOT NULL "
+                + "REFERENCES parents (id), position INT NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void givenRowsNotFillingLastStatement_whenClose_thenInsertEveryRowOnce()
+            throws SQLException {
+        try (BulkInserter inserter =
+                     new BulkInserter(connection, BATCH_SIZE, null, "parents", "id")) {
+            for (long id = 1; id <= PARENTS; id++) {
+                inserter.add(id);
+            }
+            assertEquals(PARENTS - PARENTS % BATCH_SIZE, inserter.getInserted());
+        }
+
+        assertEquals(PARENTS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT id) FROM parents", Integer.class));
+    }
+
+    @Test
+    void givenChildStatementFullBeforeParent_whenAdd_thenFlushParentRowsFirst()
+            throws SQLException {
+        try (BulkInserter parents =
+                     new BulkInserter(connection, BATCH_SIZE, null, "parents", "id");
+                BulkInserter children = new BulkInserter(connection, BATCH_SIZE, parents,
+                        "children", "parent_id", "position")) {
+            parents.add(1L);
+            for (int position = 0; position < BATCH_SIZE; position++) {
+                children.add(1L, position);
+            }
+            assertEquals(1, parents.getInserted());
+            assertEquals(BATCH_SIZE, children.getInserted());
+        }
+
+        assertEquals(List.of(0, 1, 2, 3), jdbcTemplate.queryForList(
+                "SELECT position FROM children ORDER BY position", Integer.class));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.taskmanagementapp.datagen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class DataGeneratorTest {
+    private static final String CHANGE_LOG = "classpath:db/changelog/db.changelog-master.yaml";
+    private static final long SEED = 42;
+    private static final long OTHER_SEED = 7;
+    private static final int USERS = 60;
+    private static final int PROJECTS = 20;
+    private static final int TASKS = 300;
+    private static final int BATCH_SIZE = 50;
+    private static final String GENERATED_TASKS = "description LIKE 'Generated task %'";
+    private static final String GENERATED_PROJECTS = "description LIKE 'Generated project %'";
+    private static final List<String> TABLES = List.of(
+            "users ORDER BY id", "labels ORDER BY id", "projects ORDER BY id",
+            "project_employees ORDER BY project_id, employee_id",
+            "project_managers ORDER BY project_id, manager_id", "tasks ORDER BY id",
+            "comments ORDER BY id", "labels_tasks ORDER BY label_id, task_id",
+            "id_generators ORDER BY sequence_name");
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void givenSameSeed_whenGenerateIntoTwoDatabases_thenProduceIdenticalData()
+            throws Exception {
+        JdbcTemplate first = generate(SEED);
+        JdbcTemplate second = generate(SEED);
+        JdbcTemplate other = generate(OTHER_SEED);
+
+        assertEquals(dump(first), dump(second));
+        assertNotEquals(dump(first), dump(other));
+    }
+
+    @Test
+    void givenGeneratedData_whenCheckRelations_thenMembershipAndLabelsAreConsistent()
+            throws Exception {
+        JdbcTemplate jdbcTemplate = generate(SEED);
+
+        assertEquals(TASKS, count(jdbcTemplate, "SELECT COUNT(*) FROM tasks WHERE "
+                + GENERATED_TASKS));
+        assertTrue(count(jdbcTemplate, "SELECT COUNT(*) FROM labels_tasks") > 0);
+        assertTrue(count(jdbcTemplate, "SELECT COUNT(*) FROM comments") > 0);
+        assertEquals(0, count(jdbcTemplate, "SELECT COUNT(*) FROM project_managers pm "
+                + "WHERE NOT EXISTS (SELECT 1 FROM project_employees pe "
+                + "WHERE pe.project_id = pm.project_id AND pe.employee_id = pm.manager_id)"));
+        assertEquals(0, count(jdbcTemplate, "SELECT COUNT(*) FROM projects p "
+                + "JOIN project_employees pe ON pe.project_id = p.id "
+                + "WHERE pe.employee_id = p.owner_id AND p." + GENERATED_PROJECTS));
+        assertEquals(0, count(jdbcTemplate, "SELECT COUNT(*) FROM tasks t "
+                + "JOIN projects p ON p.id = t.project_id "
+                + "WHERE t." + GENERATED_TASKS + " AND t.assignee_id <> p.owner_id "
+                + "AND NOT EXISTS (SELECT 1 FROM project_employees pe "
+                + "WHERE pe.project_id = t.project_id AND pe.employee_id = t.assignee_id)"));
+        assertEquals(0, count(jdbcTemplate, "SELECT COUNT(*) FROM comments c "
+                + "JOIN tasks t ON t.id = c.task_id JOIN projects p ON p.id = t.project_id "
+                + "WHERE t." + GENERATED_TASKS + " AND c.user_id <> p.owner_id "
+                + "AND NOT EXISTS (SELECT 1 FROM project_employees pe "
+                + "WHERE pe.project_id = t.project_id AND pe.employee_id = c.user_id)"));
+        assertEquals(0, count(jdbcTemplate, "SELECT COUNT(*) FROM labels_tasks lt "
+                + "JOIN labels l ON l.id = lt.label_id JOIN tasks t ON t.id = lt.task_id "
+                + "WHERE t." + GENERATED_TASKS + " AND l.user_id <> t.assignee_id"));
+    }
+
+    @Test
+    void givenGeneratedData_whenReadIdGenerators_thenNextValuesAreAboveMaxIds()
+            throws Exception {
+        JdbcTemplate jdbcTemplate = generate(SEED);
+
+        for (String table : List.of("tasks", "comments", "labels")) {
+            long maxId = count(jdbcTemplate, "SELECT MAX(id) FROM " + table);
+            long nextValue = count(jdbcTemplate, "SELECT next_val FROM id_generators "
+                    + "WHERE sequence_name = '" + table + "'");
+            assertTrue(nextValue > maxId, table + " next_val " + nextValue
+                    + " is not above MAX(id) " + maxId);
+        }
+    }
+
+    private JdbcTemplate generate(long seed) throws Exception {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE");
+        dataSources.add(dataSource);
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(CHANGE_LOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenReturn("encoded");
+        new DataGenerator(dataSource, passwordEncoder, null, seed, USERS, PROJECTS, TASKS,
+                1.0, 2.0, 0.8, 1.0, BATCH_SIZE, "2025-01-01", "password", false)
+                .generate();
+        return new JdbcTemplate(dataSource);
+    }
+
+    private List<List<Map<String, Object>>> dump(JdbcTemplate jdbcTemplate) {
+        return TABLES.stream()
+                .map(table -> jdbcTemplate.queryForList("SELECT * FROM " + table))
+                .toList();
+    }
+
+    private long count(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanagementapp.loadtest;
+
+import com.example.taskmanagementapp.service.email.EmailService;
+import com.example.taskmanagementapp.service.email.utils.FakeEmailSender;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class InviteFlow {
+    private static final String ACCEPT_INVITE_PATH = "/projects/accept-invite?";
+    private static final long MAIL_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final LoadTestClient client;
+    private final FakeEmailSender mailbox;
+    private final String ownerAccessToken;
+    private final List<Invite> invites;
+    private int nextInvite;
+
+    InviteFlow(LoadTestClient client, FakeEmailSender mailbox, String ownerAccessToken,
+               List<Invite> invites) {
+        this.client = client;
+        this.mailbox = mailbox;
+        this.ownerAccessToken = ownerAccessToken;
+        this.invites = List.copyOf(invites);
+    }
+
+    void run() throws IOException, InterruptedException {
+        Invite invite = invites.get(nextInvite);
+        nextInvite = (nextInvite + 1) % invites.size();
+        //The invitees belong to this flow alone, so whatever is left over came from an
+        //earlier failed iteration and must not be mistaken for the new invitation
+        mailbox.clearEmails(invite.employeeEmail());
+        client.post("POST /projects/assign-employee/{projectId}/{employeeId}",
+                "/projects/assign-employee/" + invite.projectId() + "/"
+                        + invite.employeeId(), null, ownerAccessToken);
+        String query = awaitInviteQuery(invite.employeeEmail());
+        client.get("GET /projects/accept-invite", ACCEPT_INVITE_PATH + query, null);
+        client.post("POST /projects/remove-employee/{projectId}/{employeeId}",
+                "/projects/remove-employee/" + invite.projectId() + "/"
+                        + invite.employeeId(), null, ownerAccessToken);
+    }
+
+    private String awaitInviteQuery(String toEmail) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAIL_TIMEOUT_MILLIS;
+        long remaining = MAIL_TIMEOUT_MILLIS;
+        while (remaining > 0) {
+            EmailService.EmailRequest email = mailbox.takeEmail(toEmail, remaining,
+                    TimeUnit.MILLISECONDS).orElse(null);
+            if (email != null && email.body().contains(ACCEPT_INVITE_PATH)) {
+                String body = email.body();
+                return body.substring(body.indexOf(ACCEPT_INVITE_PATH)
+                        + ACCEPT_INVITE_PATH.length()).strip();
+            }
+            remaining = deadline - System.currentTimeMillis();
+        }
+        throw new IllegalStateException("No invitation email received by " + toEmail);
+    }
+
+    record Invite(long projectId, long employeeId, String employeeEmail) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanagementapp.loadtest;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+class LatencyRecorder {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void start() {
+        samples.clear();
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        if (recording) {
+            samples.computeIfAbsent(endpoint, key -> new EndpointSamples())
+                    .add(latencyNanos, success);
+        }
+    }
+
+    List<EndpointReport> report() {
+        double seconds = (stoppedAt - startedAt) / NANOS_PER_SECOND;
+        return samples.entrySet().stream()
+                .map(entry -> entry.getValue().toReport(entry.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointReport::endpoint))
+                .toList();
+    }
+
+    record EndpointReport(String endpoint, int requests, int errors, double throughputPerSecond,
+                          double p50Millis, double p95Millis, double p99Millis,
+                          double maxMillis) {
+    }
+
+    private static class EndpointSamples {
+        private long[] latencies = new long[INITIAL_CAPACITY];
+        private int size;
+        private int errors;
+
+        private synchronized void add(long latencyNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        private synchronized EndpointReport toReport(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointReport(endpoint, size, errors, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95),
+                    percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+
+        private double percentile(long[] sorted, double percentile) {
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / NANOS_PER_MILLI;
+        }
+    }
+}
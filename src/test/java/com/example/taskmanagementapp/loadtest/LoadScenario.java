@@ -0,0 +1,38 @@
+package com.example.taskmanagementapp.loadtest;
+
+import java.io.IOException;
+
+enum LoadScenario {
+    LOGIN {
+        @Override
+        void run(VirtualUser user) throws IOException, InterruptedException {
+            user.login();
+        }
+    },
+    TASKS {
+        @Override
+        void run(VirtualUser user) throws IOException, InterruptedException {
+            user.createAndListTasks();
+        }
+    },
+    COMMENTS {
+        @Override
+        void run(VirtualUser user) throws IOException, InterruptedException {
+            user.comment();
+        }
+    },
+    ATTACHMENTS {
+        @Override
+        void run(VirtualUser user) throws IOException, InterruptedException {
+            user.uploadAttachments();
+        }
+    },
+    INVITE {
+        @Override
+        void run(VirtualUser user) throws IOException, InterruptedException {
+            user.inviteEmployee();
+        }
+    };
+
+    abstract void run(VirtualUser user) throws IOException, InterruptedException;
+}
@@ -0,0 +1,118 @@
+package com.example.taskmanagementapp.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+class LoadTestClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String ACCESS_TOKEN_COOKIE = "accessToken=";
+    private static final String JSON = "application/json";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+
+    LoadTestClient(ObjectMapper objectMapper, String baseUrl, LatencyRecorder recorder) {
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = exchange("POST /auth/login", request("/auth/login", null)
+                .header("Content-Type", JSON)
+                .POST(jsonBody(new LoginBody(username, password))));
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith(ACCESS_TOKEN_COOKIE))
+                .map(cookie -> cookie.substring(ACCESS_TOKEN_COOKIE.length(),
+                        cookie.indexOf(';') > 0 ? cookie.indexOf(';') : cookie.length()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No access token for " + username));
+    }
+
+    JsonNode get(String endpoint, String path, String accessToken)
+            throws IOException, InterruptedException {
+        return toJson(exchange(endpoint, request(path, accessToken).GET()));
+    }
+
+    JsonNode post(String endpoint, String path, Object body, String accessToken)
+            throws IOException, InterruptedException {
+        return toJson(exchange(endpoint, request(path, accessToken)
+                .header("Content-Type", JSON)
+                .POST(body == null ? HttpRequest.BodyPublishers.noBody() : jsonBody(body))));
+    }
+
+    JsonNode postFiles(String endpoint, String path, String partName, int files, int fileSize,
+                       String accessToken) throws IOException, InterruptedException {
+        String boundary = UUID.randomUUID().toString();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < files; i++) {
+            body.write(("--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + partName + "\"; filename=\"file"
+                    + i + ".bin\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            body.write(new byte[fileSize]);
+            body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return toJson(exchange(endpoint, request(path, accessToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))));
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", JSON);
+        if (accessToken != null) {
+            builder.header("Cookie", ACCESS_TOKEN_COOKIE + accessToken);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) throws JsonProcessingException {
+        return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+    }
+
+    private HttpResponse<String> exchange(String endpoint, HttpRequest.Builder builder)
+            throws IOException, InterruptedException {
+        HttpRequest request = builder.build();
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        recorder.record(endpoint, System.nanoTime() - start, success);
+        if (!success) {
+            throw new IllegalStateException(endpoint + " returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+        return response;
+    }
+
+    private JsonNode toJson(HttpResponse<String> response) throws JsonProcessingException {
+        return response.body().isEmpty()
+                ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+    }
+
+    private record LoginBody(String emailOrUsername, String password) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.taskmanagementapp.loadtest;
+
+import static com.example.taskmanagementapp.constant.Constants.LOADTEST_PROFILE;
+
+import com.example.taskmanagementapp.TaskManagementApplication;
+import com.example.taskmanagementapp.dto.project.request.ProjectRequest;
+import com.example.taskmanagementapp.entity.Role;
+import com.example.taskmanagementapp.entity.User;
+import com.example.taskmanagementapp.repository.RoleRepository;
+import com.example.taskmanagementapp.repository.UserRepository;
+import com.example.taskmanagementapp.service.email.utils.FakeEmailSender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class LoadTestRunner {
+    private static final Logger logger = LogManager.getLogger(LoadTestRunner.class);
+    private static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "NON_KEYWORDS=USER,VALUE";
+    private static final String PASSWORD = "LoadTest_Password1!";
+    private static final String ALL_SCENARIOS = "login,tasks,comments,attachments,invite";
+    private static final String REPORT_ROW = "%-60s %9s %7s %9s %9s %9s %9s %9s";
+    private static final String REPORT_VALUES =
+            "%-60s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f";
+    //accept-invite parses project and employee ids from single digits of the action token
+    private static final int INVITE_PROJECTS = 9;
+    private static final int INVITEES = 8;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final int users = Integer.getInteger("loadtest.users", 20);
+        final long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 10);
+        final long durationSeconds = Long.getLong("loadtest.duration-seconds", 60);
+        final long thinkTimeMillis = Long.getLong("loadtest.think-time-ms", 0);
+        final List<LoadScenario> scenarios = Arrays.stream(System.getProperty(
+                        "loadtest.scenarios", ALL_SCENARIOS).split(","))
+                .map(scenario -> LoadScenario.valueOf(scenario.strip().toUpperCase(Locale.ROOT)))
+                .toList();
+        final Path reportFile = Path.of(System.getProperty("loadtest.report",
+                "target/load-test-report.json"));
+
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(TaskManagementApplication.class)
+                             .profiles(LOADTEST_PROFILE)
+                             .run("--server.port=0",
+                                     "--spring.datasource.url="
+                                             + System.getProperty("loadtest.datasource.url",
+                                             H2_URL),
+                                     "--spring.datasource.username="
+                                             + System.getProperty("loadtest.datasource.username",
+                                             "sa"),
+                                     "--spring.datasource.password="
+                                             + System.getProperty("loadtest.datasource.password",
+                                             ""))) {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            LatencyRecorder recorder = new LatencyRecorder();
+            LoadTestClient client = new LoadTestClient(objectMapper, "http://localhost:"
+                    + context.getEnvironment().getProperty("local.server.port"), recorder);
+
+            List<User> seededUsers = seedUsers(context, INVITEES + 1 + users);
+            User owner = seededUsers.getFirst();
+            String ownerAccessToken = client.login(owner.getUsername(), PASSWORD);
+            List<Long> inviteProjectIds = new ArrayList<>();
+            for (int i = 1; i <= INVITE_PROJECTS; i++) {
+                inviteProjectIds.add(client.post("POST /projects", "/projects",
+                        new ProjectRequest("Invite project " + i, null, LocalDate.now(),
+                                LocalDate.now().plusYears(1)), ownerAccessToken)
+                        .get("id").asLong());
+            }
+            //Each invitee belongs to a single virtual user, so no two of them ever wait for
+            //the same mailbox; users left without invitees skip the invite scenario
+            List<List<InviteFlow.Invite>> invitesPerUser = IntStream.range(0, users)
+                    .<List<InviteFlow.Invite>>mapToObj(i -> new ArrayList<>())
+                    .toList();
+            List<User> invitees = seededUsers.subList(1, INVITEES + 1);
+            for (int i = 0; i < invitees.size(); i++) {
+                User invitee = invitees.get(i);
+                List<InviteFlow.Invite> invites = invitesPerUser.get(i % users);
+                inviteProjectIds.forEach(projectId -> invites.add(new InviteFlow.Invite(
+                        projectId, invitee.getId(), invitee.getEmail())));
+            }
+            if (users > INVITEES && scenarios.contains(LoadScenario.INVITE)) {
+                logger.warn("Only {} of {} virtual users run the invite scenario",
+                        INVITEES, users);
+            }
+            FakeEmailSender mailbox = context.getBean(FakeEmailSender.class);
+            List<User> accounts = seededUsers.subList(INVITEES + 1, seededUsers.size());
+
+            logger.info("Running {} virtual users through {} for {} s after {} s of warm-up",
+                    users, scenarios, durationSeconds, warmupSeconds);
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            for (int i = 0; i < accounts.size(); i++) {
+                User account = accounts.get(i);
+                List<InviteFlow.Invite> invites = invitesPerUser.get(i);
+                Collections.shuffle(invites);
+                InviteFlow inviteFlow = invites.isEmpty() ? null
+                        : new InviteFlow(client, mailbox, ownerAccessToken, invites);
+                List<LoadScenario> userScenarios = inviteFlow != null ? scenarios
+                        : scenarios.stream()
+                                .filter(scenario -> scenario != LoadScenario.INVITE)
+                                .toList();
+                if (userScenarios.isEmpty()) {
+                    continue;
+                }
+                VirtualUser virtualUser = new VirtualUser(client, inviteFlow, account.getId(),
+                        account.getUsername(), PASSWORD);
+                int offset = i;
+                executor.submit(() -> runVirtualUser(virtualUser, userScenarios, offset,
+                        thinkTimeMillis, running));
+            }
+            TimeUnit.SECONDS.sleep(warmupSeconds);
+            recorder.start();
+            TimeUnit.SECONDS.sleep(durationSeconds);
+            recorder.stop();
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+
+            List<LatencyRecorder.EndpointReport> report = recorder.report();
+            logReport(report);
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(),
+                    new LoadTestReport(users, warmupSeconds, durationSeconds, thinkTimeMillis,
+                            scenarios, report));
+            logger.info("Load test report written to {}", reportFile.toAbsolutePath());
+        }
+    }
+
+    private static List<User> seedUsers(ConfigurableApplicationContext context, int count) {
+        Role userRole = context.getBean(RoleRepository.class)
+                .save(new Role(Role.RoleName.ROLE_USER));
+        context.getBean(RoleRepository.class).save(new Role(Role.RoleName.ROLE_ADMIN));
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        return context.getBean(UserRepository.class).saveAll(IntStream.rangeClosed(1, count)
+                .mapToObj(i -> User.builder()
+                        .username("loadUser" + i)
+                        .password(encodedPassword)
+                        .email("load_user" + i + "@mail.com")
+                        .firstName("Load")
+                        .lastName("User" + i)
+                        .role(userRole)
+                        .isEnabled(true)
+                        .isAccountNonLocked(true)
+                        .build())
+                .toList());
+    }
+
+    private static void runVirtualUser(VirtualUser virtualUser, List<LoadScenario> scenarios,
+                                       int offset, long thinkTimeMillis, AtomicBoolean running) {
+        try {
+            virtualUser.setUp();
+            for (int i = offset; running.get(); i++) {
+                try {
+                    scenarios.get(i % scenarios.size()).run(virtualUser);
+                } catch (IOException | RuntimeException e) {
+                    logger.debug("Scenario iteration failed", e);
+                }
+                TimeUnit.MILLISECONDS.sleep(thinkTimeMillis);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Virtual user could not be set up", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void logReport(List<LatencyRecorder.EndpointReport> report) {
+        logger.info(String.format(REPORT_ROW, "endpoint", "requests", "errors", "req/s",
+                "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        report.forEach(row -> logger.info(String.format(REPORT_VALUES, row.endpoint(),
+                row.requests(), row.errors(), row.throughputPerSecond(), row.p50Millis(),
+                row.p95Millis(), row.p99Millis(), row.maxMillis())));
+    }
+
+    record LoadTestReport(int users, long warmupSeconds, long durationSeconds,
+                          long thinkTimeMillis, List<LoadScenario> scenarios,
+                          List<LatencyRecorder.EndpointReport> endpoints) {
+    }
+}
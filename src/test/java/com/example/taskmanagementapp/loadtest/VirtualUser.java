@@ -0,0 +1,77 @@
+package com.example.taskmanagementapp.loadtest;
+
+import com.example.taskmanagementapp.dto.comment.request.CommentRequest;
+import com.example.taskmanagementapp.dto.project.request.ProjectRequest;
+import com.example.taskmanagementapp.dto.task.request.TaskRequest;
+import java.io.IOException;
+import java.time.LocalDate;
+
+class VirtualUser {
+    private static final String PAGE = "?page=0&size=20";
+    private static final String ATTACHMENT_PART = "attachmentFile";
+    private static final int ATTACHMENT_FILES = 2;
+    private static final int ATTACHMENT_SIZE = 64 * 1024;
+
+    private final LoadTestClient client;
+    private final InviteFlow inviteFlow;
+    private final long userId;
+    private final String username;
+    private final String password;
+    private String accessToken;
+    private long projectId;
+    private long taskId;
+    private int sequence;
+
+    VirtualUser(LoadTestClient client, InviteFlow inviteFlow, long userId,
+                String username, String password) {
+        this.client = client;
+        this.inviteFlow = inviteFlow;
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+    }
+
+    void setUp() throws IOException, InterruptedException {
+        login();
+        projectId = client.post("POST /projects", "/projects",
+                new ProjectRequest(username + " project", "Load test project",
+                        LocalDate.now(), LocalDate.now().plusYears(1)),
+                accessToken).get("id").asLong();
+        createTask();
+    }
+
+    void login() throws IOException, InterruptedException {
+        accessToken = client.login(username, password);
+    }
+
+    void createAndListTasks() throws IOException, InterruptedException {
+        createTask();
+        client.get("GET /tasks/all-project-tasks/{projectId}",
+                "/tasks/all-project-tasks/" + projectId + PAGE, accessToken);
+        client.get("GET /tasks/{taskId}", "/tasks/" + taskId, accessToken);
+    }
+
+    void comment() throws IOException, InterruptedException {
+        client.post("POST /comments", "/comments",
+                new CommentRequest(taskId, "Comment " + ++sequence + " from " + username),
+                accessToken);
+        client.get("GET /comments/{taskId}", "/comments/" + taskId + PAGE, accessToken);
+    }
+
+    void uploadAttachments() throws IOException, InterruptedException {
+        client.postFiles("POST /attachments/{taskId}", "/attachments/" + taskId,
+                ATTACHMENT_PART, ATTACHMENT_FILES, ATTACHMENT_SIZE, accessToken);
+        client.get("GET /attachments/{taskId}", "/attachments/" + taskId, accessToken);
+    }
+
+    void inviteEmployee() throws IOException, InterruptedException {
+        inviteFlow.run();
+    }
+
+    private void createTask() throws IOException, InterruptedException {
+        taskId = client.post("POST /tasks", "/tasks?taskPriorityDto=MEDIUM",
+                new TaskRequest("Task " + ++sequence, "Load test task",
+                        LocalDate.now().plusMonths(1), projectId, userId),
+                accessToken).get("id").asLong();
+    }
+}
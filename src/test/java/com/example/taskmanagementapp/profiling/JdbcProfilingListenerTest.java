@@ -0,0 +1,41 @@
+package com.example.taskmanagementapp.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JdbcProfilingListenerTest {
+    private final JdbcProfilingListener listener = new JdbcProfilingListener();
+
+    @AfterEach
+    void tearDown() {
+        RequestProfiler.clear();
+    }
+
+    @Test
+    void givenActiveProfile_whenStatementsAndBatchesRun_thenRecordEachAsDb() {
+        RequestProfile profile = RequestProfiler.start();
+
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+
+        assertEquals(3, profile.getCount(ProfileSegment.DB));
+        assertTrue(profile.getNanos(ProfileSegment.DB) >= 0);
+        assertEquals(0, profile.getCount(ProfileSegment.SERVICE));
+    }
+
+    @Test
+    void givenNoActiveProfile_whenStatementRuns_thenRecordNothing() {
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        RequestProfile profile = RequestProfiler.start();
+        assertEquals(0, profile.getCount(ProfileSegment.DB));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.taskmanagementapp.profiling;
+
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.SERVER_TIMING_HEADER;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestProfilingFilterTest {
+    private static final long SLOW_REQUEST_THRESHOLD_MS = 500;
+    private static final String BODY = "{\"id\":1}";
+
+    @Test
+    void givenServerTimingDisabled_whenFilter_thenProfileWithoutHeader() throws Exception {
+        RequestProfilingFilter filter =
+                new RequestProfilingFilter(SLOW_REQUEST_THRESHOLD_MS, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<RequestProfile> profile = new AtomicReference<>();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/projects"), response,
+                writeBody(profile, response));
+
+        assertNotNull(profile.get());
+        assertNull(response.getHeader(SERVER_TIMING_HEADER));
+        assertNull(RequestProfiler.current());
+    }
+
+    @Test
+    void givenServerTimingEnabled_whenFilter_thenSendSegmentsBeforeBody() throws Exception {
+        RequestProfilingFilter filter =
+                new RequestProfilingFilter(SLOW_REQUEST_THRESHOLD_MS, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, wrappedResponse) -> {
+            RequestProfiler.record(ProfileSegment.DB, 2_000_000L);
+            wrappedResponse.getWriter().write(BODY);
+            wrappedResponse.flushBuffer();
+        };
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/projects"), response, chain);
+
+        String serverTiming = response.getHeader(SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("db;desc=\"1 calls\";dur=2.0, total;dur="));
+        assertNull(RequestProfiler.current());
+    }
+
+    @Test
+    void givenServerTimingEnabledAndNoBody_whenFilter_thenSendHeaderAfterChain()
+            throws Exception {
+        RequestProfilingFilter filter =
+                new RequestProfilingFilter(SLOW_REQUEST_THRESHOLD_MS, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/projects/1"), response,
+                (request, wrappedResponse) -> { });
+
+        assertTrue(response.getHeader(SERVER_TIMING_HEADER).startsWith("total;dur="));
+    }
+
+    private FilterChain writeBody(AtomicReference<RequestProfile> profile,
+                                  MockHttpServletResponse response) {
+        return (request, chainResponse) -> {
+            profile.set(RequestProfiler.current());
+            assertSame(response, chainResponse);
+            chainResponse.getWriter().write(BODY);
+        };
+    }
+}
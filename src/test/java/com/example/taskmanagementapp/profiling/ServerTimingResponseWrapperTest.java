@@ -0,0 +1,63 @@
+package com.example.taskmanagementapp.profiling;
+
+import static com.example.taskmanagementapp.constant.profiling.RequestProfilingConstants.SERVER_TIMING_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingResponseWrapperTest {
+    private MockHttpServletResponse response;
+    private RequestProfile profile;
+    private ServerTimingResponseWrapper wrapper;
+
+    @BeforeEach
+    void setUp() {
+        response = new MockHttpServletResponse();
+        profile = new RequestProfile();
+        wrapper = new ServerTimingResponseWrapper(response, profile);
+    }
+
+    @Test
+    void givenSegmentsRecorded_whenGetWriter_thenSetHeaderBeforeBody() throws Exception {
+        profile.record(ProfileSegment.SERVICE, 1_500_000L);
+
+        wrapper.getWriter().write("body");
+
+        assertTrue(response.getHeader(SERVER_TIMING_HEADER)
+                .startsWith("svc;desc=\"1 calls\";dur=1.5, total;dur="));
+    }
+
+    @Test
+    void givenHeaderWritten_whenMoreSegmentsRecorded_thenKeepFirstHeader() throws Exception {
+        wrapper.getOutputStream();
+        String serverTiming = response.getHeader(SERVER_TIMING_HEADER);
+
+        profile.record(ProfileSegment.DB, 1_000_000L);
+        wrapper.writeServerTiming();
+
+        assertEquals(1, response.getHeaders(SERVER_TIMING_HEADER).size());
+        assertEquals(serverTiming, response.getHeader(SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void givenCommittedResponse_whenWriteServerTiming_thenSkipHeader() {
+        response.setCommitted(true);
+
+        wrapper.writeServerTiming();
+
+        assertNull(response.getHeader(SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void givenError_whenSendError_thenSetHeaderFirst() throws Exception {
+        wrapper.sendError(HttpServletResponse.SC_NOT_FOUND);
+
+        assertTrue(response.getHeader(SERVER_TIMING_HEADER).startsWith("total;dur="));
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskmanagementapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.dropbox.core.v2.DbxClientV2;
+import com.example.taskmanagementapp.entity.AttachmentContentDeletion;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AttachmentContentDeletionRepositoryTest {
+    private static final String DUE_FILE_ID = "aa01";
+    private static final String LATER_FILE_ID = "bb02";
+    private static final int LIMIT = 10;
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    @Autowired
+    private AttachmentContentDeletionRepository attachmentContentDeletionRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        attachmentContentDeletionRepository.scheduleDeletion(DUE_FILE_ID, now.minusMinutes(1));
+        attachmentContentDeletionRepository.scheduleDeletion(LATER_FILE_ID, now.plusMinutes(1));
+    }
+
+    @Test
+    void givenQueuedContents_whenFindDueForUpdate_thenReturnOnlyDueOnes() {
+        List<AttachmentContentDeletion> due = attachmentContentDeletionRepository
+                .findDueForUpdate(now, LIMIT);
+        assertEquals(List.of(DUE_FILE_ID),
+                due.stream().map(AttachmentContentDeletion::getFileId).toList());
+    }
+
+    @Test
+    void givenQueuedContent_whenScheduleDeletionAgain_thenStartNewGracePeriod() {
+        assertEquals(List.of(DUE_FILE_ID), attachmentContentDeletionRepository
+                .findDueForUpdate(now, LIMIT).stream()
+                .map(AttachmentContentDeletion::getFileId).toList());
+
+        attachmentContentDeletionRepository.scheduleDeletion(DUE_FILE_ID, now.plusMinutes(5));
+        entityManager.clear();
+
+        assertEquals(now.plusMinutes(5), attachmentContentDeletionRepository
+                .findById(DUE_FILE_ID).orElseThrow().getDeleteAfter());
+        assertEquals(List.of(), attachmentContentDeletionRepository.findDueForUpdate(now, LIMIT));
+    }
+
+    @Test
+    void givenQueuedContent_whenCancelDeletion_thenRemoveIt() {
+        assertEquals(1, attachmentContentDeletionRepository.cancelDeletion(LATER_FILE_ID));
+        assertEquals(0, attachmentContentDeletionRepository.cancelDeletion(LATER_FILE_ID));
+        assertFalse(attachmentContentDeletionRepository.existsById(LATER_FILE_ID));
+    }
+}
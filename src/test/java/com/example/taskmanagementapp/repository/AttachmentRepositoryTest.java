@@ -1,6 +1,7 @@
 package com.example.taskmanagementapp.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.dropbox.core.v2.DbxClientV2;
@@ -52,6 +53,7 @@ class AttachmentRepositoryTest {
     private static final String FILE_NAME = "fileName1";
     private static final String ANOTHER_FILE_ID = "fileId2";
     private static final String ANOTHER_FILE_NAME = "fileName2";
+    private static final String UNKNOWN_FILE_ID = "fileId3";
     private static final LocalDateTime UPLOADED_DATE = LocalDateTime.of(2025, 1, 6, 0, 0);
     private static final Logger logger = LogManager.getLogger(AttachmentRepositoryTest.class);
     @MockitoBean
@@ -181,6 +183,20 @@ class AttachmentRepositoryTest {
         assertTrue(attachmentRepository.findAllByTaskId(anotherTask.getId()).isEmpty());
     }
 
+    @Test
+    void givenSharedFileId_whenOneAttachmentDeleted_thenFileIdStillExists() {
+        attachmentRepository.save(Attachment.builder()
+                .task(anotherTask)
+                .fileId(FILE_ID)
+                .fileName(FILE_NAME)
+                .uploadDate(UPLOADED_DATE)
+                .build());
+        attachmentRepository.deleteById(firstAttachmentId);
+
+        assertTrue(attachmentRepository.existsByFileId(FILE_ID));
+        assertFalse(attachmentRepository.existsByFileId(UNKNOWN_FILE_ID));
+    }
+
     private void attachmentAssertions(Attachment attachment, String fileId, String fileName) {
         assertEquals(fileId, attachment.getFileId());
         assertEquals(fileName, attachment.getFileName());
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -212,6 +213,19 @@ public class CommentRepositoryTest {
                 commentRepository.findAllByTaskId(task.getId(), Pageable.unpaged()).isEmpty());
     }
 
+    @Test
+    void givenTwoCommentsWithSameTimestamp_whenFindAllByTaskIdAfter_thenSeekPastFirst() {
+        List<Comment> firstPage = commentRepository.findAllByTaskIdAfter(task.getId(),
+                TIME_STAMP.minusDays(1), 0L, Limit.of(1));
+        assertEquals(1, firstPage.size());
+        assertEquals(firstTaskComment.getId(), firstPage.getFirst().getId());
+
+        List<Comment> secondPage = commentRepository.findAllByTaskIdAfter(task.getId(),
+                TIME_STAMP, firstTaskComment.getId(), Limit.of(2));
+        assertEquals(1, secondPage.size());
+        assertEquals(anotherTaskComment.getId(), secondPage.getFirst().getId());
+    }
+
     @Test
     void givenComment_whenFindByIdAndUserId_thenReturnCommentTwice() {
         Comment firstComment = commentRepository.findByIdAndUserId(firstTaskComment.getId(), user.getId())
@@ -0,0 +1,103 @@
+package com.example.taskmanagementapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.dropbox.core.v2.DbxClientV2;
+import com.example.taskmanagementapp.entity.EmailOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EmailOutboxRepositoryTest {
+    private static final String TEST_EMAIL = "john_doe@mail.com";
+    private static final String SUBJECT = "subject";
+    private static final String BODY = "body";
+    private static final int LIMIT = 10;
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    private static final int CLAIM = 1;
+    private EmailOutbox pending;
+    private EmailOutbox dueRetry;
+    private EmailOutbox expiredLease;
+    private EmailOutbox activeLease;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        pending = emailOutboxRepository.save(email(EmailOutbox.Status.PENDING, null, null));
+        dueRetry = emailOutboxRepository.save(
+                email(EmailOutbox.Status.PENDING, null, now.minusMinutes(1)));
+        emailOutboxRepository.save(email(EmailOutbox.Status.PENDING, null, now.plusMinutes(1)));
+        expiredLease = emailOutboxRepository.save(
+                email(EmailOutbox.Status.PROCESSING, now.minusMinutes(1), null));
+        activeLease = emailOutboxRepository.save(
+                email(EmailOutbox.Status.PROCESSING, now.plusMinutes(1), null));
+        emailOutboxRepository.save(email(EmailOutbox.Status.SENT, null, null));
+        emailOutboxRepository.save(email(EmailOutbox.Status.FAILED, null, null));
+    }
+
+    @Test
+    void givenOutbox_whenFindClaimableForUpdate_thenReturnDueEmailsAndExpiredLeases() {
+        List<EmailOutbox> claimable = emailOutboxRepository
+                .findClaimableForUpdate(LocalDateTime.now(), LIMIT);
+        assertEquals(List.of(pending.getId(), dueRetry.getId(), expiredLease.getId()),
+                claimable.stream().map(EmailOutbox::getId).toList());
+    }
+
+    @Test
+    void givenLeaseHeldByThisClaim_whenRenewLease_thenExtendIt() {
+        assertEquals(1, emailOutboxRepository.renewLease(activeLease.getId(), CLAIM,
+                LocalDateTime.now().plusMinutes(5)));
+    }
+
+    @Test
+    void givenLeaseReclaimedByAnotherNode_whenRenewOrMarkSent_thenUpdateNothing() {
+        assertEquals(0, emailOutboxRepository.renewLease(activeLease.getId(), CLAIM - 1,
+                LocalDateTime.now().plusMinutes(5)));
+        assertEquals(0, emailOutboxRepository.markSent(activeLease.getId(), CLAIM - 1,
+                LocalDateTime.now()));
+        assertEquals(0, emailOutboxRepository.markSent(pending.getId(), CLAIM,
+                LocalDateTime.now()));
+    }
+
+    @Test
+    void givenFailedAttempt_whenScheduleRetry_thenReleaseUntilNextAttempt() {
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusMinutes(1);
+        assertEquals(1, emailOutboxRepository.scheduleRetry(activeLease.getId(), CLAIM,
+                nextAttemptAt, "error"));
+        assertEquals(List.of(pending.getId(), dueRetry.getId(), expiredLease.getId()),
+                emailOutboxRepository.findClaimableForUpdate(LocalDateTime.now(), LIMIT)
+                        .stream().map(EmailOutbox::getId).toList());
+    }
+
+    @Test
+    void givenSentEmail_whenDeleteAllSentBefore_thenDeleteIt() {
+        emailOutboxRepository.markSent(activeLease.getId(), CLAIM,
+                LocalDateTime.now().minusDays(8));
+        assertEquals(1, emailOutboxRepository.deleteAllSentBefore(
+                LocalDateTime.now().minusDays(7)));
+    }
+
+    private EmailOutbox email(EmailOutbox.Status status, LocalDateTime lockedUntil,
+                              LocalDateTime nextAttemptAt) {
+        return EmailOutbox.builder()
+                .toEmail(TEST_EMAIL)
+                .subject(SUBJECT)
+                .body(BODY)
+                .status(status)
+                .attempts(status == EmailOutbox.Status.PENDING ? 0 : CLAIM)
+                .createdAt(LocalDateTime.now())
+                .lockedUntil(lockedUntil)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
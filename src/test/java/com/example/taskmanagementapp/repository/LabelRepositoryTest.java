@@ -17,7 +17,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -260,6 +262,29 @@ class LabelRepositoryTest {
                 Label.Color.YELLOW, anotherSavedTask);
     }
 
+    @Test
+    void givenTwoLabels_whenFindTaskIdsByLabelIdIn_thenReturnPairsForBoth() {
+        Map<Long, Long> taskIdsByLabelId = labelRepository
+                .findTaskIdsByLabelIdIn(List.of(labelId, anotherLabelId)).stream()
+                .collect(Collectors.toMap(LabelRepository.LabelTaskId::getLabelId,
+                        LabelRepository.LabelTaskId::getTaskId));
+        assertEquals(Map.of(labelId, savedTask.getId(), anotherLabelId,
+                anotherSavedTask.getId()), taskIdsByLabelId);
+    }
+
+    @Test
+    void givenLabel_whenAddAndDeleteLabelLink_thenJoinTableChangesOnce() {
+        labelRepository.addLabelLink(labelId, anotherSavedTask.getId());
+        labelRepository.addLabelLink(labelId, anotherSavedTask.getId());
+        assertEquals(2, labelRepository.findTaskIdsByLabelIdIn(List.of(labelId)).size());
+
+        labelRepository.deleteLabelLink(labelId, anotherSavedTask.getId());
+        assertEquals(List.of(savedTask.getId()), labelRepository
+                .findTaskIdsByLabelIdIn(List.of(labelId)).stream()
+                .map(LabelRepository.LabelTaskId::getTaskId)
+                .toList());
+    }
+
     private void labelAssertions(Label label,Long id, String name, Label.Color color, Task task) {
         assertNotNull(label);
         assertEquals(id, label.getId());
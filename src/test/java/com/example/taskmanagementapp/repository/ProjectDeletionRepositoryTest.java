@@ -0,0 +1,112 @@
+package com.example.taskmanagementapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.dropbox.core.v2.DbxClientV2;
+import com.example.taskmanagementapp.entity.ProjectDeletion;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProjectDeletionRepositoryTest {
+    private static final int LIMIT = 10;
+    private static final int CLAIM = 1;
+    private static final int MAX_ATTEMPTS = 5;
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    @Autowired
+    private ProjectDeletionRepository projectDeletionRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    private ProjectDeletion pending;
+    private ProjectDeletion failed;
+    private ProjectDeletion expiredLease;
+    private ProjectDeletion activeLease;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        pending = projectDeletionRepository.save(
+                deletion(1L, ProjectDeletion.Status.PENDING, null));
+        failed = projectDeletionRepository.save(
+                deletion(2L, ProjectDeletion.Status.FAILED, null));
+        expiredLease = projectDeletionRepository.save(
+                deletion(3L, ProjectDeletion.Status.RUNNING, now.minusMinutes(1)));
+        activeLease = projectDeletionRepository.save(
+                deletion(4L, ProjectDeletion.Status.RUNNING, now.plusMinutes(1)));
+        projectDeletionRepository.save(deletion(5L, ProjectDeletion.Status.COMPLETED, null));
+    }
+
+    @Test
+    void givenDeletions_whenFindClaimableForUpdate_thenReturnPendingAndExpiredLeases() {
+        List<ProjectDeletion> claimable = projectDeletionRepository
+                .findClaimableForUpdate(LocalDateTime.now(), LIMIT);
+        assertEquals(List.of(pending.getProjectId(), expiredLease.getProjectId()),
+                claimable.stream().map(ProjectDeletion::getProjectId).toList());
+    }
+
+    @Test
+    void givenScheduledRetries_whenFindClaimableForUpdate_thenReturnOnlyDueOnes() {
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(1, projectDeletionRepository.scheduleRetry(activeLease.getProjectId(),
+                CLAIM, now.minusMinutes(1), "error"));
+        assertEquals(1, projectDeletionRepository.scheduleRetry(expiredLease.getProjectId(),
+                CLAIM, now.plusMinutes(1), "error"));
+        entityManager.clear();
+
+        List<ProjectDeletion> claimable = projectDeletionRepository
+                .findClaimableForUpdate(now, LIMIT);
+        assertEquals(List.of(pending.getProjectId(), activeLease.getProjectId()),
+                claimable.stream().map(ProjectDeletion::getProjectId).toList());
+        assertEquals(ProjectDeletion.Status.FAILED, projectDeletionRepository
+                .findById(failed.getProjectId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void givenLeaseHeldByThisClaim_whenRecordProgress_thenAddDeletedTasks() {
+        assertEquals(1, projectDeletionRepository.recordProgress(activeLease.getProjectId(),
+                CLAIM, 500, LocalDateTime.now().plusMinutes(5)));
+        assertEquals(1, projectDeletionRepository.recordProgress(activeLease.getProjectId(),
+                CLAIM, 20, LocalDateTime.now().plusMinutes(5)));
+        assertEquals(1, projectDeletionRepository.markCompleted(activeLease.getProjectId(),
+                CLAIM));
+        entityManager.clear();
+
+        ProjectDeletion completed = projectDeletionRepository
+                .findById(activeLease.getProjectId()).orElseThrow();
+        assertEquals(ProjectDeletion.Status.COMPLETED, completed.getStatus());
+        assertEquals(520, completed.getDeletedTasks());
+    }
+
+    @Test
+    void givenLeaseReclaimedByAnotherNode_whenRecordProgressOrComplete_thenUpdateNothing() {
+        assertEquals(0, projectDeletionRepository.recordProgress(activeLease.getProjectId(),
+                CLAIM - 1, 500, LocalDateTime.now().plusMinutes(5)));
+        assertEquals(0, projectDeletionRepository.markCompleted(activeLease.getProjectId(),
+                CLAIM - 1));
+        assertEquals(0, projectDeletionRepository.markFailed(pending.getProjectId(),
+                CLAIM, "error"));
+    }
+
+    private ProjectDeletion deletion(Long projectId, ProjectDeletion.Status status,
+                                     LocalDateTime lockedUntil) {
+        return ProjectDeletion.builder()
+                .projectId(projectId)
+                .status(status)
+                .attempts(switch (status) {
+                    case PENDING -> 0;
+                    case FAILED -> MAX_ATTEMPTS;
+                    default -> CLAIM;
+                })
+                .lockedUntil(lockedUntil)
+                .build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.taskmanagementapp.repository;
 
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.EMPLOYEE_ROLE;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.MANAGER_ROLE;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.OWNER_ROLE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -11,8 +14,11 @@ import com.example.taskmanagementapp.entity.Role;
 import com.example.taskmanagementapp.entity.User;
 import com.example.taskmanagementapp.exception.EntityNotFoundException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +27,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -44,6 +51,7 @@ class ProjectRepositoryTest {
     private static final String ANOTHER_PROJECT_DESCRIPTION = "anotherProjectDescription";
     private static final LocalDate PROJECT_START_DATE = LocalDate.of(2025, 1, 1);
     private static final LocalDate PROJECT_END_DATE = LocalDate.of(2025, 12, 31);
+    private static final int KEYSET_PAGE_SIZE = 2;
     @MockitoBean
     private final DbxClientV2 dbxClientV2 = null; //unused since not needed
     @Autowired
@@ -163,6 +171,35 @@ class ProjectRepositoryTest {
                 PROJECT_NAME, PROJECT_DESCRIPTION);
     }
 
+    @Test
+    void givenManyProjects_whenPageThroughOwnedAndAssignedAfter_thenReturnEachActiveProjectOnce() {
+        List<Long> expectedIds = new ArrayList<>(List.of(existingProjectId));
+        for (int i = 0; i < 4; i++) {
+            expectedIds.add(saveProject(false));
+        }
+        saveProject(true);
+
+        assertEquals(expectedIds, pageThrough(lastProjectId -> projectRepository
+                .findAllByOwnerIdAfter(savedUser.getId(), lastProjectId,
+                        Limit.of(KEYSET_PAGE_SIZE))));
+        assertEquals(expectedIds, pageThrough(lastProjectId -> projectRepository
+                .findAllByEmployeeIdAfter(savedUser.getId(), lastProjectId,
+                        Limit.of(KEYSET_PAGE_SIZE))));
+    }
+
+    @Test
+    void givenDeletedProjects_whenPageThroughOwnedDeletedAfter_thenReturnOnlyDeletedOnes() {
+        List<Long> expectedIds = new ArrayList<>(List.of(deletedProjectId));
+        for (int i = 0; i < 2; i++) {
+            expectedIds.add(saveProject(true));
+        }
+        saveProject(false);
+
+        assertEquals(expectedIds, pageThrough(lastProjectId -> projectRepository
+                .findAllByOwnerIdDeletedAfter(savedUser.getId(), lastProjectId,
+                        Limit.of(KEYSET_PAGE_SIZE))));
+    }
+
     @Test
     void givenExistingProjectId_whenFindByIdNotDeleted_thenReturnSingleProject() {
         Project project = projectRepository.findByIdNotDeleted(existingProjectId).orElseThrow(
@@ -196,6 +233,50 @@ class ProjectRepositoryTest {
                 .isUserEmployee(deletedProjectId, savedUser.getId()));
     }
 
+    @Test
+    void givenOwnerManagerAndEmployee_whenFindUserRoleMask_thenReturnAllRoles() {
+        assertEquals(OWNER_ROLE | MANAGER_ROLE | EMPLOYEE_ROLE, projectRepository
+                .findUserRoleMask(existingProjectId, savedUser.getId()).orElseThrow());
+    }
+
+    @Test
+    void givenDeletedProject_whenFindUserRoleMask_thenReturnEmpty() {
+        assertTrue(projectRepository
+                .findUserRoleMask(deletedProjectId, savedUser.getId()).isEmpty());
+    }
+
+    @Test
+    void givenTwoProjects_whenFindEmployeeAndManagerIdsByProjectIdIn_thenReturnPairsForAll() {
+        List<ProjectRepository.ProjectMemberId> employeeIds = projectRepository
+                .findEmployeeIdsByProjectIdIn(List.of(existingProjectId, deletedProjectId));
+        assertEquals(Set.of(existingProjectId, deletedProjectId), employeeIds.stream()
+                .map(ProjectRepository.ProjectMemberId::getProjectId)
+                .collect(Collectors.toSet()));
+        assertTrue(employeeIds.stream()
+                .allMatch(memberId -> memberId.getUserId().equals(savedUser.getId())));
+
+        assertEquals(1, projectRepository
+                .findManagerIdsByProjectIdIn(List.of(existingProjectId)).size());
+    }
+
+    @Test
+    void givenNewEmployee_whenAddAndRemoveEmployee_thenJoinTableChangesOnce() {
+        projectRepository.addEmployee(existingProjectId, anotherSavedUser.getId());
+        projectRepository.addEmployee(existingProjectId, anotherSavedUser.getId());
+        projectRepository.addManager(existingProjectId, anotherSavedUser.getId());
+        assertEquals(2, projectRepository
+                .findEmployeeIdsByProjectIdIn(List.of(existingProjectId)).size());
+        assertEquals(2, projectRepository
+                .findManagerIdsByProjectIdIn(List.of(existingProjectId)).size());
+
+        projectRepository.removeManager(existingProjectId, anotherSavedUser.getId());
+        projectRepository.removeEmployee(existingProjectId, anotherSavedUser.getId());
+        assertEquals(1, projectRepository
+                .findEmployeeIdsByProjectIdIn(List.of(existingProjectId)).size());
+        assertEquals(1, projectRepository
+                .findManagerIdsByProjectIdIn(List.of(existingProjectId)).size());
+    }
+
     private void project(Project project, boolean isDeleted,
                                    String projectName, String projectDescription) {
         assertNotNull(project);
@@ -213,4 +294,34 @@ class ProjectRepositoryTest {
         assertEquals(1, project.getManagers().size());
         assertEquals(1, project.getEmployees().size());
     }
+
+    private Long saveProject(boolean isDeleted) {
+        return projectRepository.save(
+                Project.builder()
+                        .name(PROJECT_NAME)
+                        .description(PROJECT_DESCRIPTION)
+                        .startDate(PROJECT_START_DATE)
+                        .endDate(PROJECT_END_DATE)
+                        .status(Project.Status.IN_PROGRESS)
+                        .isDeleted(isDeleted)
+                        .owner(savedUser)
+                        .managers(Set.of(savedUser))
+                        .employees(Set.of(savedUser))
+                        .build())
+                .getId();
+    }
+
+    private List<Long> pageThrough(Function<Long, List<Project>> nextPage) {
+        List<Long> seenIds = new ArrayList<>();
+        long lastProjectId = 0L;
+        List<Project> page;
+        do {
+            page = nextPage.apply(lastProjectId);
+            for (Project project : page) {
+                seenIds.add(project.getId());
+                lastProjectId = project.getId();
+            }
+        } while (page.size() == KEYSET_PAGE_SIZE);
+        return seenIds;
+    }
 }
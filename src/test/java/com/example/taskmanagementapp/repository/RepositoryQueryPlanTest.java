@@ -0,0 +1,332 @@
+package com.example.taskmanagementapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.dropbox.core.v2.DbxClientV2;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+    private static final int USERS = 100;
+    private static final int PROJECTS = 2_000;
+    private static final int TASKS_PER_PROJECT = 10;
+    private static final int COMMENTS_PER_TASK = 2;
+    private static final int LABELS_PER_USER = 10;
+    private static final int ACTION_TOKENS = 2_000;
+    private static final int DUE_DATE_SPREAD_DAYS = 365;
+    private static final int BATCH_SIZE = 1_000;
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final long USER_ID = 7;
+    private static final long PROJECT_ID = 42;
+    private static final long TASK_ID = 420;
+    private static final long LABEL_ID = 70;
+    private static final int PAGE_SIZE = 20;
+    private static final int DUE_TASKS_LIMIT = 500;
+    private static final LocalDate DUE_DATE = LocalDate.of(2025, 3, 1);
+    private static final String FULL_TABLE_SCAN = "ALL";
+    private static final String FULL_INDEX_SCAN = "index";
+    private static final String FILESORT = "Using filesort";
+    private static final Logger logger = LogManager.getLogger(RepositoryQueryPlanTest.class);
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+    @Autowired
+    private ActionTokenRepository actionTokenRepository;
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeAll
+    void setUpBeforeAll() throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            insert(conn, "INSERT INTO users (id, username, password, email, first_name, "
+                    + "last_name, is_enabled, is_account_non_locked) "
+                    + "VALUES (?, ?, 'password', ?, 'first', 'last', 1, 1)", USERS, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setString(2, "user" + i);
+                        ps.setString(3, "user" + i + "@mail.com");
+                    });
+            insert(conn, "INSERT INTO projects (id, name, start_date, end_date, status, "
+                    + "is_deleted, owner_id) VALUES (?, 'project', ?, ?, 'IN_PROGRESS', ?, ?)",
+                    PROJECTS, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setDate(2, Date.valueOf(START_DATE));
+                        ps.setDate(3, Date.valueOf(START_DATE.plusYears(1)));
+                        ps.setBoolean(4, i % 10 == 0);
+                        ps.setLong(5, i % USERS + 1);
+                    });
+            insert(conn, "INSERT INTO project_employees (project_id, employee_id) "
+                    + "VALUES (?, ?)", PROJECTS, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setLong(2, (i * 31L) % USERS + 1);
+                    });
+            insert(conn, "INSERT INTO tasks (id, name, priority, status, due_date, "
+                    + "project_id, assignee_id, is_deleted) "
+                    + "VALUES (?, 'task', 'LOW', 'NOT_STARTED', ?, ?, ?, ?)",
+                    PROJECTS * TASKS_PER_PROJECT, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setDate(2, Date.valueOf(
+                                START_DATE.plusDays(i % DUE_DATE_SPREAD_DAYS)));
+                        ps.setLong(3, (i - 1) / TASKS_PER_PROJECT + 1);
+                        ps.setLong(4, i % USERS + 1);
+                        ps.setBoolean(5, i % 10 == 0);
+                    });
+            insert(conn, "INSERT INTO comments (id, task_id, user_id, text, timestamp) "
+                    + "VALUES (?, ?, ?, 'comment', ?)",
+                    PROJECTS * TASKS_PER_PROJECT * COMMENTS_PER_TASK, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setLong(2, (i - 1) / COMMENTS_PER_TASK + 1);
+                        ps.setLong(3, i % USERS + 1);
+                        ps.setTimestamp(4, Timestamp.valueOf(START_TIME.plusMinutes(i)));
+                    });
+            insert(conn, "INSERT INTO attachments (id, task_id, file_id, file_name, "
+                    + "upload_date) VALUES (?, ?, ?, 'file', ?)",
+                    PROJECTS * TASKS_PER_PROJECT, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setLong(2, i);
+                        ps.setString(3, "file" + i);
+                        ps.setTimestamp(4, Timestamp.valueOf(START_TIME));
+                    });
+            insert(conn, "INSERT INTO labels (id, name, color, user_id) "
+                    + "VALUES (?, 'label', 'RED', ?)", USERS * LABELS_PER_USER, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setLong(2, (i - 1) / LABELS_PER_USER + 1);
+                    });
+            insert(conn, "INSERT INTO labels_tasks (label_id, task_id) VALUES (?, ?)",
+                    PROJECTS * TASKS_PER_PROJECT, (ps, i) -> {
+                        ps.setLong(1, i % (USERS * LABELS_PER_USER) + 1);
+                        ps.setLong(2, i);
+                    });
+            insert(conn, "INSERT INTO action_tokens (id, action_token) VALUES (?, ?)",
+                    ACTION_TOKENS, (ps, i) -> {
+                        ps.setLong(1, i);
+                        ps.setString(2, "token" + i);
+                    });
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ANALYZE TABLE users, projects, project_employees, tasks, comments, "
+                        + "attachments, labels, labels_tasks, action_tokens");
+            }
+        }
+    }
+
+    @AfterAll
+    void tearDownAfterAll() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM action_tokens");
+            stmt.executeUpdate("DELETE FROM labels_tasks");
+            stmt.executeUpdate("DELETE FROM labels");
+            stmt.executeUpdate("DELETE FROM attachments");
+            stmt.executeUpdate("DELETE FROM comments");
+            stmt.executeUpdate("DELETE FROM tasks");
+            stmt.executeUpdate("DELETE FROM project_employees");
+            stmt.executeUpdate("DELETE FROM projects");
+            stmt.executeUpdate("DELETE FROM users");
+        }
+        logger.info("DB clean up completed");
+    }
+
+    @Test
+    void givenTasks_whenExplainFindAllByProjectIdNonDeleted_thenUseIndex() throws SQLException {
+        assertIndexedAndSorted(explainGenerated(() -> taskRepository.findAllByProjectIdNonDeleted(
+                PROJECT_ID, PageRequest.of(0, PAGE_SIZE, Sort.by("id"))),
+                PROJECT_ID, PAGE_SIZE + 1));
+    }
+
+    @Test
+    void givenTasks_whenExplainFindAllNonDeletedDueOnAfter_thenUseIndex() throws SQLException {
+        assertIndexed(explainGenerated(() -> taskRepository.findAllNonDeletedDueOnAfter(
+                DUE_DATE, 0L, 0L, Limit.of(DUE_TASKS_LIMIT)),
+                DUE_DATE, 0L, 0L, 0L, DUE_TASKS_LIMIT));
+    }
+
+    @Test
+    void givenLabels_whenExplainFindAllByLabelIdNonDeleted_thenUseIndex() throws SQLException {
+        assertIndexed(explainGenerated(() -> taskRepository.findAllByLabelIdNonDeleted(
+                LABEL_ID, PageRequest.of(0, PAGE_SIZE)), LABEL_ID, PAGE_SIZE + 1));
+    }
+
+    @Test
+    void givenProjects_whenExplainFindAllByOwnerId_thenUseIndex() throws SQLException {
+        assertIndexedAndSorted(explainGenerated(() -> projectRepository.findAllByOwnerId(
+                USER_ID, PageRequest.of(0, PAGE_SIZE, Sort.by("id"))), USER_ID, PAGE_SIZE + 1));
+        assertIndexedAndSorted(explainGenerated(() -> projectRepository.findAllByOwnerIdDeleted(
+                USER_ID, PageRequest.of(0, PAGE_SIZE, Sort.by("id"))), USER_ID, PAGE_SIZE + 1));
+    }
+
+    @Test
+    void givenProjects_whenExplainFindAllByEmployeeId_thenUseIndex() throws SQLException {
+        assertIndexed(explainGenerated(() -> projectRepository.findAllByEmployeeId(
+                USER_ID, PageRequest.of(0, PAGE_SIZE)), USER_ID, PAGE_SIZE + 1));
+    }
+
+    @Test
+    void givenComments_whenExplainFindAllByTaskId_thenUseIndex() throws SQLException {
+        assertIndexedAndSorted(explainGenerated(() -> commentRepository.findAllByTaskId(
+                TASK_ID, PageRequest.of(0, PAGE_SIZE, Sort.by("timestamp"))),
+                TASK_ID, PAGE_SIZE + 1));
+    }
+
+    @Test
+    void givenLabels_whenExplainFindAllByUserId_thenUseIndex() throws SQLException {
+        assertIndexedAndSorted(explainGenerated(() -> labelRepository.findAllByUserId(
+                USER_ID, PageRequest.of(0, PAGE_SIZE, Sort.by("id"))), USER_ID, PAGE_SIZE + 1));
+    }
+
+    @Test
+    void givenTokens_whenExplainExistsByActionToken_thenUseIndex() throws SQLException {
+        assertIndexed(explainGenerated(() -> actionTokenRepository.existsByActionToken("token42"),
+                "token42", 1));
+    }
+
+    @Test
+    void givenAttachments_whenExplainLookups_thenUseIndex() throws SQLException {
+        assertIndexed(explainGenerated(() -> attachmentRepository.findAllByTaskId(TASK_ID),
+                TASK_ID));
+        assertIndexed(explainGenerated(() -> attachmentRepository.existsByFileId("file42"),
+                "file42", 1));
+    }
+
+    @Test
+    void givenUsers_whenExplainLookups_thenUseIndex() throws SQLException {
+        assertIndexed(explainGenerated(() -> userRepository.findByUsername("user42"),
+                "user42"));
+        assertIndexed(explainGenerated(() -> userRepository.findByEmail("user42@mail.com"),
+                "user42@mail.com"));
+    }
+
+    private void assertIndexedAndSorted(ExplainedQuery explained) {
+        for (ExplainRow row : explained.rows()) {
+            assertNoFullScan(explained.sql(), row);
+            assertFalse(row.extra() != null && row.extra().contains(FILESORT),
+                    "Query sorts without an index: " + explained.sql() + " -> " + row);
+        }
+    }
+
+    private void assertIndexed(ExplainedQuery explained) {
+        for (ExplainRow row : explained.rows()) {
+            assertNoFullScan(explained.sql(), row);
+        }
+    }
+
+    private void assertNoFullScan(String sql, ExplainRow row) {
+        assertNotEquals(FULL_TABLE_SCAN, row.type(),
+                "Full table scan: " + sql + " -> " + row);
+        assertNotEquals(FULL_INDEX_SCAN, row.type(),
+                "Full index scan: " + sql + " -> " + row);
+    }
+
+    // Runs the repository method, takes the first statement Hibernate sent for it and explains
+    // that SQL with the given values bound to its placeholders in order
+    private ExplainedQuery explainGenerated(Runnable repositoryCall, Object... parameters)
+            throws SQLException {
+        CapturingStatementInspector.STATEMENTS.clear();
+        repositoryCall.run();
+        assertFalse(CapturingStatementInspector.STATEMENTS.isEmpty(),
+                "Repository method sent no statement");
+        String sql = CapturingStatementInspector.STATEMENTS.getFirst();
+        assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(),
+                "Unexpected number of parameters in " + sql);
+
+        List<ExplainRow> rows = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                ps.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new ExplainRow(rs.getString("table"), rs.getString("type"),
+                            rs.getString("key"), rs.getString("Extra")));
+                }
+            }
+        }
+        return new ExplainedQuery(sql, rows);
+    }
+
+    private void insert(Connection conn, String sql, int count, RowBinder binder)
+            throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= count; i++) {
+                binder.bind(ps, i);
+                ps.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    private record ExplainRow(String table, String type, String key, String extra) {}
+
+    private record ExplainedQuery(String sql, List<ExplainRow> rows) {}
+
+    static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class StatementInspectorConfig {
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    new CapturingStatementInspector());
+        }
+    }
+}
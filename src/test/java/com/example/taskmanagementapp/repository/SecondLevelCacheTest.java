@@ -0,0 +1,164 @@
+package com.example.taskmanagementapp.repository;
+
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.LABEL_CACHE_REGION;
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.PROJECT_CACHE_REGION;
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.ROLE_CACHE_REGION;
+import static com.example.taskmanagementapp.constant.entity.CacheRegionConstants.ROLE_QUERY_CACHE_REGION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.dropbox.core.v2.DbxClientV2;
+import com.example.taskmanagementapp.entity.Label;
+import com.example.taskmanagementapp.entity.Project;
+import com.example.taskmanagementapp.entity.Role;
+import com.example.taskmanagementapp.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Runs without a test transaction: every repository call gets its own session, so a
+// second load can only be served by the second-level cache, not the persistence context.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class SecondLevelCacheTest {
+    private static final String TEST_USERNAME = "JohnDoe";
+    private static final String TEST_PASSWORD_ENCODED =
+            "$2a$10$u4cOSEeePFyJlpvkPdtmhenMuPYhloQfrVS19DZU8/.5jtJNm7piW";
+    private static final String TEST_EMAIL = "john_doe@mail.com";
+    private static final String FIRST_NAME = "John";
+    private static final String LAST_NAME = "Doe";
+    private static final String PROJECT_NAME = "projectName";
+    private static final LocalDate PROJECT_START_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate PROJECT_END_DATE = LocalDate.of(2025, 12, 31);
+    private static final String LABEL_NAME = "labelName";
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private Long roleId;
+    private Long projectId;
+    private Long labelId;
+
+    @BeforeAll
+    void setUpBeforeAll() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        Role savedRole = roleRepository.save(
+                Role.builder().name(Role.RoleName.ROLE_USER).build());
+        roleId = savedRole.getId();
+        User savedUser = userRepository.save(
+                User.builder()
+                        .username(TEST_USERNAME)
+                        .password(TEST_PASSWORD_ENCODED)
+                        .email(TEST_EMAIL)
+                        .firstName(FIRST_NAME)
+                        .lastName(LAST_NAME)
+                        .role(savedRole)
+                        .isEnabled(true)
+                        .isAccountNonLocked(true)
+                        .build());
+        projectId = projectRepository.save(
+                Project.builder()
+                        .name(PROJECT_NAME)
+                        .startDate(PROJECT_START_DATE)
+                        .endDate(PROJECT_END_DATE)
+                        .status(Project.Status.IN_PROGRESS)
+                        .isDeleted(false)
+                        .owner(savedUser)
+                        .build())
+                .getId();
+        labelId = labelRepository.save(
+                Label.builder()
+                        .name(LABEL_NAME)
+                        .color(Label.Color.RED)
+                        .user(savedUser)
+                        .build())
+                .getId();
+    }
+
+    @AfterAll
+    void tearDownAfterAll() {
+        jdbcTemplate.update("DELETE FROM labels");
+        jdbcTemplate.update("DELETE FROM projects");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM roles");
+    }
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+    }
+
+    @Test
+    void givenLoadedRole_whenLoadAgain_thenServeItFromCache() {
+        roleRepository.findById(roleId).orElseThrow();
+        roleRepository.findById(roleId).orElseThrow();
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics(ROLE_CACHE_REGION)
+                .getHitCount());
+    }
+
+    @Test
+    void givenRoleLookedUpByName_whenLookUpAgain_thenServeQueryFromCache() {
+        roleRepository.findByName(Role.RoleName.ROLE_USER);
+        roleRepository.findByName(Role.RoleName.ROLE_USER);
+
+        assertEquals(1, statistics.getQueryRegionStatistics(ROLE_QUERY_CACHE_REGION)
+                .getHitCount());
+        assertEquals(1, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    void givenLoadedProject_whenLoadAgain_thenServeItFromCache() {
+        projectRepository.findById(projectId).orElseThrow();
+        projectRepository.findById(projectId).orElseThrow();
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics(PROJECT_CACHE_REGION)
+                .getHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void givenLoadedLabel_whenLoadAgain_thenServeItFromCache() {
+        labelRepository.findById(labelId).orElseThrow();
+        labelRepository.findById(labelId).orElseThrow();
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics(LABEL_CACHE_REGION)
+                .getHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+}
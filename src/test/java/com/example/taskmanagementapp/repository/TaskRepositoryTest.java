@@ -1,5 +1,12 @@
 package com.example.taskmanagementapp.repository;
 
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.assignedTo;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.dueOnOrAfter;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.dueOnOrBefore;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.hasAnyLabelOf;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.hasPriorityIn;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.hasStatusIn;
+import static com.example.taskmanagementapp.repository.specification.TaskSpecifications.inProjectNonDeleted;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -16,6 +23,8 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import javax.sql.DataSource;
@@ -29,6 +38,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -40,6 +50,8 @@ class TaskRepositoryTest {
     private static final String TEST_PASSWORD_ENCODED =
             "$2a$10$u4cOSEeePFyJlpvkPdtmhenMuPYhloQfrVS19DZU8/.5jtJNm7piW";
     private static final String TEST_EMAIL = "john_doe@mail.com";
+    private static final String ANOTHER_TEST_USERNAME = "RichardRoe";
+    private static final String ANOTHER_TEST_EMAIL = "richard_roe@mail.com";
     private static final String FIRST_NAME = "John";
     private static final String LAST_NAME = "Doe";
     private static final String PROJECT_NAME = "projectName";
@@ -53,6 +65,7 @@ class TaskRepositoryTest {
     private static final LocalDate TASK_DUE_DATE = LocalDate.of(2025, 12, 31);
     private static final String LABEL_NAME = "labelName";
     private static final String ANOTHER_LABEL_NAME = "anotherLabelName";
+    private static final int KEYSET_PAGE_SIZE = 2;
     private static final Logger logger = LogManager.getLogger(TaskRepositoryTest.class);
     @MockitoBean
     private final DbxClientV2 dbxClientV2 = null; //unused since not needed
@@ -180,12 +193,98 @@ class TaskRepositoryTest {
     }
 
     @Test
-    void givenTask_whenFindAllNonDeletedWithAssigneeAndProject_thenReturnTaskAndFetchedEntities() {
-        List<Task> taskList = taskRepository.findAllNonDeletedWithAssigneeAndProject();
+    void givenTaskDueOnDate_whenFindAllNonDeletedDueOnAfter_thenReturnTaskAndFetchedEntities() {
+        List<Task> taskList = taskRepository.findAllNonDeletedDueOnAfter(
+                TASK_DUE_DATE, 0L, 0L, Limit.of(10));
         assertEquals(1, taskList.size());
         taskAssertions(taskList.getFirst());
     }
 
+    @Test
+    void givenLastSeenTask_whenFindAllNonDeletedDueOnAfter_thenReturnEmpty() {
+        assertTrue(taskRepository.findAllNonDeletedDueOnAfter(TASK_DUE_DATE,
+                task.getAssignee().getId(), task.getId(), Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    void givenTasksTiedOnAssignee_whenPageThroughDueOnAfter_thenReturnEachTaskOnceInKeyOrder() {
+        User anotherAssignee = userRepository.save(
+                User.builder()
+                        .username(ANOTHER_TEST_USERNAME)
+                        .password(TEST_PASSWORD_ENCODED)
+                        .email(ANOTHER_TEST_EMAIL)
+                        .firstName(FIRST_NAME)
+                        .lastName(LAST_NAME)
+                        .role(savedUser.getRole())
+                        .isEnabled(true)
+                        .isAccountNonLocked(true)
+                        .build());
+        List<Task> dueTasks = new ArrayList<>(List.of(task));
+        dueTasks.add(saveTask(anotherAssignee, TASK_DUE_DATE, false));
+        dueTasks.add(saveTask(savedUser, TASK_DUE_DATE, false));
+        dueTasks.add(saveTask(anotherAssignee, TASK_DUE_DATE, false));
+        dueTasks.add(saveTask(savedUser, TASK_DUE_DATE, false));
+        saveTask(savedUser, TASK_DUE_DATE, true);
+        saveTask(savedUser, TASK_DUE_DATE.minusDays(1), false);
+        List<Long> expectedIds = dueTasks.stream()
+                .sorted(Comparator.comparing((Task dueTask) -> dueTask.getAssignee().getId())
+                        .thenComparing(Task::getId))
+                .map(Task::getId)
+                .toList();
+
+        List<Long> seenIds = new ArrayList<>();
+        long lastAssigneeId = 0L;
+        long lastTaskId = 0L;
+        List<Task> page;
+        do {
+            page = taskRepository.findAllNonDeletedDueOnAfter(TASK_DUE_DATE, lastAssigneeId,
+                    lastTaskId, Limit.of(KEYSET_PAGE_SIZE));
+            for (Task dueTask : page) {
+                seenIds.add(dueTask.getId());
+                lastAssigneeId = dueTask.getAssignee().getId();
+                lastTaskId = dueTask.getId();
+            }
+        } while (page.size() == KEYSET_PAGE_SIZE);
+
+        assertEquals(expectedIds, seenIds);
+    }
+
+    @Test
+    void givenManyTasks_whenPageThroughProjectTasksAfter_thenReturnEachActiveTaskOnce() {
+        List<Long> expectedIds = new ArrayList<>(List.of(task.getId()));
+        for (int i = 0; i < 4; i++) {
+            expectedIds.add(saveTask(savedUser, TASK_DUE_DATE, false).getId());
+        }
+        saveTask(savedUser, TASK_DUE_DATE, true);
+
+        List<Long> seenIds = new ArrayList<>();
+        long lastTaskId = 0L;
+        List<Task> page;
+        do {
+            page = taskRepository.findAllByProjectIdNonDeletedAfter(livingProject.getId(),
+                    lastTaskId, Limit.of(KEYSET_PAGE_SIZE));
+            for (Task projectTask : page) {
+                seenIds.add(projectTask.getId());
+                lastTaskId = projectTask.getId();
+            }
+        } while (page.size() == KEYSET_PAGE_SIZE);
+
+        assertEquals(expectedIds, seenIds);
+    }
+
+    @Test
+    void givenTaskIdsOfProject_whenDeleteAllByIdIn_thenNoActiveTasksLeft() {
+        List<Long> taskIds = taskRepository.findIdsByProjectIdNonDeleted(
+                livingProject.getId(), Limit.of(10));
+        assertEquals(List.of(task.getId()), taskIds);
+        assertTrue(taskRepository.existsByProjectIdNonDeleted(livingProject.getId()));
+
+        taskRepository.deleteAllByIdIn(taskIds);
+        assertFalse(taskRepository.existsByProjectIdNonDeleted(livingProject.getId()));
+        assertTrue(taskRepository.findIdsByProjectIdNonDeleted(
+                livingProject.getId(), Limit.of(10)).isEmpty());
+    }
+
     @Test
     void givenTask_whenFindByIdNotDeleted_thenReturnTask() {
         Task task = taskRepository.findByIdNotDeleted(this.task.getId()).orElseThrow(
@@ -214,6 +313,42 @@ class TaskRepositoryTest {
                 labelWithNoTask.getId(), Pageable.unpaged()).isEmpty());
     }
 
+    @Test
+    void givenMatchingCriteria_whenFindAllBySpecification_thenReturnTask() {
+        List<Task> taskList = taskRepository.findAll(inProjectNonDeleted(livingProject.getId())
+                .and(hasStatusIn(List.of(Task.Status.NOT_STARTED)))
+                .and(hasPriorityIn(List.of(Task.Priority.LOW, Task.Priority.HIGH)))
+                .and(assignedTo(savedUser.getId()))
+                .and(dueOnOrAfter(TASK_DUE_DATE))
+                .and(dueOnOrBefore(TASK_DUE_DATE))
+                .and(hasAnyLabelOf(List.of(livingLabel.getId()), savedUser.getId())));
+        assertEquals(1, taskList.size());
+        taskAssertions(taskList.getFirst());
+    }
+
+    @Test
+    void givenNonMatchingCriteria_whenFindAllBySpecification_thenReturnEmpty() {
+        assertTrue(taskRepository.findAll(inProjectNonDeleted(livingProject.getId())
+                .and(hasStatusIn(List.of(Task.Status.COMPLETED)))).isEmpty());
+        assertTrue(taskRepository.findAll(inProjectNonDeleted(livingProject.getId())
+                .and(hasAnyLabelOf(List.of(labelWithNoTask.getId()), savedUser.getId())))
+                .isEmpty());
+    }
+
+    private Task saveTask(User assignee, LocalDate dueDate, boolean isDeleted) {
+        return taskRepository.save(
+                Task.builder()
+                        .name(TASK_NAME)
+                        .description(TASK_DESCRIPTION)
+                        .priority(Task.Priority.LOW)
+                        .status(Task.Status.NOT_STARTED)
+                        .dueDate(dueDate)
+                        .project(livingProject)
+                        .assignee(assignee)
+                        .isDeleted(isDeleted)
+                        .build());
+    }
+
     private void taskAssertions(Task task) {
         assertNotNull(task);
         assertEquals(this.task.getId(), task.getId());
@@ -0,0 +1,130 @@
+package com.example.taskmanagementapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dropbox.core.v2.DbxClientV2;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskSearchRepositoryTest {
+    private static final long SEARCHING_USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long MANAGER_ID = 3L;
+    private static final long NAME_MATCH_TASK_ID = 1L;
+    private static final long MANAGED_PROJECT_TASK_ID = 3L;
+    private static final long COMMENT_MATCH_TASK_ID = 2L;
+    private static final String QUERY = "release";
+    private static final int LIMIT = 10;
+    private static final Logger logger = LogManager.getLogger(TaskSearchRepositoryTest.class);
+    @MockitoBean
+    private final DbxClientV2 dbxClientV2 = null; //unused since not needed
+    @Autowired
+    private TaskRepository taskRepository;
+
+    /**FULLTEXT indexes are created by Liquibase in production, while tests build the schema
+     *from entities, so they are added here. Data is committed up front because InnoDB only
+     *indexes committed rows for full-text search
+     */
+    @BeforeAll
+    void setUpBeforeAll(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE FULLTEXT INDEX ft_tasks_name_description "
+                    + "ON tasks (name, description)");
+            stmt.execute("CREATE FULLTEXT INDEX ft_comments_text ON comments (text)");
+            stmt.executeUpdate("INSERT INTO users (id, username, password, email, first_name, "
+                    + "last_name, is_enabled, is_account_non_locked) VALUES "
+                    + "(1, 'JohnDoe', 'password', 'john_doe@mail.com', 'John', 'Doe', 1, 1), "
+                    + "(2, 'RichardRoe', 'password', 'richard_roe@mail.com', 'Richard', 'Roe', "
+                    + "1, 1), "
+                    + "(3, 'JaneRoe', 'password', 'jane_roe@mail.com', 'Jane', 'Roe', 1, 1)");
+            stmt.executeUpdate("INSERT INTO projects (id, name, start_date, end_date, status, "
+                    + "is_deleted, owner_id) VALUES "
+                    + "(1, 'project', '2025-01-01', '2025-12-31', 'IN_PROGRESS', 0, 2), "
+                    + "(2, 'anotherProject', '2025-01-01', '2025-12-31', 'IN_PROGRESS', 0, 2)");
+            stmt.executeUpdate("INSERT INTO project_employees (project_id, employee_id) "
+                    + "VALUES (1, 1)");
+            stmt.executeUpdate("INSERT INTO project_managers (project_id, manager_id) "
+                    + "VALUES (2, 3)");
+            stmt.executeUpdate("INSERT INTO tasks (id, name, description, priority, status, "
+                    + "due_date, project_id, assignee_id, is_deleted) VALUES "
+                    + "(1, 'Release checklist', 'Prepare the release', 'LOW', 'NOT_STARTED', "
+                    + "'2025-12-31', 1, 1, 0), "
+                    + "(2, 'Deploy backend', 'Roll out services', 'LOW', 'NOT_STARTED', "
+                    + "'2025-12-31', 1, 1, 0), "
+                    + "(3, 'Release notes', 'Write the release notes', 'LOW', 'NOT_STARTED', "
+                    + "'2025-12-31', 2, 2, 0), "
+                    + "(4, 'Old release', 'Abandoned release', 'LOW', 'NOT_STARTED', "
+                    + "'2025-12-31', 1, 1, 1)");
+            stmt.executeUpdate("INSERT INTO comments (id, task_id, user_id, text, timestamp) "
+                    + "VALUES (1, 2, 1, 'Blocked until release branch is cut', "
+                    + "'2025-01-06 08:30:00')");
+        }
+    }
+
+    @SuppressWarnings("'Delete' statement without 'where' clears all data in the table")
+    @AfterAll
+    void tearDownAfterAll(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM comments");
+            stmt.executeUpdate("DELETE FROM tasks");
+            stmt.executeUpdate("DELETE FROM project_managers");
+            stmt.executeUpdate("DELETE FROM project_employees");
+            stmt.executeUpdate("DELETE FROM projects");
+            stmt.executeUpdate("DELETE FROM users");
+            stmt.execute("DROP INDEX ft_comments_text ON comments");
+            stmt.execute("DROP INDEX ft_tasks_name_description ON tasks");
+        }
+        logger.info("DB clean up completed");
+    }
+
+    @Test
+    void givenMatchesInTasksAndComments_whenSearchVisibleToUser_thenReturnOnlyVisibleTasks() {
+        List<TaskRepository.TaskSearchHit> hits =
+                taskRepository.searchVisibleToUser(QUERY, SEARCHING_USER_ID, LIMIT);
+        Set<Long> taskIds = hits.stream()
+                .map(TaskRepository.TaskSearchHit::getTaskId)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of(NAME_MATCH_TASK_ID, COMMENT_MATCH_TASK_ID), taskIds);
+        assertTrue(hits.getFirst().getScore() >= hits.getLast().getScore());
+    }
+
+    @Test
+    void givenOwner_whenSearchVisibleToUser_thenReturnTasksOfAllOwnedProjects() {
+        assertEquals(3, taskRepository.searchVisibleToUser(QUERY, OTHER_USER_ID, LIMIT).size());
+    }
+
+    @Test
+    void givenManager_whenSearchVisibleToUser_thenReturnOnlyTasksOfManagedProject() {
+        assertEquals(List.of(MANAGED_PROJECT_TASK_ID),
+                taskRepository.searchVisibleToUser(QUERY, MANAGER_ID, LIMIT).stream()
+                        .map(TaskRepository.TaskSearchHit::getTaskId)
+                        .toList());
+    }
+
+    @Test
+    void givenNoMatches_whenSearchVisibleToUser_thenReturnEmpty() {
+        assertTrue(taskRepository.searchVisibleToUser("nonexistent", SEARCHING_USER_ID, LIMIT)
+                .isEmpty());
+    }
+}
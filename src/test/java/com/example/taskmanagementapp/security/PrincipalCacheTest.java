@@ -0,0 +1,159 @@
+package com.example.taskmanagementapp.security;
+
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.PRINCIPAL_CACHE_HITS;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.PRINCIPAL_CACHE_MISSES;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.PRINCIPAL_CACHE_SIZE;
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.PRINCIPAL_CACHE_TTL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+
+import com.example.taskmanagementapp.config.PrimaryReadTemplate;
+import com.example.taskmanagementapp.entity.Role;
+import com.example.taskmanagementapp.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class PrincipalCacheTest {
+    private static final String TEST_USERNAME = "JohnDoe";
+    private static final String TEST_PASSWORD = "password";
+    private static final String NEW_PASSWORD = "newPassword";
+    private static final long ACCESS_EXPIRATION = Duration.ofHours(1).toMillis();
+    private static final long SHORT_ACCESS_EXPIRATION = Duration.ofSeconds(10).toMillis();
+    private static final PrimaryReadTemplate PRIMARY_READ_TEMPLATE =
+            new PrimaryReadTemplate(mock(PlatformTransactionManager.class), false);
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private PrincipalCache principalCache;
+    private String storedPassword;
+    private boolean storedEnabled;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(ACCESS_EXPIRATION, PRIMARY_READ_TEMPLATE, now::get);
+        storedPassword = TEST_PASSWORD;
+        storedEnabled = true;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenCachedPrincipal_whenGet_thenReturnFreshCopyWithoutReloading() {
+        User first = principalCache.get(TEST_USERNAME, this::load);
+        first.setPassword(NEW_PASSWORD);
+        User second = principalCache.get(TEST_USERNAME, this::load);
+
+        assertNotSame(first, second);
+        assertEquals(TEST_PASSWORD, second.getPassword());
+        assertEquals(Role.RoleName.ROLE_USER, second.getRole().getName());
+        assertEquals(1, loads.get());
+        assertEquals(1, principalCache.getHitCount());
+        assertEquals(1, principalCache.getMissCount());
+        assertEquals(1, principalCache.size());
+    }
+
+    @Test
+    void givenBoundRegistry_whenGet_thenPublishHitsMissesAndSize() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        principalCache.bindTo(registry);
+
+        principalCache.get(TEST_USERNAME, this::load);
+        principalCache.get(TEST_USERNAME, this::load);
+
+        assertEquals(1, registry.get(PRINCIPAL_CACHE_HITS).functionCounter().count());
+        assertEquals(1, registry.get(PRINCIPAL_CACHE_MISSES).functionCounter().count());
+        assertEquals(1, registry.get(PRINCIPAL_CACHE_SIZE).gauge().value());
+    }
+
+    @Test
+    void givenCachedPrincipal_whenTtlExpires_thenReloadIt() {
+        principalCache.get(TEST_USERNAME, this::load);
+        now.addAndGet(PRINCIPAL_CACHE_TTL.toNanos() - 1);
+        principalCache.get(TEST_USERNAME, this::load);
+        assertEquals(1, loads.get());
+
+        now.incrementAndGet();
+        principalCache.get(TEST_USERNAME, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenShortAccessExpiration_whenHalfOfItPasses_thenReloadPrincipal() {
+        principalCache = new PrincipalCache(SHORT_ACCESS_EXPIRATION, PRIMARY_READ_TEMPLATE,
+                now::get);
+        principalCache.get(TEST_USERNAME, this::load);
+        now.addAndGet(Duration.ofMillis(SHORT_ACCESS_EXPIRATION / 2).toNanos());
+        principalCache.get(TEST_USERNAME, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenEvictedPrincipal_whenGet_thenLoadChangedUser() {
+        principalCache.get(TEST_USERNAME, this::load);
+        storedEnabled = false;
+        principalCache.evict(TEST_USERNAME);
+
+        assertFalse(principalCache.get(TEST_USERNAME, this::load).isEnabled());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenEvictionDuringLoad_whenLoadFinishes_thenDoNotCacheStalePrincipal() {
+        Function<String, User> racingLoader = username -> {
+            User stale = load(username);
+            storedPassword = NEW_PASSWORD;
+            principalCache.evict(username);
+            return stale;
+        };
+
+        assertEquals(TEST_PASSWORD, principalCache.get(TEST_USERNAME, racingLoader).getPassword());
+        assertEquals(0, principalCache.size());
+        assertEquals(NEW_PASSWORD, principalCache.get(TEST_USERNAME, this::load).getPassword());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenTransaction_whenEvict_thenEvictAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        principalCache.evict(TEST_USERNAME);
+        principalCache.get(TEST_USERNAME, this::load);
+        storedPassword = NEW_PASSWORD;
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization
+                        .afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(NEW_PASSWORD, principalCache.get(TEST_USERNAME, this::load).getPassword());
+        assertEquals(2, loads.get());
+    }
+
+    private User load(String username) {
+        loads.incrementAndGet();
+        return User.builder()
+                .id(1L)
+                .username(username)
+                .password(storedPassword)
+                .email("john_doe@mail.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(new Role(2L, Role.RoleName.ROLE_USER))
+                .isEnabled(storedEnabled)
+                .isAccountNonLocked(true)
+                .build();
+    }
+}
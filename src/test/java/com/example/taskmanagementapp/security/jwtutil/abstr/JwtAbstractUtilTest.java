@@ -0,0 +1,85 @@
+package com.example.taskmanagementapp.security.jwtutil.abstr;
+
+import static com.example.taskmanagementapp.constant.security.SecurityConstants.MAX_CACHED_TOKENS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.JwtException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JwtAbstractUtilTest {
+    private static final String SECRET =
+            "eZTQb1Um2KE0dukTWfyHZSq2R3R1SFyqfRFfiReAPn1NHMKUBiTDKc5tajfn";
+    private static final String ANOTHER_SECRET =
+            "Xr3qZ9Lk2Vb8Nw4Pt7Hs1Jd6Fg0Cm5Ya8Ue2Io4Rp9Tl3Kq7Wz1Xc6Vb0Nm5Aq2Sd";
+    private static final long EXPIRATION = 60_000L;
+    private static final long START_MILLIS = 1_735_689_600_000L;
+    private static final String USERNAME = "JohnDoe";
+    private final AtomicLong now = new AtomicLong(START_MILLIS);
+    private JwtAbstractUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtAbstractUtil(SECRET, EXPIRATION, now::get) {
+        };
+    }
+
+    @Test
+    void givenVerifiedToken_whenVerifyAgain_thenReturnCachedClaims() {
+        String token = jwtUtil.generateToken(USERNAME);
+
+        assertEquals(USERNAME, jwtUtil.getUsername(token));
+        assertEquals(USERNAME, jwtUtil.getVerifiedClaims(token).getSubject());
+        assertEquals(1, jwtUtil.getCachedTokenCount());
+    }
+
+    @Test
+    void givenCachedToken_whenExpirationPasses_thenRejectAndEvictIt() {
+        String token = jwtUtil.generateToken(USERNAME);
+        jwtUtil.getVerifiedClaims(token);
+        now.addAndGet(EXPIRATION - 1_000L);
+        jwtUtil.getVerifiedClaims(token);
+
+        now.addAndGet(1_000L);
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(token));
+        assertEquals(0, jwtUtil.getCachedTokenCount());
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(token));
+        assertEquals(0, jwtUtil.getCachedTokenCount());
+    }
+
+    @Test
+    void givenTokenSignedWithAnotherKey_whenVerify_thenRejectWithoutCaching() {
+        String foreignToken = new JwtAbstractUtil(ANOTHER_SECRET, EXPIRATION, now::get) {
+        }.generateToken(USERNAME);
+
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(foreignToken));
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(""));
+        assertEquals(0, jwtUtil.getCachedTokenCount());
+    }
+
+    @Test
+    void givenMoreTokensThanCacheSize_whenVerifyAll_thenEvictLeastRecentlyUsed() {
+        List<String> tokens = new ArrayList<>(MAX_CACHED_TOKENS + 1);
+        for (int i = 0; i <= MAX_CACHED_TOKENS; i++) {
+            tokens.add(jwtUtil.generateToken(USERNAME + i));
+        }
+        for (int i = 0; i < MAX_CACHED_TOKENS; i++) {
+            jwtUtil.getVerifiedClaims(tokens.get(i));
+        }
+        jwtUtil.getVerifiedClaims(tokens.getFirst());
+        assertEquals(MAX_CACHED_TOKENS, jwtUtil.getCachedTokenCount());
+
+        jwtUtil.getVerifiedClaims(tokens.getLast());
+        assertEquals(MAX_CACHED_TOKENS, jwtUtil.getCachedTokenCount());
+
+        now.addAndGet(EXPIRATION);
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(tokens.getFirst()));
+        assertEquals(MAX_CACHED_TOKENS - 1, jwtUtil.getCachedTokenCount());
+        assertThrows(JwtException.class, () -> jwtUtil.getVerifiedClaims(tokens.get(1)));
+        assertEquals(MAX_CACHED_TOKENS - 1, jwtUtil.getCachedTokenCount());
+    }
+}
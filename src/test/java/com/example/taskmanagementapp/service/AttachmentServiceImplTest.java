@@ -0,0 +1,132 @@
+package com.example.taskmanagementapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dropbox.core.DbxException;
+import com.example.taskmanagementapp.dto.attachment.response.AttachmentResponse;
+import com.example.taskmanagementapp.entity.Attachment;
+import com.example.taskmanagementapp.entity.Project;
+import com.example.taskmanagementapp.entity.Task;
+import com.example.taskmanagementapp.exception.ForbiddenException;
+import com.example.taskmanagementapp.mapper.AttachmentMapper;
+import com.example.taskmanagementapp.repository.AttachmentRepository;
+import com.example.taskmanagementapp.repository.TaskRepository;
+import com.example.taskmanagementapp.service.impl.AttachmentServiceImpl;
+import com.example.taskmanagementapp.service.storage.AttachmentStorage;
+import com.example.taskmanagementapp.service.utils.ProjectAuthorityUtil;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+public class AttachmentServiceImplTest {
+    private static final long USER_ID = 1L;
+    private static final long PROJECT_ID = 1L;
+    private static final long TASK_ID = 1L;
+    private static final String FIRST_FILE_NAME = "report.pdf";
+    private static final String SECOND_FILE_NAME = "photo.png";
+    private static final String FIRST_FILE_ID = "id:first";
+    private static final String SECOND_FILE_ID = "id:second";
+
+    @Mock
+    private AttachmentStorage attachmentStorage;
+    @Mock
+    private AttachmentRepository attachmentRepository;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private AttachmentMapper attachmentMapper;
+    @Mock
+    private ProjectAuthorityUtil projectAuthorityUtil;
+
+    @InjectMocks
+    private AttachmentServiceImpl attachmentServiceImpl;
+
+    private MultipartFile[] uploadFiles;
+    private List<AttachmentStorage.StoredFile> storedFiles;
+
+    @BeforeEach
+    void setUp() throws IOException, DbxException {
+        Task task = Task.builder()
+                .id(TASK_ID)
+                .project(Project.builder().id(PROJECT_ID).build())
+                .build();
+        uploadFiles = new MultipartFile[]{
+                new MockMultipartFile("files", FIRST_FILE_NAME, null, new byte[]{1}),
+                new MockMultipartFile("files", SECOND_FILE_NAME, null, new byte[]{2})};
+        storedFiles = List.of(
+                new AttachmentStorage.StoredFile(FIRST_FILE_NAME, FIRST_FILE_ID),
+                new AttachmentStorage.StoredFile(SECOND_FILE_NAME, SECOND_FILE_ID));
+        when(taskRepository.findByIdNotDeleted(TASK_ID)).thenReturn(Optional.of(task));
+        when(projectAuthorityUtil.hasAnyAuthority(PROJECT_ID, USER_ID)).thenReturn(true);
+        when(attachmentStorage.storeAll(TASK_ID, uploadFiles)).thenReturn(storedFiles);
+    }
+
+    @Nested
+    class UploadAttachmentForTask {
+        @Test
+        void givenSavedAttachments_whenUpload_thenKeepStoredFiles()
+                throws ForbiddenException, IOException, DbxException {
+            //given
+            List<Attachment> attachments = List.of(new Attachment(), new Attachment());
+            List<AttachmentResponse> expected = List.of();
+            when(attachmentRepository.saveAll(anyList())).thenReturn(attachments);
+            when(attachmentMapper.toAttachmentDtoList(attachments)).thenReturn(expected);
+
+            //when
+            List<AttachmentResponse> actual =
+                    attachmentServiceImpl.uploadAttachmentForTask(USER_ID, TASK_ID, uploadFiles);
+
+            //then
+            assertSame(expected, actual);
+
+            //verify
+            verify(attachmentStorage, never()).delete(any(), any(), any());
+        }
+
+        @Test
+        void givenSaveAllFails_whenUpload_thenDeleteStoredFilesAndRethrow()
+                throws IOException, DbxException {
+            //given
+            DataIntegrityViolationException failure =
+                    new DataIntegrityViolationException("Duplicate entry");
+            when(attachmentRepository.saveAll(anyList())).thenThrow(failure);
+            doThrow(new IOException("Storage unavailable")).when(attachmentStorage)
+                    .delete(TASK_ID, FIRST_FILE_NAME, FIRST_FILE_ID);
+
+            //when
+            DataIntegrityViolationException actual =
+                    assertThrows(DataIntegrityViolationException.class, () ->
+                            attachmentServiceImpl.uploadAttachmentForTask(
+                                    USER_ID, TASK_ID, uploadFiles));
+
+            //then
+            assertSame(failure, actual);
+
+            //verify
+            InOrder inOrder = inOrder(attachmentStorage);
+            inOrder.verify(attachmentStorage).delete(TASK_ID, FIRST_FILE_NAME, FIRST_FILE_ID);
+            inOrder.verify(attachmentStorage).delete(TASK_ID, SECOND_FILE_NAME, SECOND_FILE_ID);
+            inOrder.verifyNoMoreInteractions();
+        }
+    }
+}
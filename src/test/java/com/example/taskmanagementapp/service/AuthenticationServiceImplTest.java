@@ -36,6 +36,7 @@ import com.example.taskmanagementapp.exception.RegistrationException;
 import com.example.taskmanagementapp.mapper.UserMapper;
 import com.example.taskmanagementapp.repository.RoleRepository;
 import com.example.taskmanagementapp.repository.UserRepository;
+import com.example.taskmanagementapp.security.PrincipalCache;
 import com.example.taskmanagementapp.security.jwtutil.abstr.JwtAbstractUtil;
 import com.example.taskmanagementapp.security.jwtutil.impl.JwtAccessUtil;
 import com.example.taskmanagementapp.security.jwtutil.impl.JwtActionUtil;
@@ -106,6 +107,7 @@ public class AuthenticationServiceImplTest {
         RegisterConfirmEmailService registerConfirmEmailService =
                 mock(RegisterConfirmEmailService.class);
         RoleRepository roleRepository = mock(RoleRepository.class);
+        PrincipalCache principalCache = mock(PrincipalCache.class);
 
         authenticationService = new AuthenticationServiceImpl(
                 userRepository,
@@ -117,6 +119,7 @@ public class AuthenticationServiceImplTest {
                 registerConfirmEmailService,
                 paramFromHttpRequestUtil,
                 roleRepository,
+                principalCache,
                 ACCESS_EXPIRATION,
                 REFRESH_EXPIRATION);
     }
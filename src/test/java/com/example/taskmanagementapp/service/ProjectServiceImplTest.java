@@ -28,7 +28,6 @@ import com.example.taskmanagementapp.exception.EntityNotFoundException;
 import com.example.taskmanagementapp.exception.ForbiddenException;
 import com.example.taskmanagementapp.mapper.ProjectMapper;
 import com.example.taskmanagementapp.repository.ActionTokenRepository;
-import com.example.taskmanagementapp.repository.CommentRepository;
 import com.example.taskmanagementapp.repository.ProjectRepository;
 import com.example.taskmanagementapp.repository.TaskRepository;
 import com.example.taskmanagementapp.repository.UserRepository;
@@ -38,6 +37,7 @@ import com.example.taskmanagementapp.security.jwtutil.strategy.JwtStrategy;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtType;
 import com.example.taskmanagementapp.service.email.AssignmentToProjectEmailService;
 import com.example.taskmanagementapp.service.impl.ProjectServiceImpl;
+import com.example.taskmanagementapp.service.project.ProjectDeletionJob;
 import com.example.taskmanagementapp.service.utils.ParamFromHttpRequestUtil;
 import com.example.taskmanagementapp.service.utils.ProjectAuthorityUtil;
 import io.jsonwebtoken.JwtException;
@@ -45,6 +45,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Nested;
@@ -95,8 +96,6 @@ public class ProjectServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
     @Mock
-    private CommentRepository commentRepository;
-    @Mock
     private TaskRepository taskRepository;
     @Mock
     private UserRepository userRepository;
@@ -110,6 +109,8 @@ public class ProjectServiceImplTest {
     private ActionTokenRepository actionTokenRepository;
     @Mock
     private ProjectAuthorityUtil projectAuthorityUtil;
+    @Mock
+    private ProjectDeletionJob projectDeletionJob;
 
     @InjectMocks
     private ProjectServiceImpl projectServiceImpl;
@@ -223,10 +224,18 @@ public class ProjectServiceImplTest {
 
             List<ProjectResponse> projectResponses = List.of(projectResponse);
 
+            ProjectMapper.ProjectMembers members = new ProjectMapper.ProjectMembers(
+                    Map.of(FIRST_PROJECT_ID, Set.of(user.getId())),
+                    Map.of(FIRST_PROJECT_ID, Set.of(user.getId())));
+
             //when
             when(projectRepository.findAllByEmployeeId(user.getId(), pageRequest))
                     .thenReturn(projects);
-            when(projectMapper.toProjectDtoList(projects.getContent()))
+            when(projectRepository.findEmployeeIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, user.getId())));
+            when(projectRepository.findManagerIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, user.getId())));
+            when(projectMapper.toProjectDtoList(projects.getContent(), members))
                     .thenReturn(projectResponses);
 
             //then
@@ -235,7 +244,7 @@ public class ProjectServiceImplTest {
 
             //verify
             verify(projectRepository, times(1)).findAllByEmployeeId(user.getId(), pageRequest);
-            verify(projectMapper, times(1)).toProjectDtoList(projects.getContent());
+            verify(projectMapper, times(1)).toProjectDtoList(projects.getContent(), members);
         }
     }
 
@@ -302,16 +311,24 @@ public class ProjectServiceImplTest {
             Page<Project> emptyProjects = new PageImpl<>(List.of());
             List<ProjectResponse> emptyProjectResponses = List.of();
 
+            ProjectMapper.ProjectMembers members = new ProjectMapper.ProjectMembers(
+                    Map.of(FIRST_PROJECT_ID, Set.of(owner.getId(), employee.getId())),
+                    Map.of(FIRST_PROJECT_ID, Set.of(owner.getId(), employee.getId())));
+
             //when
             when(projectRepository.findAllByOwnerId(owner.getId(), pageRequest))
                     .thenReturn(projects);
-            when(projectMapper.toProjectDtoList(projects.getContent()))
+            when(projectRepository.findEmployeeIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, owner.getId()),
+                            memberId(FIRST_PROJECT_ID, employee.getId())));
+            when(projectRepository.findManagerIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, owner.getId()),
+                            memberId(FIRST_PROJECT_ID, employee.getId())));
+            when(projectMapper.toProjectDtoList(projects.getContent(), members))
                     .thenReturn(projectResponses);
 
             when(projectRepository.findAllByOwnerId(employee.getId(), pageRequest))
                     .thenReturn(emptyProjects);
-            when(projectMapper.toProjectDtoList(emptyProjects.getContent()))
-                    .thenReturn(emptyProjectResponses);
 
             //then
             assertEquals(projectResponses, projectServiceImpl
@@ -322,9 +339,12 @@ public class ProjectServiceImplTest {
 
             //verify
             verify(projectRepository, times(1)).findAllByOwnerId(owner.getId(), pageRequest);
-            verify(projectMapper, times(1)).toProjectDtoList(projects.getContent());
+            verify(projectMapper, times(1)).toProjectDtoList(projects.getContent(), members);
             verify(projectRepository, times(1)).findAllByOwnerId(employee.getId(), pageRequest);
-            verify(projectMapper, times(1)).toProjectDtoList(emptyProjects.getContent());
+            verify(projectRepository, times(1))
+                    .findEmployeeIdsByProjectIdIn(List.of(FIRST_PROJECT_ID));
+            verify(projectRepository, times(1))
+                    .findManagerIdsByProjectIdIn(List.of(FIRST_PROJECT_ID));
         }
     }
 
@@ -376,10 +396,18 @@ public class ProjectServiceImplTest {
             Page<Project> projects = new PageImpl<>(List.of(deletedProject));
             List<ProjectResponse> projectResponses = List.of(deletedProjectResponse);
 
+            ProjectMapper.ProjectMembers members = new ProjectMapper.ProjectMembers(
+                    Map.of(FIRST_PROJECT_ID, Set.of(user.getId())),
+                    Map.of(FIRST_PROJECT_ID, Set.of(user.getId())));
+
             //when
             when(projectRepository.findAllByOwnerIdDeleted(user.getId(), pageRequest))
                     .thenReturn(projects);
-            when(projectMapper.toProjectDtoList(projects.getContent()))
+            when(projectRepository.findEmployeeIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, user.getId())));
+            when(projectRepository.findManagerIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, user.getId())));
+            when(projectMapper.toProjectDtoList(projects.getContent(), members))
                     .thenReturn(projectResponses);
 
             //then
@@ -388,7 +416,7 @@ public class ProjectServiceImplTest {
 
             //verify
             verify(projectRepository, times(1)).findAllByOwnerIdDeleted(user.getId(), pageRequest);
-            verify(projectMapper, times(1)).toProjectDtoList(projects.getContent());
+            verify(projectMapper, times(1)).toProjectDtoList(projects.getContent(), members);
         }
     }
 
@@ -622,7 +650,6 @@ public class ProjectServiceImplTest {
                     .employees(new HashSet<>())
                     .build();
             updatedProject.getManagers().add(authenticatedUser);
-            updatedProject.getManagers().add(newOwner);
             updatedProject.getEmployees().add(authenticatedUser);
             updatedProject.getEmployees().add(newOwner);
 
@@ -640,15 +667,27 @@ public class ProjectServiceImplTest {
                     .managerIds(Set.of(authenticatedUser.getId(), newOwner.getId()))
                     .build();
 
+            ProjectMapper.ProjectMembers members = new ProjectMapper.ProjectMembers(
+                    Map.of(FIRST_PROJECT_ID, Set.of(authenticatedUser.getId(), newOwner.getId())),
+                    Map.of(FIRST_PROJECT_ID, Set.of(authenticatedUser.getId(), newOwner.getId())));
+
             //when
             when(projectRepository.findByIdNotDeleted(foundProject.getId()))
                     .thenReturn(Optional.of(foundProject));
             when(projectAuthorityUtil.hasManagerialAuthority(foundProject.getId(),
                     authenticatedUser.getId())).thenReturn(true);
+            when(projectAuthorityUtil.isEmployee(foundProject.getId(), newOwner.getId()))
+                    .thenReturn(true);
             when(userRepository.findById(newOwner.getId())).thenReturn(Optional.of(newOwner));
             when(projectRepository.save(foundProject)).thenReturn(updatedProject);
-            when(projectMapper.toProjectDto(updatedProject))
-                    .thenReturn(expectedProjectResponse);
+            when(projectRepository.findEmployeeIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, authenticatedUser.getId()),
+                            memberId(FIRST_PROJECT_ID, newOwner.getId())));
+            when(projectRepository.findManagerIdsByProjectIdIn(List.of(FIRST_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(FIRST_PROJECT_ID, authenticatedUser.getId()),
+                            memberId(FIRST_PROJECT_ID, newOwner.getId())));
+            when(projectMapper.toProjectDtoList(List.of(updatedProject), members))
+                    .thenReturn(List.of(expectedProjectResponse));
 
             //then
             assertEquals(expectedProjectResponse, projectServiceImpl.updateProjectById(
@@ -664,8 +703,9 @@ public class ProjectServiceImplTest {
             verify(projectAuthorityUtil, times(1))
                     .hasManagerialAuthority(foundProject.getId(), authenticatedUser.getId());
             verify(userRepository, times(1)).findById(newOwner.getId());
+            verify(projectRepository, times(1)).addManager(FIRST_PROJECT_ID, newOwner.getId());
             verify(projectRepository, times(1)).save(foundProject);
-            verify(projectMapper, times(1)).toProjectDto(updatedProject);
+            verify(projectMapper, times(1)).toProjectDtoList(List.of(updatedProject), members);
         }
 
         @Test
@@ -816,12 +856,15 @@ public class ProjectServiceImplTest {
 
             //when
             when(projectRepository.existsByIdNotDeleted(projectId)).thenReturn(true);
-            when(projectRepository.isUserOwner(projectId, authenticatedUserId)).thenReturn(true);
-            when(taskRepository.findAllByProjectIdNonDeleted(projectId, Pageable.unpaged()))
-                    .thenReturn(new PageImpl<>(List.of()));
+            when(projectAuthorityUtil.isOwner(projectId, authenticatedUserId)).thenReturn(true);
 
             //then
             projectServiceImpl.deleteProjectById(authenticatedUserId, projectId);
+
+            //verify
+            verify(projectRepository, times(1)).deleteById(projectId);
+            verify(projectAuthorityUtil, times(1)).evictProject(projectId);
+            verify(projectDeletionJob, times(1)).scheduleAfterCommit(projectId);
         }
 
         @Test
@@ -832,7 +875,7 @@ public class ProjectServiceImplTest {
 
             //when
             when(projectRepository.existsByIdNotDeleted(projectId)).thenReturn(true);
-            when(projectRepository.isUserOwner(projectId, authenticatedUserId)).thenReturn(false);
+            when(projectAuthorityUtil.isOwner(projectId, authenticatedUserId)).thenReturn(false);
 
             //then
             ForbiddenException forbiddenException = assertThrows(ForbiddenException.class,
@@ -841,7 +884,7 @@ public class ProjectServiceImplTest {
 
             //verify
             verify(projectRepository, times(1)).existsByIdNotDeleted(projectId);
-            verify(projectRepository, times(1)).isUserOwner(projectId, authenticatedUserId);
+            verify(projectAuthorityUtil, times(1)).isOwner(projectId, authenticatedUserId);
         }
 
         @Test
@@ -924,19 +967,9 @@ public class ProjectServiceImplTest {
                     .employeeIds(Set.of(authenticatedUser.getId()))
                     .build();
 
-            Project updatedProject = Project.builder()
-                    .id(ANOTHER_PROJECT_ID)
-                    .name(ANOTHER_PROJECT_NAME)
-                    .description(ANOTHER_PROJECT_DESCRIPTION)
-                    .startDate(PROJECT_START_DATE)
-                    .endDate(PROJECT_END_DATE)
-                    .status(Project.Status.INITIATED)
-                    .owner(authenticatedUser)
-                    .managers(new HashSet<>())
-                    .employees(new HashSet<>())
-                    .build();
-            updatedProject.getManagers().add(authenticatedUser);
-            updatedProject.getEmployees().add(authenticatedUser);
+            ProjectMapper.ProjectMembers members = new ProjectMapper.ProjectMembers(
+                    Map.of(ANOTHER_PROJECT_ID, Set.of(authenticatedUser.getId())),
+                    Map.of(ANOTHER_PROJECT_ID, Set.of(authenticatedUser.getId())));
 
             //when
             when(projectRepository.findByIdNotDeleted(expectedProject.getId()))
@@ -944,11 +977,17 @@ public class ProjectServiceImplTest {
             when(projectAuthorityUtil.hasManagerialAuthority(expectedProject.getId(),
                     authenticatedUser.getId()))
                     .thenReturn(true);
-            when(projectRepository.isUserOwner(expectedProject.getId(), authenticatedUser.getId()))
+            when(projectAuthorityUtil.isOwner(expectedProject.getId(), authenticatedUser.getId()))
+                    .thenReturn(true);
+            when(projectAuthorityUtil.isManager(expectedProject.getId(), assignee.getId()))
                     .thenReturn(true);
             when(userRepository.findById(assignee.getId())).thenReturn(Optional.of(assignee));
-            when(projectRepository.save(expectedProject)).thenReturn(updatedProject);
-            when(projectMapper.toProjectDto(updatedProject)).thenReturn(projectResponse);
+            when(projectRepository.findEmployeeIdsByProjectIdIn(List.of(ANOTHER_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(ANOTHER_PROJECT_ID, authenticatedUser.getId())));
+            when(projectRepository.findManagerIdsByProjectIdIn(List.of(ANOTHER_PROJECT_ID)))
+                    .thenReturn(List.of(memberId(ANOTHER_PROJECT_ID, authenticatedUser.getId())));
+            when(projectMapper.toProjectDtoList(List.of(expectedProject), members))
+                    .thenReturn(List.of(projectResponse));
 
             //then
             assertEquals(projectResponse, projectServiceImpl
@@ -956,19 +995,19 @@ public class ProjectServiceImplTest {
                             authenticatedUser.getId(),
                             expectedProject.getId(),
                             assignee.getId()));
-            assertThat(updatedProject)
-                    .usingRecursiveComparison()
-                    .isEqualTo(expectedProject);
 
             //verify
             verify(projectRepository, times(1)).findByIdNotDeleted(expectedProject.getId());
             verify(projectAuthorityUtil, times(1))
                     .hasManagerialAuthority(expectedProject.getId(), authenticatedUser.getId());
             verify(userRepository, times(1)).findById(assignee.getId());
-            verify(projectRepository, times(2))
-                    .isUserOwner(expectedProject.getId(), authenticatedUser.getId());
-            verify(projectRepository, times(1)).save(expectedProject);
-            verify(projectMapper, times(1)).toProjectDto(updatedProject);
+            verify(projectAuthorityUtil, times(1))
+                    .isOwner(expectedProject.getId(), authenticatedUser.getId());
+            verify(projectRepository, times(1))
+                    .removeManager(expectedProject.getId(), assignee.getId());
+            verify(projectRepository, times(1))
+                    .removeEmployee(expectedProject.getId(), assignee.getId());
+            verify(projectMapper, times(1)).toProjectDtoList(List.of(expectedProject), members);
         }
 
         @Test
@@ -1103,6 +1142,9 @@ public class ProjectServiceImplTest {
             when(projectAuthorityUtil.hasManagerialAuthority(expectedProject.getId(),
                     authenticatedUser.getId()))
                     .thenReturn(true);
+            when(projectAuthorityUtil.isManager(expectedProject.getId(),
+                    managerToBeDeleted.getId()))
+                    .thenReturn(true);
 
             //then
             ForbiddenException forbiddenException = assertThrows(ForbiddenException.class, () ->
@@ -1347,22 +1389,6 @@ public class ProjectServiceImplTest {
             foundProject.getEmployees().add(owner);
             foundProject.getManagers().add(owner);
 
-            Project modifiedProject = Project.builder()
-                    .id(ANOTHER_PROJECT_ID)
-                    .name(ANOTHER_PROJECT_NAME)
-                    .description(ANOTHER_PROJECT_DESCRIPTION)
-                    .startDate(PROJECT_START_DATE)
-                    .endDate(PROJECT_END_DATE)
-                    .status(Project.Status.INITIATED)
-                    .owner(owner)
-                    .managers(new HashSet<>())
-                    .employees(new HashSet<>())
-                    .build();
-            modifiedProject.getEmployees().add(owner);
-            modifiedProject.getEmployees().add(assignee);
-            modifiedProject.getManagers().add(owner);
-            modifiedProject.getManagers().add(assignee);
-
             JwtAbstractUtil jwtActionUtil = new JwtActionUtil(SECRET_KEY,ACTION_EXPIRATION);
             String shortToken = jwtActionUtil.generateToken(assignee.getUsername());
             String partOfToken = jwtActionUtil.generateToken(assignee.getUsername());
@@ -1384,6 +1410,10 @@ public class ProjectServiceImplTest {
                     .employeeIds(Set.of(owner.getId(), assigneeId))
                     .build();
 
+            ProjectMapper.ProjectMembers members = new ProjectMapper.ProjectMembers(
+                    Map.of(ANOTHER_PROJECT_ID, Set.of(owner.getId(), assigneeId)),
+                    Map.of(ANOTHER_PROJECT_ID, Set.of(owner.getId(), assigneeId)));
+
             //when
             when(paramFromHttpRequestUtil.getNamedParameter(httpServletRequest, "shortToken"))
                     .thenReturn(shortToken);
@@ -1394,15 +1424,18 @@ public class ProjectServiceImplTest {
             when(projectRepository.findByIdNotDeleted(projectId))
                     .thenReturn(Optional.of(foundProject));
             when(userRepository.findById(assigneeId)).thenReturn(Optional.of(assignee));
-            when(projectRepository.save(modifiedProject)).thenReturn(modifiedProject);
-            when(projectMapper.toProjectDto(modifiedProject)).thenReturn(projectResponse);
+            when(projectRepository.findEmployeeIdsByProjectIdIn(List.of(projectId)))
+                    .thenReturn(List.of(memberId(projectId, owner.getId()),
+                            memberId(projectId, assigneeId)));
+            when(projectRepository.findManagerIdsByProjectIdIn(List.of(projectId)))
+                    .thenReturn(List.of(memberId(projectId, owner.getId()),
+                            memberId(projectId, assigneeId)));
+            when(projectMapper.toProjectDtoList(List.of(foundProject), members))
+                    .thenReturn(List.of(projectResponse));
 
             //then
             assertEquals(projectResponse,
                     projectServiceImpl.acceptAssignmentToProject(httpServletRequest));
-            assertThat(foundProject)
-                    .usingRecursiveComparison()
-                    .isEqualTo(modifiedProject);
 
             //verify
             verify(paramFromHttpRequestUtil, times(1))
@@ -1413,8 +1446,9 @@ public class ProjectServiceImplTest {
             verify(actionTokenRepository, times(1)).existsByActionToken(actionToken);
             verify(projectRepository, times(1)).findByIdNotDeleted(projectId);
             verify(userRepository, times(1)).findById(assigneeId);
-            verify(projectRepository, times(1)).save(modifiedProject);
-            verify(projectMapper, times(1)).toProjectDto(modifiedProject);
+            verify(projectRepository, times(1)).addEmployee(projectId, assigneeId);
+            verify(projectRepository, times(1)).addManager(projectId, assigneeId);
+            verify(projectMapper, times(1)).toProjectDtoList(List.of(foundProject), members);
         }
 
         @Test
@@ -1475,4 +1509,18 @@ public class ProjectServiceImplTest {
             verify(actionTokenRepository, times(1)).existsByActionToken(actionToken);
         }
     }
+
+    private ProjectRepository.ProjectMemberId memberId(Long projectId, Long userId) {
+        return new ProjectRepository.ProjectMemberId() {
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
 }
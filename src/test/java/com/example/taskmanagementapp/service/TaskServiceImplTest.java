@@ -14,6 +14,7 @@ import com.example.taskmanagementapp.dto.task.request.TaskRequest;
 import com.example.taskmanagementapp.dto.task.request.TaskStatusDto;
 import com.example.taskmanagementapp.dto.task.request.UpdateTaskRequest;
 import com.example.taskmanagementapp.dto.task.response.TaskResponse;
+import com.example.taskmanagementapp.dto.task.response.TaskSearchResponse;
 import com.example.taskmanagementapp.entity.Project;
 import com.example.taskmanagementapp.entity.Role;
 import com.example.taskmanagementapp.entity.Task;
@@ -91,6 +92,9 @@ public class TaskServiceImplTest {
     private static final int PAGE_SIZE = 3;
     private static final long FIRST_LABEL_ID = 1;
     private static final long RANDOM_LABEL_ID = 1000;
+    private static final String SEARCH_QUERY = "release";
+    private static final double HIGHER_SCORE = 2.5;
+    private static final double LOWER_SCORE = 0.5;
     @Mock
     private TaskRepository taskRepository;
     @Mock
@@ -1645,4 +1649,141 @@ public class TaskServiceImplTest {
             verify(labelRepository).existsByIdAndUserId(RANDOM_LABEL_ID, FIRST_USER_ID);
         }
     }
+
+    @Nested
+    class CreateTasks {
+        @Test
+        void givenTasksForOneProject_whenCreateTasks_thenCheckProjectOnceAndSaveAll()
+                throws ForbiddenException {
+            //given
+            User authenticatedUser = User.builder()
+                    .id(FIRST_USER_ID)
+                    .email(TEST_EMAIL)
+                    .build();
+            User assignee = User.builder()
+                    .id(ANOTHER_USER_ID)
+                    .email(ANOTHER_TEST_EMAIL)
+                    .build();
+            Project project = Project.builder()
+                    .id(FIRST_PROJECT_ID)
+                    .name(PROJECT_NAME)
+                    .build();
+            TaskRequest firstTaskRequest = new TaskRequest(TASK_NAME, TASK_DESCRIPTION,
+                    TASK_DUE_DATE, FIRST_PROJECT_ID, ANOTHER_USER_ID);
+            TaskRequest secondTaskRequest = new TaskRequest(ANOTHER_TASK_NAME,
+                    ANOTHER_TASK_DESCRIPTION, TASK_DUE_DATE, FIRST_PROJECT_ID, ANOTHER_USER_ID);
+            Task firstTask = Task.builder().name(TASK_NAME).build();
+            Task secondTask = Task.builder().name(ANOTHER_TASK_NAME).build();
+            List<TaskResponse> taskResponses = List.of(
+                    TaskResponse.builder().name(TASK_NAME).build(),
+                    TaskResponse.builder().name(ANOTHER_TASK_NAME).build());
+
+            //when
+            when(projectRepository.findByIdNotDeleted(FIRST_PROJECT_ID))
+                    .thenReturn(Optional.of(project));
+            when(projectAuthorityUtil.hasManagerialAuthority(FIRST_PROJECT_ID, FIRST_USER_ID))
+                    .thenReturn(true);
+            when(userRepository.findAllById(Set.of(ANOTHER_USER_ID)))
+                    .thenReturn(List.of(assignee));
+            when(projectAuthorityUtil.hasAnyAuthority(FIRST_PROJECT_ID, ANOTHER_USER_ID))
+                    .thenReturn(true);
+            when(taskMapper.toCreateTask(firstTaskRequest)).thenReturn(firstTask);
+            when(taskMapper.toCreateTask(secondTaskRequest)).thenReturn(secondTask);
+            when(taskRepository.saveAll(List.of(firstTask, secondTask)))
+                    .thenReturn(List.of(firstTask, secondTask));
+            when(taskMapper.toTaskDtoList(List.of(firstTask, secondTask)))
+                    .thenReturn(taskResponses);
+
+            //then
+            assertEquals(taskResponses, taskServiceImpl.createTasks(authenticatedUser,
+                    List.of(firstTaskRequest, secondTaskRequest), TaskPriorityDto.HIGH));
+            assertEquals(Task.Priority.HIGH, firstTask.getPriority());
+            assertEquals(Task.Status.NOT_STARTED, secondTask.getStatus());
+            assertEquals(project, secondTask.getProject());
+
+            //verify
+            verify(projectRepository, times(1)).findByIdNotDeleted(FIRST_PROJECT_ID);
+            verify(projectAuthorityUtil, times(1))
+                    .hasManagerialAuthority(FIRST_PROJECT_ID, FIRST_USER_ID);
+            verify(projectAuthorityUtil, times(1))
+                    .hasAnyAuthority(FIRST_PROJECT_ID, ANOTHER_USER_ID);
+            verify(taskRepository).saveAll(List.of(firstTask, secondTask));
+            verify(taskAssignmentEmailService).sendTaskAssignmentEmail(
+                    ANOTHER_TEST_EMAIL, TEST_EMAIL, TASK_NAME, PROJECT_NAME);
+            verify(taskAssignmentEmailService).sendTaskAssignmentEmail(
+                    ANOTHER_TEST_EMAIL, TEST_EMAIL, ANOTHER_TASK_NAME, PROJECT_NAME);
+        }
+
+        @Test
+        void givenProjectWithoutManagerialAuthority_whenCreateTasks_thenForbiddenException() {
+            //given
+            User authenticatedUser = User.builder().id(FIRST_USER_ID).build();
+            TaskRequest taskRequest = new TaskRequest(TASK_NAME, TASK_DESCRIPTION,
+                    TASK_DUE_DATE, FIRST_PROJECT_ID, ANOTHER_USER_ID);
+
+            //when
+            when(projectRepository.findByIdNotDeleted(FIRST_PROJECT_ID))
+                    .thenReturn(Optional.of(Project.builder().id(FIRST_PROJECT_ID).build()));
+            when(projectAuthorityUtil.hasManagerialAuthority(FIRST_PROJECT_ID, FIRST_USER_ID))
+                    .thenReturn(false);
+
+            //then
+            ForbiddenException forbiddenException = assertThrows(ForbiddenException.class,
+                    () -> taskServiceImpl.createTasks(authenticatedUser,
+                            List.of(taskRequest), TaskPriorityDto.LOW));
+            assertEquals("You have no permission to modify project " + FIRST_PROJECT_ID,
+                    forbiddenException.getMessage());
+
+            //verify
+            verify(taskRepository, times(0)).saveAll(List.of());
+        }
+    }
+
+    @Nested
+    class SearchTasks {
+        @Test
+        void givenRankedHits_whenSearchTasks_thenReturnTasksInRankOrder() {
+            //given
+            Task firstTask = Task.builder().id(FIRST_TASK_ID).name(TASK_NAME).build();
+            Task secondTask = Task.builder().id(SECOND_TASK_ID).name(ANOTHER_TASK_NAME).build();
+            TaskResponse firstTaskResponse = TaskResponse.builder()
+                    .id(FIRST_TASK_ID).name(TASK_NAME).build();
+            TaskResponse secondTaskResponse = TaskResponse.builder()
+                    .id(SECOND_TASK_ID).name(ANOTHER_TASK_NAME).build();
+            List<TaskRepository.TaskSearchHit> hits = List.of(
+                    searchHit(SECOND_TASK_ID, HIGHER_SCORE),
+                    searchHit(FIRST_TASK_ID, LOWER_SCORE));
+
+            //when
+            when(taskRepository.searchVisibleToUser(SEARCH_QUERY, FIRST_USER_ID, TEN))
+                    .thenReturn(hits);
+            when(taskRepository.findAllById(List.of(SECOND_TASK_ID, FIRST_TASK_ID)))
+                    .thenReturn(List.of(firstTask, secondTask));
+            when(taskMapper.toTaskDto(firstTask)).thenReturn(firstTaskResponse);
+            when(taskMapper.toTaskDto(secondTask)).thenReturn(secondTaskResponse);
+
+            //then
+            assertEquals(List.of(new TaskSearchResponse(secondTaskResponse, HIGHER_SCORE),
+                            new TaskSearchResponse(firstTaskResponse, LOWER_SCORE)),
+                    taskServiceImpl.searchTasks(FIRST_USER_ID, SEARCH_QUERY, TEN));
+
+            //verify
+            verify(taskRepository).searchVisibleToUser(SEARCH_QUERY, FIRST_USER_ID, TEN);
+            verify(taskRepository).findAllById(List.of(SECOND_TASK_ID, FIRST_TASK_ID));
+        }
+
+        private TaskRepository.TaskSearchHit searchHit(Long taskId, double score) {
+            return new TaskRepository.TaskSearchHit() {
+                @Override
+                public Long getTaskId() {
+                    return taskId;
+                }
+
+                @Override
+                public Double getScore() {
+                    return score;
+                }
+            };
+        }
+    }
 }
@@ -25,6 +25,7 @@ import com.example.taskmanagementapp.mapper.UserMapper;
 import com.example.taskmanagementapp.repository.ActionTokenRepository;
 import com.example.taskmanagementapp.repository.RoleRepository;
 import com.example.taskmanagementapp.repository.UserRepository;
+import com.example.taskmanagementapp.security.PrincipalCache;
 import com.example.taskmanagementapp.security.jwtutil.abstr.JwtAbstractUtil;
 import com.example.taskmanagementapp.security.jwtutil.impl.JwtActionUtil;
 import com.example.taskmanagementapp.security.jwtutil.strategy.JwtStrategy;
@@ -93,6 +94,8 @@ public class UserServiceImplTest {
     private UserMapper userMapper;
     @Mock
     private ActionTokenRepository actionTokenRepository;
+    @Mock
+    private PrincipalCache principalCache;
     @InjectMocks
     private UserServiceImpl userServiceImpl;
 
@@ -721,7 +724,7 @@ public class UserServiceImplTest {
             when(userMapper.toUserProfileInfoDto(user)).thenReturn(userProfileResponse);
             when(userMapper.toUserProfileInfoDto(anotherUser)).thenReturn(anotherUserProfileResponse);
             when(userMapper.toUserProfileInfoDto(yetAnotherUser)).thenReturn(yetAnotherUserResponse);
-            when(userRepository.findAll(pageRequestForAllUsers)).thenReturn(usersPage);
+            when(userRepository.findAllWithRole(pageRequestForAllUsers)).thenReturn(usersPage);
 
             //then
             List<UserProfileResponse> expectedUserProfileResponses =
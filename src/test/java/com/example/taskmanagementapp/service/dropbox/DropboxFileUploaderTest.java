@@ -0,0 +1,173 @@
+package com.example.taskmanagementapp.service.dropbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dropbox.core.DbxException;
+import com.dropbox.core.v2.DbxClientV2;
+import com.dropbox.core.v2.files.DbxUserFilesRequests;
+import com.dropbox.core.v2.files.UploadBuilder;
+import com.dropbox.core.v2.files.UploadSessionAppendV2Uploader;
+import com.dropbox.core.v2.files.UploadSessionCursor;
+import com.dropbox.core.v2.files.UploadSessionFinishUploader;
+import com.dropbox.core.v2.files.UploadSessionStartResult;
+import com.dropbox.core.v2.files.UploadSessionStartUploader;
+import com.dropbox.core.v2.sharing.DbxUserSharingRequests;
+import com.dropbox.core.v2.sharing.SharedLinkMetadata;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+class DropboxFileUploaderTest {
+    private static final String FOLDER = "/tasks/1";
+    private static final long SESSION_THRESHOLD_BYTES = 10;
+    private static final long CHUNK_SIZE_BYTES = 4;
+    private static final long TIMEOUT_SECONDS = 5;
+    private DbxUserFilesRequests files;
+    private DbxUserSharingRequests sharing;
+    private ExecutorService dropboxExecutor;
+    private DropboxFileUploader dropboxFileUploader;
+
+    @BeforeEach
+    void setUp() {
+        DbxClientV2 client = mock(DbxClientV2.class);
+        files = mock(DbxUserFilesRequests.class);
+        sharing = mock(DbxUserSharingRequests.class);
+        when(client.files()).thenReturn(files);
+        when(client.sharing()).thenReturn(sharing);
+        dropboxExecutor = Executors.newFixedThreadPool(2);
+        dropboxFileUploader = new DropboxFileUploader(client, dropboxExecutor,
+                SESSION_THRESHOLD_BYTES, CHUNK_SIZE_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dropboxExecutor.shutdownNow();
+    }
+
+    @Test
+    void givenFiles_whenUploadAll_thenUploadInParallelAndReturnRawLinksInOrder()
+            throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        for (String fileName : List.of("a.txt", "b.txt")) {
+            UploadBuilder uploadBuilder = stubUpload(fileName);
+            when(uploadBuilder.uploadAndFinish(any(InputStream.class))).thenAnswer(invocation -> {
+                bothStarted.countDown();
+                if (!bothStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new IOException("Uploads did not run in parallel");
+                }
+                return null;
+            });
+            stubSharedLink(fileName);
+        }
+
+        List<DropboxFileUploader.UploadedFile> uploadedFiles =
+                dropboxFileUploader.uploadAll(FOLDER, files("a.txt", "b.txt"));
+
+        assertEquals(List.of(
+                new DropboxFileUploader.UploadedFile("a.txt", link("a.txt") + "?raw=1"),
+                new DropboxFileUploader.UploadedFile("b.txt", link("b.txt") + "?raw=1")),
+                uploadedFiles);
+        verify(files, never()).deleteV2(anyString());
+    }
+
+    @Test
+    void givenOneUploadFails_whenUploadAll_thenDeleteFilesAlreadyUploaded() throws Exception {
+        stubUpload("a.txt");
+        stubSharedLink("a.txt");
+        when(stubUpload("b.txt").uploadAndFinish(any(InputStream.class)))
+                .thenThrow(new IOException("Connection reset"));
+
+        IOException exception = assertThrows(IOException.class,
+                () -> dropboxFileUploader.uploadAll(FOLDER, files("a.txt", "b.txt")));
+
+        assertEquals("Connection reset", exception.getMessage());
+        verify(files).deleteV2(FOLDER + "/a.txt");
+        verify(files, never()).deleteV2(FOLDER + "/b.txt");
+    }
+
+    @Test
+    void givenSharedLinkFails_whenUploadAll_thenDeleteEveryUploadedFile() throws Exception {
+        stubUpload("a.txt");
+        stubSharedLink("a.txt");
+        stubUpload("b.txt");
+        when(sharing.createSharedLinkWithSettings(FOLDER + "/b.txt"))
+                .thenThrow(new DbxException("Too many requests"));
+        when(files.deleteV2(FOLDER + "/a.txt")).thenThrow(new DbxException("Not found"));
+
+        assertThrows(DbxException.class,
+                () -> dropboxFileUploader.uploadAll(FOLDER, files("a.txt", "b.txt")));
+
+        verify(files).deleteV2(FOLDER + "/a.txt");
+        verify(files).deleteV2(FOLDER + "/b.txt");
+    }
+
+    @Test
+    void givenFileAboveThreshold_whenUploadAll_thenUploadInChunkedSession() throws Exception {
+        UploadSessionStartUploader startUploader = mock(UploadSessionStartUploader.class);
+        UploadSessionStartResult startResult = mock(UploadSessionStartResult.class);
+        UploadSessionAppendV2Uploader appendUploader = mock(UploadSessionAppendV2Uploader.class);
+        UploadSessionFinishUploader finishUploader = mock(UploadSessionFinishUploader.class);
+        when(files.uploadSessionStart()).thenReturn(startUploader);
+        when(startUploader.uploadAndFinish(any(InputStream.class), anyLong()))
+                .thenReturn(startResult);
+        when(startResult.getSessionId()).thenReturn("session");
+        when(files.uploadSessionAppendV2(any())).thenReturn(appendUploader);
+        when(files.uploadSessionFinish(any(), any())).thenReturn(finishUploader);
+        stubSharedLink("large.txt");
+        MultipartFile largeFile = new MockMultipartFile("files", "large.txt", "text/plain",
+                new byte[(int) SESSION_THRESHOLD_BYTES + 1]);
+
+        dropboxFileUploader.uploadAll(FOLDER, new MultipartFile[] {largeFile});
+
+        verify(startUploader).uploadAndFinish(any(InputStream.class), eq(CHUNK_SIZE_BYTES));
+        verify(files).uploadSessionAppendV2(new UploadSessionCursor("session", 4));
+        verify(appendUploader).uploadAndFinish(any(InputStream.class), eq(CHUNK_SIZE_BYTES));
+        verify(files).uploadSessionFinish(eq(new UploadSessionCursor("session", 8)), any());
+        verify(finishUploader).uploadAndFinish(any(InputStream.class), eq(3L));
+        verify(files, never()).uploadBuilder(anyString());
+    }
+
+    private UploadBuilder stubUpload(String fileName) {
+        UploadBuilder uploadBuilder = mock(UploadBuilder.class);
+        when(files.uploadBuilder(FOLDER + "/" + fileName)).thenReturn(uploadBuilder);
+        return uploadBuilder;
+    }
+
+    private void stubSharedLink(String fileName) throws DbxException {
+        SharedLinkMetadata sharedLink = mock(SharedLinkMetadata.class);
+        when(sharedLink.getUrl()).thenReturn(link(fileName) + "?dl=0");
+        when(sharing.createSharedLinkWithSettings(FOLDER + "/" + fileName))
+                .thenReturn(sharedLink);
+    }
+
+    private String link(String fileName) {
+        return "https://www.dropbox.com/s/" + fileName;
+    }
+
+    private MultipartFile[] files(String... fileNames) {
+        MultipartFile[] multipartFiles = new MultipartFile[fileNames.length];
+        for (int i = 0; i < fileNames.length; i++) {
+            multipartFiles[i] = new MockMultipartFile("files", fileNames[i], "text/plain",
+                    fileNames[i].getBytes());
+        }
+        return multipartFiles;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.taskmanagementapp.service.email;
+
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.DEADLINE_NOTIFIER_BATCH;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.DEADLINE_NOTIFIER_NOTIFIED;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.DEADLINE_NOTIFIER_RUN;
+import static com.example.taskmanagementapp.constant.service.email.TaskDeadlineNotifierConstants.SUBJECT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagementapp.entity.Project;
+import com.example.taskmanagementapp.entity.Task;
+import com.example.taskmanagementapp.entity.User;
+import com.example.taskmanagementapp.repository.TaskRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+class TaskDeadlineNotifierTest {
+    private static final String FIRST_EMAIL = "john_doe@mail.com";
+    private static final String SECOND_EMAIL = "richard_roe@mail.com";
+    private EmailService emailService;
+    private TaskRepository taskRepository;
+    private MeterRegistry meterRegistry;
+    private TaskDeadlineNotifier taskDeadlineNotifier;
+
+    @BeforeEach
+    void setUp() {
+        emailService = mock(EmailService.class);
+        taskRepository = mock(TaskRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        taskDeadlineNotifier = new TaskDeadlineNotifier(emailService, taskRepository,
+                meterRegistry);
+    }
+
+    @Test
+    void givenTasksOfTwoAssignees_whenNotify_thenEmailEachOnceAndRecordRun() {
+        Project project = Project.builder().name("projectName").build();
+        User firstAssignee = User.builder().id(1L).email(FIRST_EMAIL).build();
+        User secondAssignee = User.builder().id(2L).email(SECOND_EMAIL).build();
+        when(taskRepository.findAllNonDeletedDueOnAfter(any(LocalDate.class), anyLong(),
+                anyLong(), any(Limit.class))).thenReturn(List.of(
+                        task(1L, firstAssignee, project),
+                        task(2L, firstAssignee, project),
+                        task(3L, secondAssignee, project)));
+
+        taskDeadlineNotifier.taskDeadlineNotification();
+
+        verify(emailService, times(1)).queueEmail(eq(FIRST_EMAIL), eq(SUBJECT), anyString());
+        verify(emailService, times(1)).queueEmail(eq(SECOND_EMAIL), eq(SUBJECT), anyString());
+        assertEquals(1, meterRegistry.get(DEADLINE_NOTIFIER_RUN).timer().count());
+        assertEquals(2, meterRegistry.get(DEADLINE_NOTIFIER_NOTIFIED).counter().count());
+        DistributionSummary batchSizes = meterRegistry.get(DEADLINE_NOTIFIER_BATCH).summary();
+        assertEquals(1, batchSizes.count());
+        assertEquals(3, batchSizes.totalAmount());
+    }
+
+    @Test
+    void givenNoTasksDueTomorrow_whenNotify_thenRecordEmptyRun() {
+        when(taskRepository.findAllNonDeletedDueOnAfter(any(LocalDate.class), anyLong(),
+                anyLong(), any(Limit.class))).thenReturn(List.of());
+
+        taskDeadlineNotifier.taskDeadlineNotification();
+
+        assertEquals(1, meterRegistry.get(DEADLINE_NOTIFIER_RUN).timer().count());
+        assertEquals(0, meterRegistry.get(DEADLINE_NOTIFIER_NOTIFIED).counter().count());
+        assertEquals(0, meterRegistry.get(DEADLINE_NOTIFIER_BATCH).summary().totalAmount());
+    }
+
+    private Task task(Long id, User assignee, Project project) {
+        Task task = new Task();
+        task.setId(id);
+        task.setName("taskName" + id);
+        task.setAssignee(assignee);
+        task.setProject(project);
+        return task;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagementapp.repository.EmailOutboxRepository;
+import com.example.taskmanagementapp.service.email.EmailService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class EmailOutboxPollerTest {
+    private static final int BATCH_SIZE = 100;
+    private static final long LEASE_SECONDS = 300;
+    private static final int RETENTION_DAYS = 7;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long INITIAL_RETRY_DELAY_SECONDS = 60;
+    private static final long MAX_RETRY_DELAY_SECONDS = 150;
+    private static final double RATE_PER_SECOND = 0.5;
+    private static final int SENDABLE_WITHIN_LEASE = 75;
+    private static final long EMAIL_ID = 1L;
+    private static final String ERROR = "Rate limited";
+    private EmailService emailService;
+    private EmailQueueProcessor emailQueueProcessor;
+    private EmailOutboxRepository emailOutboxRepository;
+    private EmailOutboxPoller emailOutboxPoller;
+
+    @BeforeEach
+    void setUp() {
+        emailService = mock(EmailService.class);
+        emailQueueProcessor = mock(EmailQueueProcessor.class);
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        emailOutboxPoller = new EmailOutboxPoller(emailService, emailQueueProcessor,
+                emailOutboxRepository, BATCH_SIZE, LEASE_SECONDS, RETENTION_DAYS, MAX_ATTEMPTS,
+                INITIAL_RETRY_DELAY_SECONDS, MAX_RETRY_DELAY_SECONDS, RATE_PER_SECOND);
+    }
+
+    @Test
+    void givenSlowDispatch_whenPoll_thenClaimOnlyWhatCanBeSentWithinLease() {
+        when(emailQueueProcessor.getStats()).thenReturn(stats(20, 5));
+        EmailService.EmailRequest claimed = request(1);
+        when(emailService.claimBatch(anyInt(), any())).thenReturn(List.of(claimed));
+
+        emailOutboxPoller.pollOutbox();
+
+        verify(emailService).claimBatch(SENDABLE_WITHIN_LEASE - 20 - 5,
+                Duration.ofSeconds(LEASE_SECONDS));
+        verify(emailQueueProcessor).queueEmail(claimed, emailOutboxPoller);
+    }
+
+    @Test
+    void givenBacklogAtLeaseCapacity_whenPoll_thenClaimNothing() {
+        when(emailQueueProcessor.getStats()).thenReturn(stats(SENDABLE_WITHIN_LEASE, 0));
+
+        emailOutboxPoller.pollOutbox();
+
+        verify(emailService, never()).claimBatch(anyInt(), any());
+    }
+
+    @Test
+    void givenClaimStillHeld_whenSending_thenRenewLease() {
+        when(emailOutboxRepository.renewLease(eq(EMAIL_ID), eq(2), any())).thenReturn(1);
+
+        LocalDateTime before = LocalDateTime.now();
+        assertTrue(emailOutboxPoller.onSending(request(2)));
+
+        ArgumentCaptor<LocalDateTime> lockedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).renewLease(eq(EMAIL_ID), eq(2), lockedUntil.capture());
+        assertFalse(lockedUntil.getValue().isBefore(before.plusSeconds(LEASE_SECONDS)));
+    }
+
+    @Test
+    void givenClaimTakenByAnotherNode_whenSending_thenRefuseToSend() {
+        when(emailOutboxRepository.renewLease(eq(EMAIL_ID), eq(2), any())).thenReturn(0);
+
+        assertFalse(emailOutboxPoller.onSending(request(2)));
+    }
+
+    @Test
+    void givenAttemptsLeft_whenFailed_thenScheduleRetryWithBackoff() {
+        LocalDateTime before = LocalDateTime.now();
+        emailOutboxPoller.onFailed(request(2), ERROR);
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt =
+                ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).scheduleRetry(eq(EMAIL_ID), eq(2),
+                nextAttemptAt.capture(), eq(ERROR));
+        assertFalse(nextAttemptAt.getValue()
+                .isBefore(before.plusSeconds(2 * INITIAL_RETRY_DELAY_SECONDS)));
+        verify(emailOutboxRepository, never()).markFailed(anyLong(), anyInt(), anyString());
+    }
+
+    @Test
+    void givenLastAttempt_whenFailed_thenMoveToDeadLetter() {
+        when(emailOutboxRepository.markFailed(EMAIL_ID, MAX_ATTEMPTS, ERROR)).thenReturn(1);
+
+        emailOutboxPoller.onFailed(request(MAX_ATTEMPTS), ERROR);
+
+        verify(emailOutboxRepository).markFailed(EMAIL_ID, MAX_ATTEMPTS, ERROR);
+        verify(emailOutboxRepository, never())
+                .scheduleRetry(anyLong(), anyInt(), any(), anyString());
+    }
+
+    @Test
+    void givenSentEmail_whenOnSent_thenMarkSentForThisClaimOnly() {
+        emailOutboxPoller.onSent(request(3));
+
+        verify(emailOutboxRepository).markSent(eq(EMAIL_ID), eq(3), any());
+    }
+
+    @Test
+    void givenRetryDelays_whenGetRetryDelay_thenDoubleUntilCapped() {
+        assertEquals(Duration.ofSeconds(60), emailOutboxPoller.getRetryDelay(1));
+        assertEquals(Duration.ofSeconds(120), emailOutboxPoller.getRetryDelay(2));
+        assertEquals(Duration.ofSeconds(MAX_RETRY_DELAY_SECONDS),
+                emailOutboxPoller.getRetryDelay(3));
+        assertEquals(Duration.ofSeconds(MAX_RETRY_DELAY_SECONDS),
+                emailOutboxPoller.getRetryDelay(40));
+    }
+
+    private EmailService.EmailRequest request(int attempt) {
+        return new EmailService.EmailRequest(EMAIL_ID, attempt, "john_doe@mail.com",
+                "subject", "body");
+    }
+
+    private EmailQueueProcessor.EmailDispatchStats stats(int queueDepth, int inFlight) {
+        return new EmailQueueProcessor.EmailDispatchStats(queueDepth, inFlight, 0, 0, 0, 0, 0);
+    }
+}
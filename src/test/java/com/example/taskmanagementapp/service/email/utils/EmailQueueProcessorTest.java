@@ -0,0 +1,266 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_DELIVERY_LATENCY;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_FAILED;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_QUEUE_DEPTH;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_RETRIED;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_SEND_LATENCY;
+import static com.example.taskmanagementapp.constant.config.MetricsConstants.EMAIL_SENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagementapp.exception.EmailDeliveryException;
+import com.example.taskmanagementapp.service.email.EmailService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmailQueueProcessorTest {
+    private static final double RATE_PER_SECOND = 1000;
+    private static final int BURST = 100;
+    private static final int MAX_CONCURRENCY = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 20;
+    private static final long MAX_BACKOFF_MILLIS = 50;
+    private static final int BATCH_SIZE = 10;
+    private static final long BATCH_WINDOW_MILLIS = 1;
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final EmailService.EmailRequest FIRST_EMAIL =
+            new EmailService.EmailRequest(1L, 1, "john_doe@mail.com", "subject", "body");
+    private static final EmailService.EmailRequest SECOND_EMAIL =
+            new EmailService.EmailRequest(2L, 1, "richard_roe@mail.com", "subject", "body");
+    private EmailSender emailSender;
+    private EmailQueueProcessor emailQueueProcessor;
+    private RecordingCallback callback;
+
+    @BeforeEach
+    void setUp() {
+        emailSender = mock(EmailSender.class);
+        emailQueueProcessor = new EmailQueueProcessor(emailSender, RATE_PER_SECOND, BURST,
+                MAX_CONCURRENCY, MAX_ATTEMPTS, INITIAL_BACKOFF_MILLIS, MAX_BACKOFF_MILLIS,
+                BATCH_SIZE, BATCH_WINDOW_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailQueueProcessor.stop();
+    }
+
+    @Test
+    void givenTransientFailure_whenSend_thenRetryAndReportSent() throws InterruptedException {
+        doThrow(new EmailDeliveryException("Temporary failure", null))
+                .doReturn(List.of())
+                .when(emailSender).sendBatch(anyList());
+
+        dispatch(1, FIRST_EMAIL);
+
+        assertEquals(List.of(FIRST_EMAIL), callback.sent);
+        assertTrue(callback.failed.isEmpty());
+        verify(emailSender, times(2)).sendBatch(List.of(FIRST_EMAIL));
+        EmailQueueProcessor.EmailDispatchStats stats = emailQueueProcessor.getStats();
+        assertEquals(1, stats.sent());
+        assertEquals(1, stats.retried());
+        assertEquals(0, stats.failed());
+    }
+
+    @Test
+    void givenUnexpectedSenderException_whenAttemptsExhausted_thenReportFailed()
+            throws InterruptedException {
+        doThrow(new IllegalStateException("Connection reset"))
+                .when(emailSender).sendBatch(anyList());
+
+        dispatch(1, FIRST_EMAIL);
+
+        assertEquals(Map.of(FIRST_EMAIL, "Connection reset"), callback.failed);
+        assertTrue(callback.sent.isEmpty());
+        verify(emailSender, times(MAX_ATTEMPTS)).sendBatch(List.of(FIRST_EMAIL));
+        assertEquals(1, emailQueueProcessor.getStats().failed());
+        assertEquals(MAX_ATTEMPTS - 1, emailQueueProcessor.getStats().retried());
+    }
+
+    @Test
+    void givenFailingAttempts_whenRetry_thenBackOffExponentiallyUpToMax()
+            throws InterruptedException {
+        List<Long> attemptTimes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            attemptTimes.add(System.nanoTime());
+            throw new EmailDeliveryException("Rate limited", null);
+        }).when(emailSender).sendBatch(anyList());
+
+        dispatch(1, FIRST_EMAIL);
+
+        assertEquals(MAX_ATTEMPTS, attemptTimes.size());
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(
+                    attemptTimes.get(attempt) - attemptTimes.get(attempt - 1));
+            assertTrue(waitedMillis >= emailQueueProcessor.getBackoffMillis(attempt),
+                    "Retry " + attempt + " waited only " + waitedMillis + " ms");
+        }
+    }
+
+    @Test
+    void givenBackoffSettings_whenGetBackoff_thenDoubleUntilCapped() {
+        assertEquals(INITIAL_BACKOFF_MILLIS, emailQueueProcessor.getBackoffMillis(1));
+        assertEquals(INITIAL_BACKOFF_MILLIS * 2, emailQueueProcessor.getBackoffMillis(2));
+        assertEquals(MAX_BACKOFF_MILLIS, emailQueueProcessor.getBackoffMillis(3));
+        assertEquals(MAX_BACKOFF_MILLIS, emailQueueProcessor.getBackoffMillis(64));
+    }
+
+    @Test
+    void givenThrowingSentCallback_whenBatchSent_thenNotifyOtherEmailsWithoutResending()
+            throws InterruptedException {
+        when(emailSender.sendBatch(anyList())).thenReturn(List.of());
+        callback = new RecordingCallback(2) {
+            @Override
+            public void onSent(EmailService.EmailRequest emailRequest) {
+                super.onSent(emailRequest);
+                if (emailRequest.equals(FIRST_EMAIL)) {
+                    throw new IllegalStateException("Outbox update failed");
+                }
+            }
+        };
+
+        emailQueueProcessor.queueEmail(FIRST_EMAIL, callback);
+        emailQueueProcessor.queueEmail(SECOND_EMAIL, callback);
+        emailQueueProcessor.start();
+        assertTrue(callback.done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals(List.of(FIRST_EMAIL, SECOND_EMAIL), callback.sent);
+        verify(emailSender, times(1)).sendBatch(List.of(FIRST_EMAIL, SECOND_EMAIL));
+        assertEquals(2, emailQueueProcessor.getStats().sent());
+    }
+
+    @Test
+    void givenLostClaim_whenSend_thenSkipEmailWithoutReportingIt() throws InterruptedException {
+        when(emailSender.sendBatch(anyList())).thenReturn(List.of());
+        callback = new RecordingCallback(1) {
+            @Override
+            public boolean onSending(EmailService.EmailRequest emailRequest) {
+                return !emailRequest.equals(FIRST_EMAIL);
+            }
+        };
+
+        emailQueueProcessor.queueEmail(FIRST_EMAIL, callback);
+        emailQueueProcessor.queueEmail(SECOND_EMAIL, callback);
+        emailQueueProcessor.start();
+        assertTrue(callback.done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals(List.of(SECOND_EMAIL), callback.sent);
+        assertTrue(callback.failed.isEmpty());
+        verify(emailSender, times(1)).sendBatch(List.of(SECOND_EMAIL));
+    }
+
+    @Test
+    void givenPartialBatchFailure_whenRetry_thenResendOnlyFailedEmails()
+            throws InterruptedException {
+        when(emailSender.sendBatch(anyList()))
+                .thenReturn(List.of(new EmailSender.FailedEmail(SECOND_EMAIL, "Rate limited")))
+                .thenReturn(List.of());
+        callback = new RecordingCallback(2);
+
+        emailQueueProcessor.queueEmail(FIRST_EMAIL, callback);
+        emailQueueProcessor.queueEmail(SECOND_EMAIL, callback);
+        emailQueueProcessor.start();
+        assertTrue(callback.done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals(List.of(FIRST_EMAIL, SECOND_EMAIL), callback.sent);
+        verify(emailSender).sendBatch(List.of(FIRST_EMAIL, SECOND_EMAIL));
+        verify(emailSender).sendBatch(List.of(SECOND_EMAIL));
+        EmailQueueProcessor.EmailDispatchStats stats = emailQueueProcessor.getStats();
+        assertEquals(2, stats.sent());
+        assertEquals(1, stats.retried());
+    }
+
+    @Test
+    void givenBoundRegistry_whenRetrySucceeds_thenTimeProviderCallsApartFromDelivery()
+            throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        emailQueueProcessor.bindTo(registry);
+        when(emailSender.sendBatch(anyList()))
+                .thenReturn(List.of(new EmailSender.FailedEmail(SECOND_EMAIL, "Rate limited")))
+                .thenReturn(List.of());
+        callback = new RecordingCallback(2);
+
+        emailQueueProcessor.queueEmail(FIRST_EMAIL, callback);
+        emailQueueProcessor.queueEmail(SECOND_EMAIL, callback);
+        emailQueueProcessor.start();
+        assertTrue(callback.done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals(2, registry.get(EMAIL_SEND_LATENCY).timer().count());
+        assertEquals(2, registry.get(EMAIL_DELIVERY_LATENCY).timer().count());
+        assertTrue(registry.get(EMAIL_DELIVERY_LATENCY).timer().max(TimeUnit.MILLISECONDS)
+                >= INITIAL_BACKOFF_MILLIS);
+        assertEquals(2, registry.get(EMAIL_SENT).functionCounter().count());
+        assertEquals(1, registry.get(EMAIL_RETRIED).functionCounter().count());
+        assertEquals(0, registry.get(EMAIL_FAILED).functionCounter().count());
+        assertEquals(0, registry.get(EMAIL_QUEUE_DEPTH).gauge().value());
+    }
+
+    @Test
+    void givenItemFailingEveryAttempt_whenAttemptsExhausted_thenReportOnlyItFailed()
+            throws InterruptedException {
+        when(emailSender.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<EmailService.EmailRequest> requests = invocation.getArgument(0);
+            return requests.contains(SECOND_EMAIL)
+                    ? List.of(new EmailSender.FailedEmail(SECOND_EMAIL, "Mailbox not found"))
+                    : List.of();
+        });
+        callback = new RecordingCallback(2);
+
+        emailQueueProcessor.queueEmail(FIRST_EMAIL, callback);
+        emailQueueProcessor.queueEmail(SECOND_EMAIL, callback);
+        emailQueueProcessor.start();
+        assertTrue(callback.done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals(List.of(FIRST_EMAIL), callback.sent);
+        assertEquals(Map.of(SECOND_EMAIL, "Mailbox not found"), callback.failed);
+        verify(emailSender, times(MAX_ATTEMPTS - 1)).sendBatch(List.of(SECOND_EMAIL));
+    }
+
+    private void dispatch(int expectedCallbacks, EmailService.EmailRequest... emailRequests)
+            throws InterruptedException {
+        callback = new RecordingCallback(expectedCallbacks);
+        for (EmailService.EmailRequest emailRequest : emailRequests) {
+            emailQueueProcessor.queueEmail(emailRequest, callback);
+        }
+        emailQueueProcessor.start();
+        assertTrue(callback.done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static class RecordingCallback implements EmailQueueProcessor.EmailDeliveryCallback {
+        private final List<EmailService.EmailRequest> sent = new CopyOnWriteArrayList<>();
+        private final Map<EmailService.EmailRequest, String> failed = new ConcurrentHashMap<>();
+        private final CountDownLatch done;
+
+        private RecordingCallback(int expectedCallbacks) {
+            this.done = new CountDownLatch(expectedCallbacks);
+        }
+
+        @Override
+        public void onSent(EmailService.EmailRequest emailRequest) {
+            sent.add(emailRequest);
+            done.countDown();
+        }
+
+        @Override
+        public void onFailed(EmailService.EmailRequest emailRequest, String error) {
+            failed.put(emailRequest, error);
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import static com.example.taskmanagementapp.constant.service.email.EmailDispatchConstants.FAKE_MAILBOX_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.taskmanagementapp.service.email.EmailService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class FakeEmailSenderTest {
+    private static final String RECEIVER = "john_doe@mail.com";
+    private static final String OTHER_RECEIVER = "jane_doe@mail.com";
+
+    @Test
+    void givenSeveralEmailsToOneReceiver_whenTakeEmail_thenReturnThemInOrder()
+            throws InterruptedException {
+        FakeEmailSender fakeEmailSender = new FakeEmailSender(0, 0);
+        fakeEmailSender.send(request(1, RECEIVER));
+        fakeEmailSender.sendBatch(List.of(request(2, OTHER_RECEIVER), request(3, RECEIVER)));
+
+        assertEquals(1L, take(fakeEmailSender, RECEIVER).id());
+        assertEquals(3L, take(fakeEmailSender, RECEIVER).id());
+        assertEquals(2L, take(fakeEmailSender, OTHER_RECEIVER).id());
+        assertTrue(fakeEmailSender.takeEmail(RECEIVER, 0, TimeUnit.MILLISECONDS).isEmpty());
+    }
+
+    @Test
+    void givenFullMailbox_whenSend_thenDropOldestEmail() throws InterruptedException {
+        FakeEmailSender fakeEmailSender = new FakeEmailSender(0, 0);
+        for (long id = 0; id <= FAKE_MAILBOX_CAPACITY; id++) {
+            fakeEmailSender.send(request(id, RECEIVER));
+        }
+
+        assertEquals(1L, take(fakeEmailSender, RECEIVER).id());
+    }
+
+    @Test
+    void givenClearedMailbox_whenTakeEmail_thenReturnNothing() throws InterruptedException {
+        FakeEmailSender fakeEmailSender = new FakeEmailSender(0, 0);
+        fakeEmailSender.send(request(1, RECEIVER));
+
+        fakeEmailSender.clearEmails(RECEIVER);
+
+        assertTrue(fakeEmailSender.takeEmail(RECEIVER, 0, TimeUnit.MILLISECONDS).isEmpty());
+    }
+
+    @Test
+    void givenAlwaysFailingSender_whenSendBatch_thenReturnEveryEmailAsFailed()
+            throws InterruptedException {
+        FakeEmailSender fakeEmailSender = new FakeEmailSender(0, 1);
+        List<EmailService.EmailRequest> batch =
+                List.of(request(1, RECEIVER), request(2, OTHER_RECEIVER));
+
+        List<EmailSender.FailedEmail> failedEmails = fakeEmailSender.sendBatch(batch);
+
+        assertEquals(batch, failedEmails.stream().map(EmailSender.FailedEmail::request).toList());
+        assertTrue(fakeEmailSender.takeEmail(RECEIVER, 0, TimeUnit.MILLISECONDS).isEmpty());
+    }
+
+    private EmailService.EmailRequest take(FakeEmailSender fakeEmailSender, String toEmail)
+            throws InterruptedException {
+        return fakeEmailSender.takeEmail(toEmail, 0, TimeUnit.MILLISECONDS).orElseThrow();
+    }
+
+    private EmailService.EmailRequest request(long id, String toEmail) {
+        return new EmailService.EmailRequest(id, 1, toEmail, "subject", "body");
+    }
+}
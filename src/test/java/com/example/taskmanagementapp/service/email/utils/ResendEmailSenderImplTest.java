@@ -0,0 +1,77 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import static com.example.taskmanagementapp.constant.service.email.EmailDispatchConstants.MAX_RESEND_BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagementapp.service.email.EmailService;
+import com.resend.Resend;
+import com.resend.core.exception.ResendException;
+import com.resend.services.batch.Batch;
+import com.resend.services.batch.model.CreateBatchEmailsResponse;
+import com.resend.services.emails.Emails;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResendEmailSenderImplTest {
+    private static final String SENDER_EMAIL = "noreply@mail.com";
+    private Emails emails;
+    private Batch batch;
+    private ResendEmailSenderImpl resendEmailSender;
+
+    @BeforeEach
+    void setUp() {
+        Resend resendClient = mock(Resend.class);
+        emails = mock(Emails.class);
+        batch = mock(Batch.class);
+        when(resendClient.emails()).thenReturn(emails);
+        when(resendClient.batch()).thenReturn(batch);
+        resendEmailSender = new ResendEmailSenderImpl(resendClient, SENDER_EMAIL);
+    }
+
+    @Test
+    void givenSecondChunkRejected_whenSendBatch_thenReportOnlyThatChunkFailed()
+            throws ResendException {
+        CreateBatchEmailsResponse response = mock(CreateBatchEmailsResponse.class);
+        when(batch.send(anyList()))
+                .thenReturn(response)
+                .thenThrow(new ResendException("Rate limited"));
+        List<EmailService.EmailRequest> requests = requests(MAX_RESEND_BATCH_SIZE + 2);
+
+        List<EmailSender.FailedEmail> failedEmails = resendEmailSender.sendBatch(requests);
+
+        assertEquals(requests.subList(MAX_RESEND_BATCH_SIZE, requests.size()),
+                failedEmails.stream().map(EmailSender.FailedEmail::request).toList());
+        assertTrue(failedEmails.getFirst().error().contains("Rate limited"));
+        verify(batch, times(2)).send(anyList());
+    }
+
+    @Test
+    void givenSingleEmailRejected_whenSendBatch_thenReportItFailed() throws ResendException {
+        when(emails.send(any())).thenThrow(new ResendException("Invalid recipient"));
+        List<EmailService.EmailRequest> requests = requests(1);
+
+        List<EmailSender.FailedEmail> failedEmails = resendEmailSender.sendBatch(requests);
+
+        assertEquals(requests,
+                failedEmails.stream().map(EmailSender.FailedEmail::request).toList());
+        verify(batch, times(0)).send(anyList());
+    }
+
+    private List<EmailService.EmailRequest> requests(int count) {
+        List<EmailService.EmailRequest> requests = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            requests.add(new EmailService.EmailRequest((long) i, 1, "user" + i + "@mail.com",
+                    "subject", "body"));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.taskmanagementapp.service.email.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+    private static final double PERMITS_PER_SECOND = 10;
+    private static final int BURST = 3;
+    private static final long NANOS_PER_PERMIT = TimeUnit.MILLISECONDS.toNanos(100);
+    private final AtomicLong now = new AtomicLong();
+    private final TokenBucketRateLimiter rateLimiter =
+            new TokenBucketRateLimiter(PERMITS_PER_SECOND, BURST, now::get);
+
+    @Test
+    void givenFullBucket_whenAcquireBurst_thenGrantWithoutWaiting() {
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, rateLimiter.tryAcquire());
+        }
+        assertEquals(NANOS_PER_PERMIT, rateLimiter.tryAcquire());
+    }
+
+    @Test
+    void givenEmptyBucket_whenTimePasses_thenRefillAtConfiguredRate() {
+        drain();
+        now.addAndGet(NANOS_PER_PERMIT / 4);
+        assertEquals(NANOS_PER_PERMIT * 3 / 4, rateLimiter.tryAcquire());
+
+        now.addAndGet(NANOS_PER_PERMIT * 3 / 4);
+        assertEquals(0, rateLimiter.tryAcquire());
+        assertEquals(NANOS_PER_PERMIT, rateLimiter.tryAcquire());
+    }
+
+    @Test
+    void givenLongIdlePeriod_whenAcquire_thenRefillOnlyUpToBurst() {
+        drain();
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, rateLimiter.tryAcquire());
+        }
+        assertEquals(NANOS_PER_PERMIT, rateLimiter.tryAcquire());
+    }
+
+    @Test
+    void givenEmptyBucket_whenAcquireWithRealClock_thenWaitForNextPermit()
+            throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(PERMITS_PER_SECOND, 1);
+        limiter.acquire();
+        long startedAt = System.nanoTime();
+        limiter.acquire();
+        assertTrue(System.nanoTime() - startedAt >= NANOS_PER_PERMIT * 9 / 10);
+    }
+
+    @Test
+    void givenNonPositiveRate_whenCreate_thenThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenBucketRateLimiter(0, BURST));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenBucketRateLimiter(PERMITS_PER_SECOND, 0));
+    }
+
+    private void drain() {
+        for (int i = 0; i < BURST; i++) {
+            rateLimiter.tryAcquire();
+        }
+    }
+}
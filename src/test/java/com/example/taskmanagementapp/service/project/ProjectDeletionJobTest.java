@@ -0,0 +1,238 @@
+package com.example.taskmanagementapp.service.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagementapp.dto.project.response.ProjectDeletionResponse;
+import com.example.taskmanagementapp.entity.Attachment;
+import com.example.taskmanagementapp.entity.ProjectDeletion;
+import com.example.taskmanagementapp.entity.Task;
+import com.example.taskmanagementapp.repository.AttachmentRepository;
+import com.example.taskmanagementapp.repository.CommentRepository;
+import com.example.taskmanagementapp.repository.LabelRepository;
+import com.example.taskmanagementapp.repository.ProjectDeletionRepository;
+import com.example.taskmanagementapp.repository.TaskRepository;
+import com.example.taskmanagementapp.service.storage.AttachmentStorage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class ProjectDeletionJobTest {
+    private static final int CHUNK_SIZE = 2;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofMinutes(1);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(3);
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final Long PROJECT_ID = 1L;
+    private static final int CLAIM = 1;
+    private static final String FILE_NAME = "report.pdf";
+    private static final String FILE_ID = "file-id";
+    private TaskRepository taskRepository;
+    private LabelRepository labelRepository;
+    private AttachmentRepository attachmentRepository;
+    private ProjectDeletionRepository projectDeletionRepository;
+    private AttachmentStorage attachmentStorage;
+    private ExecutorService deletionExecutor;
+    private ProjectDeletionJob projectDeletionJob;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        labelRepository = mock(LabelRepository.class);
+        attachmentRepository = mock(AttachmentRepository.class);
+        projectDeletionRepository = mock(ProjectDeletionRepository.class);
+        attachmentStorage = mock(AttachmentStorage.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        deletionExecutor = Executors.newSingleThreadExecutor();
+        projectDeletionJob = new ProjectDeletionJob(taskRepository,
+                mock(CommentRepository.class), labelRepository, attachmentRepository,
+                projectDeletionRepository, attachmentStorage, transactionManager, CHUNK_SIZE,
+                LEASE, MAX_ATTEMPTS, INITIAL_RETRY_DELAY, MAX_RETRY_DELAY, deletionExecutor);
+    }
+
+    @Test
+    void givenPendingDeletion_whenResumeUnfinished_thenClaimItAndDeleteInChunks()
+            throws Exception {
+        ProjectDeletion pending = deletion(ProjectDeletion.Status.PENDING, 0, 0);
+        when(projectDeletionRepository.findClaimableForUpdate(any(), anyInt()))
+                .thenReturn(List.of(pending));
+        when(taskRepository.findIdsByProjectIdNonDeleted(eq(PROJECT_ID), any(Limit.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(projectDeletionRepository.recordProgress(eq(PROJECT_ID), eq(CLAIM), anyLong(),
+                any())).thenReturn(1);
+        when(attachmentRepository.findAllByTaskIdIn(List.of(3L)))
+                .thenReturn(List.of(attachment(3L)));
+
+        LocalDateTime before = LocalDateTime.now();
+        runDeletions();
+
+        assertEquals(ProjectDeletion.Status.RUNNING, pending.getStatus());
+        assertEquals(CLAIM, pending.getAttempts());
+        assertFalse(pending.getLockedUntil().isBefore(before.plus(LEASE)));
+        verify(projectDeletionRepository).recordProgress(eq(PROJECT_ID), eq(CLAIM), eq(2L),
+                any());
+        verify(projectDeletionRepository).recordProgress(eq(PROJECT_ID), eq(CLAIM), eq(1L),
+                any());
+        verify(taskRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(taskRepository).deleteAllByIdIn(List.of(3L));
+        verify(attachmentStorage).delete(3L, FILE_NAME, FILE_ID);
+        verify(projectDeletionRepository).markCompleted(PROJECT_ID, CLAIM);
+        verify(projectDeletionRepository, never()).markFailed(anyLong(), anyInt(), anyString());
+    }
+
+    @Test
+    void givenRetryDueDeletion_whenResumed_thenContinueWithNextClaim() throws Exception {
+        when(projectDeletionRepository.findClaimableForUpdate(any(), anyInt()))
+                .thenReturn(List.of(deletion(ProjectDeletion.Status.PENDING, CLAIM, 40)));
+        when(taskRepository.findIdsByProjectIdNonDeleted(eq(PROJECT_ID), any(Limit.class)))
+                .thenReturn(List.of(41L));
+        when(projectDeletionRepository.recordProgress(eq(PROJECT_ID), eq(CLAIM + 1), anyLong(),
+                any())).thenReturn(1);
+
+        runDeletions();
+
+        verify(taskRepository).deleteAllByIdIn(List.of(41L));
+        verify(projectDeletionRepository).markCompleted(PROJECT_ID, CLAIM + 1);
+    }
+
+    @Test
+    void givenClaimTakenByAnotherNode_whenDeleteChunk_thenDeleteNothing() throws Exception {
+        when(projectDeletionRepository.findClaimableForUpdate(any(), anyInt()))
+                .thenReturn(List.of(deletion(ProjectDeletion.Status.PENDING, 0, 0)));
+        when(taskRepository.findIdsByProjectIdNonDeleted(eq(PROJECT_ID), any(Limit.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(projectDeletionRepository.recordProgress(eq(PROJECT_ID), eq(CLAIM), anyLong(),
+                any())).thenReturn(0);
+
+        runDeletions();
+
+        verify(taskRepository, never()).deleteAllByIdIn(anyCollection());
+        verify(projectDeletionRepository, never()).markCompleted(anyLong(), anyInt());
+    }
+
+    @Test
+    void givenChunkFailure_whenAttemptsLeft_thenScheduleRetryAfterBackoff() throws Exception {
+        failChunk(deletion(ProjectDeletion.Status.PENDING, CLAIM, 0), CLAIM + 1);
+
+        LocalDateTime before = LocalDateTime.now();
+        runDeletions();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(projectDeletionRepository).scheduleRetry(eq(PROJECT_ID), eq(CLAIM + 1),
+                nextAttemptAt.capture(), eq("Lock wait timeout"));
+        assertFalse(nextAttemptAt.getValue()
+                .isBefore(before.plus(INITIAL_RETRY_DELAY.multipliedBy(2))));
+        verify(projectDeletionRepository, never()).markFailed(anyLong(), anyInt(), anyString());
+        verify(projectDeletionRepository, never()).markCompleted(anyLong(), anyInt());
+    }
+
+    @Test
+    void givenChunkFailure_whenAttemptsExhausted_thenMarkFailedForThisClaim() throws Exception {
+        failChunk(deletion(ProjectDeletion.Status.PENDING, MAX_ATTEMPTS - 1, 0), MAX_ATTEMPTS);
+
+        runDeletions();
+
+        verify(projectDeletionRepository).markFailed(PROJECT_ID, MAX_ATTEMPTS,
+                "Lock wait timeout");
+        verify(projectDeletionRepository, never())
+                .scheduleRetry(anyLong(), anyInt(), any(), anyString());
+        verify(projectDeletionRepository, never()).markCompleted(anyLong(), anyInt());
+    }
+
+    @Test
+    void givenAttempts_whenGetRetryDelay_thenDoubleUpToMaximum() {
+        assertEquals(INITIAL_RETRY_DELAY, projectDeletionJob.getRetryDelay(1));
+        assertEquals(INITIAL_RETRY_DELAY.multipliedBy(2), projectDeletionJob.getRetryDelay(2));
+        assertEquals(MAX_RETRY_DELAY, projectDeletionJob.getRetryDelay(3));
+        assertEquals(MAX_RETRY_DELAY, projectDeletionJob.getRetryDelay(10));
+    }
+
+    @Test
+    void givenNoActiveTransaction_whenScheduleAfterCommit_thenPersistPendingAndClaimIt()
+            throws Exception {
+        when(projectDeletionRepository.findClaimableForUpdate(any(), anyInt()))
+                .thenReturn(List.of());
+
+        projectDeletionJob.scheduleAfterCommit(PROJECT_ID);
+        deletionExecutor.shutdown();
+        assertTrue(deletionExecutor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        ArgumentCaptor<ProjectDeletion> saved = ArgumentCaptor.forClass(ProjectDeletion.class);
+        verify(projectDeletionRepository).save(saved.capture());
+        assertEquals(PROJECT_ID, saved.getValue().getProjectId());
+        assertEquals(ProjectDeletion.Status.PENDING, saved.getValue().getStatus());
+        verify(projectDeletionRepository).findClaimableForUpdate(any(), anyInt());
+    }
+
+    @Test
+    void givenStoredDeletion_whenGetProgress_thenReportPersistedProgress() {
+        when(projectDeletionRepository.findById(PROJECT_ID))
+                .thenReturn(Optional.of(deletion(ProjectDeletion.Status.RUNNING, CLAIM, 500)));
+
+        assertEquals(Optional.of(new ProjectDeletionResponse(PROJECT_ID,
+                        ProjectDeletionResponse.Status.RUNNING, 500)),
+                projectDeletionJob.getProgress(PROJECT_ID));
+    }
+
+    private void runDeletions() throws InterruptedException {
+        projectDeletionJob.resumeUnfinished();
+        deletionExecutor.shutdown();
+        assertTrue(deletionExecutor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private void failChunk(ProjectDeletion claimable, int attempt) {
+        when(projectDeletionRepository.findClaimableForUpdate(any(), anyInt()))
+                .thenReturn(List.of(claimable));
+        when(taskRepository.findIdsByProjectIdNonDeleted(eq(PROJECT_ID), any(Limit.class)))
+                .thenReturn(List.of(1L));
+        when(projectDeletionRepository.recordProgress(eq(PROJECT_ID), eq(attempt), anyLong(),
+                any())).thenReturn(1);
+        doThrow(new IllegalStateException("Lock wait timeout"))
+                .when(labelRepository).deleteLabelLinksByTaskIdIn(List.of(1L));
+    }
+
+    private ProjectDeletion deletion(ProjectDeletion.Status status, int attempts,
+                                     long deletedTasks) {
+        return ProjectDeletion.builder()
+                .projectId(PROJECT_ID)
+                .status(status)
+                .attempts(attempts)
+                .deletedTasks(deletedTasks)
+                .build();
+    }
+
+    private Attachment attachment(Long taskId) {
+        Task task = new Task();
+        task.setId(taskId);
+        return Attachment.builder()
+                .task(task)
+                .fileName(FILE_NAME)
+                .fileId(FILE_ID)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.taskmanagementapp.service.storage;
+
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_END_ATTRIBUTE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_FILENAME_ATTRIBUTE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_START_ATTRIBUTE;
+import static com.example.taskmanagementapp.constant.service.storage.AttachmentStorageConstants.SENDFILE_SUPPORT_ATTRIBUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AttachmentDownloadWriterTest {
+    private static final String CONTENT = "0123456789";
+    private static final String FILE_NAME = "report.txt";
+    @TempDir
+    private Path directory;
+    private AttachmentStorage.AttachmentDownload download;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final AttachmentDownloadWriter attachmentDownloadWriter =
+            new AttachmentDownloadWriter();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(directory.resolve("content"), CONTENT);
+        download = new AttachmentStorage.AttachmentDownload(FILE_NAME, file, null);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void givenNoRange_whenWrite_thenSendWholeFile() throws IOException {
+        attachmentDownloadWriter.write(request, response, download);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+        assertEquals(CONTENT.length(), response.getContentLengthLong());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertEquals("text/plain", response.getContentType());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void givenSingleRange_whenWrite_thenSendPartialContent() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        attachmentDownloadWriter.write(request, response, download);
+
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertEquals("2345", response.getContentAsString());
+        assertEquals(4, response.getContentLengthLong());
+        assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void givenSuffixRange_whenWrite_thenSendLastBytes() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        attachmentDownloadWriter.write(request, response, download);
+
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertEquals("789", response.getContentAsString());
+        assertEquals("bytes 7-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void givenRangeBeyondFile_whenWrite_thenRespondRangeNotSatisfiable() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+        attachmentDownloadWriter.write(request, response, download);
+
+        assertEquals(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE,
+                response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void givenMultipleRanges_whenWrite_thenSendWholeFileWithOk() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+
+        attachmentDownloadWriter.write(request, response, download);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void givenSendfileSupport_whenWrite_thenDelegateRangeToContainer() throws IOException {
+        request.setAttribute(SENDFILE_SUPPORT_ATTRIBUTE, true);
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        attachmentDownloadWriter.write(request, response, download);
+
+        assertEquals(download.localFile().toAbsolutePath().toString(),
+                request.getAttribute(SENDFILE_FILENAME_ATTRIBUTE));
+        assertEquals(2L, request.getAttribute(SENDFILE_START_ATTRIBUTE));
+        assertEquals(6L, request.getAttribute(SENDFILE_END_ATTRIBUTE));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void givenRemoteDownload_whenWrite_thenRedirect() throws IOException {
+        attachmentDownloadWriter.write(request, response,
+                new AttachmentStorage.AttachmentDownload(FILE_NAME, null,
+                        "https://www.dropbox.com/s/report.txt?raw=1"));
+
+        assertEquals("https://www.dropbox.com/s/report.txt?raw=1", response.getRedirectedUrl());
+    }
+}
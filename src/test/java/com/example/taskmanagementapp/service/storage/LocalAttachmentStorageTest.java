@@ -0,0 +1,174 @@
+package com.example.taskmanagementapp.service.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagementapp.entity.AttachmentContentDeletion;
+import com.example.taskmanagementapp.exception.EntityNotFoundException;
+import com.example.taskmanagementapp.repository.AttachmentContentDeletionRepository;
+import com.example.taskmanagementapp.repository.AttachmentRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.multipart.MultipartFile;
+
+class LocalAttachmentStorageTest {
+    private static final Long TASK_ID = 1L;
+    private static final byte[] CONTENT = "attachment content".getBytes();
+    private static final Duration DELETION_GRACE = Duration.ofHours(1);
+    @TempDir
+    private Path root;
+    private AttachmentRepository attachmentRepository;
+    private AttachmentContentDeletionRepository attachmentContentDeletionRepository;
+    private LocalAttachmentStorage localAttachmentStorage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        attachmentRepository = mock(AttachmentRepository.class);
+        attachmentContentDeletionRepository = mock(AttachmentContentDeletionRepository.class);
+        localAttachmentStorage = new LocalAttachmentStorage(attachmentRepository,
+                attachmentContentDeletionRepository, TransactionOperations.withoutTransaction(),
+                root, DELETION_GRACE);
+    }
+
+    @Test
+    void givenSameContentTwice_whenStoreAll_thenStoreOneBlobUnderHashPrefix() throws IOException {
+        List<AttachmentStorage.StoredFile> storedFiles = localAttachmentStorage.storeAll(TASK_ID,
+                new MultipartFile[] {file("first.txt", CONTENT), file("second.txt", CONTENT)});
+
+        String fileId = storedFiles.getFirst().fileId();
+        assertEquals(fileId, storedFiles.getLast().fileId());
+        assertEquals("second.txt", storedFiles.getLast().fileName());
+        Path blob = blob(fileId);
+        assertArrayEquals(CONTENT, Files.readAllBytes(blob));
+        assertEquals(blob, localAttachmentStorage.getDownload(fileId, "first.txt").localFile());
+        try (Stream<Path> tempFiles = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, tempFiles.count());
+        }
+        verify(attachmentContentDeletionRepository, times(2)).cancelDeletion(fileId);
+    }
+
+    @Test
+    void givenDifferentContent_whenStoreAll_thenStoreSeparateBlobs() throws IOException {
+        List<AttachmentStorage.StoredFile> storedFiles = localAttachmentStorage.storeAll(TASK_ID,
+                new MultipartFile[] {file("a.txt", CONTENT), file("b.txt", "other".getBytes())});
+
+        assertNotEquals(storedFiles.getFirst().fileId(), storedFiles.getLast().fileId());
+    }
+
+    @Test
+    void givenBlobRemovedByAnotherNode_whenStoreAll_thenWriteBlobAgain() throws IOException {
+        String fileId = store();
+        Files.delete(blob(fileId));
+
+        assertEquals(fileId, store());
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(blob(fileId)));
+    }
+
+    @Test
+    void givenLaterFileFails_whenStoreAll_thenQueueStoredContentAndRethrow() throws IOException {
+        MultipartFile brokenFile = mock(MultipartFile.class);
+        when(brokenFile.getOriginalFilename()).thenReturn("broken.txt");
+        when(brokenFile.getInputStream()).thenThrow(new IOException("Upload interrupted"));
+
+        assertThrows(IOException.class, () -> localAttachmentStorage.storeAll(TASK_ID,
+                new MultipartFile[] {file("a.txt", CONTENT), brokenFile}));
+
+        verify(attachmentContentDeletionRepository)
+                .scheduleDeletion(eq(store()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void givenStoredContent_whenDelete_thenQueueDeletionAfterGraceAndKeepBlob()
+            throws IOException {
+        String fileId = store();
+        LocalDateTime earliest = LocalDateTime.now().plus(DELETION_GRACE);
+
+        localAttachmentStorage.delete(TASK_ID, "a.txt", fileId);
+
+        verify(attachmentContentDeletionRepository).scheduleDeletion(eq(fileId),
+                argThat(deleteAfter -> !deleteAfter.isBefore(earliest)));
+        assertTrue(Files.isRegularFile(blob(fileId)));
+    }
+
+    @Test
+    void givenDueUnreferencedContent_whenSweep_thenRemoveBlobAndDeletionRow()
+            throws IOException {
+        String fileId = store();
+        AttachmentContentDeletion deletion = deletion(fileId);
+
+        localAttachmentStorage.sweepDeletedContent();
+
+        assertFalse(Files.exists(blob(fileId)));
+        verify(attachmentContentDeletionRepository).delete(deletion);
+    }
+
+    @Test
+    void givenDueContentReferencedAgain_whenSweep_thenKeepBlobAndDropDeletionRow()
+            throws IOException {
+        String fileId = store();
+        AttachmentContentDeletion deletion = deletion(fileId);
+        when(attachmentRepository.existsByFileId(fileId)).thenReturn(true);
+
+        localAttachmentStorage.sweepDeletedContent();
+
+        assertTrue(Files.isRegularFile(blob(fileId)));
+        verify(attachmentContentDeletionRepository).delete(deletion);
+    }
+
+    @Test
+    void givenMalformedFileId_whenGetDownloadOrDelete_thenThrowNotFound() {
+        assertThrows(EntityNotFoundException.class,
+                () -> localAttachmentStorage.getDownload("../../etc/passwd", "passwd"));
+        assertThrows(EntityNotFoundException.class,
+                () -> localAttachmentStorage.getDownload("ab", "a.txt"));
+        assertThrows(EntityNotFoundException.class,
+                () -> localAttachmentStorage.delete(TASK_ID, "passwd", "../../etc/passwd"));
+        verify(attachmentContentDeletionRepository, never()).scheduleDeletion(anyString(), any());
+    }
+
+    private String store() throws IOException {
+        return localAttachmentStorage.storeAll(TASK_ID,
+                new MultipartFile[] {file("a.txt", CONTENT)}).getFirst().fileId();
+    }
+
+    private AttachmentContentDeletion deletion(String fileId) {
+        AttachmentContentDeletion deletion = new AttachmentContentDeletion(
+                fileId, LocalDateTime.now().minus(DELETION_GRACE));
+        when(attachmentContentDeletionRepository.findDueForUpdate(any(), anyInt()))
+                .thenReturn(List.of(deletion));
+        return deletion;
+    }
+
+    private Path blob(String fileId) {
+        return root.resolve(fileId.substring(0, 2)).resolve(fileId);
+    }
+
+    private MultipartFile file(String fileName, byte[] content) {
+        return new MockMultipartFile("files", fileName, "text/plain", content);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.taskmanagementapp.service.utils;
+
+import static com.example.taskmanagementapp.constant.Constants.FIRST_PAGE_ID;
+import static com.example.taskmanagementapp.constant.Constants.FIRST_PAGE_TIMESTAMP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.taskmanagementapp.dto.pagination.CursorPageResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class CursorPaginationUtilTest {
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 30, 15);
+
+    @Test
+    void givenNoCursor_whenDecode_thenReturnFirstPage() {
+        for (String cursor : new String[] {null, "", "  "}) {
+            CursorPaginationUtil.PageCursor pageCursor = CursorPaginationUtil.decode(cursor);
+            assertNull(pageCursor.sortKey());
+            assertEquals(FIRST_PAGE_ID, pageCursor.lastId());
+            assertEquals(FIRST_PAGE_TIMESTAMP,
+                    pageCursor.sortKeyAsTimestampOr(FIRST_PAGE_TIMESTAMP));
+        }
+    }
+
+    @Test
+    void givenMoreRowsThanPage_whenToPage_thenReturnCursorOfLastRowOnPage() {
+        CursorPageResponse<Long> page = CursorPaginationUtil.toPage(List.of(1L, 2L, 3L),
+                PAGE_SIZE, Function.identity(), Function.identity());
+
+        assertEquals(List.of(1L, 2L), page.content());
+        CursorPaginationUtil.PageCursor pageCursor =
+                CursorPaginationUtil.decode(page.nextCursor());
+        assertNull(pageCursor.sortKey());
+        assertEquals(2L, pageCursor.lastId());
+    }
+
+    @Test
+    void givenRowsFitOnPage_whenToPage_thenReturnNoCursor() {
+        CursorPageResponse<Long> page = CursorPaginationUtil.toPage(List.of(1L, 2L),
+                PAGE_SIZE, Function.identity(), Function.identity());
+
+        assertEquals(List.of(1L, 2L), page.content());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void givenTimestampSortKey_whenEncodeAndDecode_thenRestoreKeyAndId() {
+        List<Row> rows = List.of(new Row(TIMESTAMP, 7L), new Row(TIMESTAMP, 8L),
+                new Row(TIMESTAMP, 9L));
+
+        CursorPageResponse<Row> page = CursorPaginationUtil.toPage(rows, PAGE_SIZE,
+                Function.identity(), row -> row.timestamp().toString(), Row::id);
+
+        CursorPaginationUtil.PageCursor pageCursor =
+                CursorPaginationUtil.decode(page.nextCursor());
+        assertEquals(TIMESTAMP, pageCursor.sortKeyAsTimestampOr(FIRST_PAGE_TIMESTAMP));
+        assertEquals(8L, pageCursor.lastId());
+    }
+
+    @Test
+    void givenCursorThatIsNotBase64_whenDecode_thenThrowIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CursorPaginationUtil.decode("not a cursor!"));
+    }
+
+    @Test
+    void givenTamperedId_whenDecode_thenThrowIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CursorPaginationUtil.decode(encode("2025-01-01T12:30|abc")));
+        assertThrows(IllegalArgumentException.class,
+                () -> CursorPaginationUtil.decode(encode("2025-01-01T12:30|")));
+    }
+
+    @Test
+    void givenTamperedSortKey_whenReadAsTimestamp_thenThrowIllegalArgument() {
+        CursorPaginationUtil.PageCursor pageCursor =
+                CursorPaginationUtil.decode(encode("yesterday|5"));
+
+        assertEquals(5L, pageCursor.lastId());
+        assertThrows(IllegalArgumentException.class,
+                () -> pageCursor.sortKeyAsTimestampOr(FIRST_PAGE_TIMESTAMP));
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Row(LocalDateTime timestamp, Long id) {}
+}
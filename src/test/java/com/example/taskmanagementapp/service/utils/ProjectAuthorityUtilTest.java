@@ -0,0 +1,151 @@
+package com.example.taskmanagementapp.service.utils;
+
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.CACHED_PROJECT_TTL;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.EMPLOYEE_ROLE;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.MANAGER_ROLE;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.MAX_CACHED_USERS_PER_PROJECT;
+import static com.example.taskmanagementapp.constant.service.utils.ProjectAuthorityConstants.OWNER_ROLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.taskmanagementapp.config.PrimaryReadTemplate;
+import com.example.taskmanagementapp.repository.ProjectRepository;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ProjectAuthorityUtilTest {
+    private static final long PROJECT_ID = 1L;
+    private static final long ANOTHER_PROJECT_ID = 2L;
+    private static final long USER_ID = 1L;
+    private static final long ANOTHER_USER_ID = 2L;
+    private final AtomicLong now = new AtomicLong();
+    private ProjectRepository projectRepository;
+    private PrimaryReadTemplate primaryReadTemplate;
+    private ProjectAuthorityUtil projectAuthorityUtil;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ProjectRepository.class);
+        when(projectRepository.findUserRoleMask(anyLong(), anyLong()))
+                .thenReturn(Optional.of(MANAGER_ROLE));
+        primaryReadTemplate = mock(PrimaryReadTemplate.class);
+        when(primaryReadTemplate.read(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        projectAuthorityUtil = new ProjectAuthorityUtil(projectRepository, primaryReadTemplate,
+                now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenUncachedMask_whenCheckAuthorityTwice_thenFillItOnceFromPrimary() {
+        assertTrue(projectAuthorityUtil.isManager(PROJECT_ID, USER_ID));
+        assertTrue(projectAuthorityUtil.hasManagerialAuthority(PROJECT_ID, USER_ID));
+
+        verify(primaryReadTemplate, times(1)).read(any());
+        verify(projectRepository, times(1)).findUserRoleMask(PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    void givenRoleMask_whenCheckAuthorities_thenDecodeMaskBits() {
+        when(projectRepository.findUserRoleMask(PROJECT_ID, USER_ID))
+                .thenReturn(Optional.of(OWNER_ROLE | EMPLOYEE_ROLE));
+
+        assertTrue(projectAuthorityUtil.hasAnyAuthority(PROJECT_ID, USER_ID));
+        assertTrue(projectAuthorityUtil.hasManagerialAuthority(PROJECT_ID, USER_ID));
+        assertTrue(projectAuthorityUtil.isOwner(PROJECT_ID, USER_ID));
+        assertFalse(projectAuthorityUtil.isManager(PROJECT_ID, USER_ID));
+        assertTrue(projectAuthorityUtil.isEmployee(PROJECT_ID, USER_ID));
+        verify(projectRepository, times(1)).findUserRoleMask(PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    void givenMissingProject_whenCheckAuthority_thenCacheNoRole() {
+        when(projectRepository.findUserRoleMask(PROJECT_ID, USER_ID)).thenReturn(Optional.empty());
+
+        assertFalse(projectAuthorityUtil.hasAnyAuthority(PROJECT_ID, USER_ID));
+        assertFalse(projectAuthorityUtil.hasAnyAuthority(PROJECT_ID, USER_ID));
+        verify(projectRepository, times(1)).findUserRoleMask(PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    void givenCachedMask_whenTtlExpires_thenReloadIt() {
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        now.addAndGet(CACHED_PROJECT_TTL.toNanos());
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        verify(projectRepository, times(1)).findUserRoleMask(PROJECT_ID, USER_ID);
+
+        now.incrementAndGet();
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        verify(projectRepository, times(2)).findUserRoleMask(PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    void givenFullProjectEntry_whenCacheAnotherUser_thenClearProjectEntry() {
+        for (long userId = 1; userId <= MAX_CACHED_USERS_PER_PROJECT; userId++) {
+            projectAuthorityUtil.getRoleMask(PROJECT_ID, userId);
+        }
+        projectAuthorityUtil.getRoleMask(ANOTHER_PROJECT_ID, USER_ID);
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        verify(projectRepository, times(1)).findUserRoleMask(PROJECT_ID, USER_ID);
+
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, MAX_CACHED_USERS_PER_PROJECT + 1L);
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        projectAuthorityUtil.getRoleMask(ANOTHER_PROJECT_ID, USER_ID);
+        verify(projectRepository, times(2)).findUserRoleMask(PROJECT_ID, USER_ID);
+        verify(projectRepository, times(1)).findUserRoleMask(ANOTHER_PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    void givenNoTransaction_whenEvictProject_thenReloadOnlyThatProject() {
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        projectAuthorityUtil.getRoleMask(ANOTHER_PROJECT_ID, USER_ID);
+
+        projectAuthorityUtil.evictProject(PROJECT_ID);
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        projectAuthorityUtil.getRoleMask(ANOTHER_PROJECT_ID, USER_ID);
+
+        verify(projectRepository, times(2)).findUserRoleMask(PROJECT_ID, USER_ID);
+        verify(projectRepository, times(1)).findUserRoleMask(ANOTHER_PROJECT_ID, USER_ID);
+    }
+
+    @Test
+    void givenTransaction_whenEvictProject_thenEvictAgainAfterCompletion() {
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        projectAuthorityUtil.evictProject(PROJECT_ID);
+        when(projectRepository.findUserRoleMask(PROJECT_ID, ANOTHER_USER_ID))
+                .thenReturn(Optional.of(EMPLOYEE_ROLE));
+        projectAuthorityUtil.getRoleMask(PROJECT_ID, ANOTHER_USER_ID);
+        when(projectRepository.findUserRoleMask(PROJECT_ID, ANOTHER_USER_ID))
+                .thenReturn(Optional.of(MANAGER_ROLE));
+        assertEquals(EMPLOYEE_ROLE,
+                projectAuthorityUtil.getRoleMask(PROJECT_ID, ANOTHER_USER_ID));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization
+                        .afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(MANAGER_ROLE,
+                projectAuthorityUtil.getRoleMask(PROJECT_ID, ANOTHER_USER_ID));
+        verify(projectRepository, times(2)).findUserRoleMask(PROJECT_ID, ANOTHER_USER_ID);
+    }
+}